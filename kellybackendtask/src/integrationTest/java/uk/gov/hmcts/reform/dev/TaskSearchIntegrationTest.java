@@ -13,6 +13,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -90,4 +91,31 @@ class TaskSearchIntegrationTest {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$", not(empty())));
   }
+
+  @Test
+  @DisplayName("Search by due window and reject conflicting due criteria")
+  void searchByDueWindow() throws Exception {
+    create("Window Task", "NEW", 40);
+    LocalDate from = LocalDate.now().plusDays(39);
+
+    mockMvc
+        .perform(
+            get("/api/tasks/search")
+                .param("title", "window")
+                .param("dueFrom", from.toString())
+                .param("dueTo", from.plusDays(2).toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].title", is("Window Task")));
+    mockMvc
+        .perform(get("/api/tasks/search").param("title", "window").param("dueRange", "overdue"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", empty()));
+    mockMvc
+        .perform(
+            get("/api/tasks/search")
+                .param("dueRange", "today")
+                .param("dueFrom", from.toString()))
+        .andExpect(status().isBadRequest());
+  }
 }
@@ -21,20 +21,31 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.dev.config.TaskClockConfig;
 import uk.gov.hmcts.reform.dev.dto.request.TaskRequest;
 import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
 import uk.gov.hmcts.reform.dev.exception.ResourceNotFoundException;
 import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.service.TaskCountService;
+import uk.gov.hmcts.reform.dev.service.TaskEtagService;
+import uk.gov.hmcts.reform.dev.service.TaskFullTextService;
+import uk.gov.hmcts.reform.dev.service.TaskSearchResolver;
 import uk.gov.hmcts.reform.dev.service.TaskService;
 
 @WebMvcTest(TaskController.class)
+@Import(TaskClockConfig.class)
 public class TaskControllerIntegrationTest {
 
   @Autowired private MockMvc mockMvc;
   @MockitoBean private TaskService taskService;
+  @MockitoBean private TaskEtagService taskEtagService;
+  @MockitoBean private TaskFullTextService taskFullTextService;
+  @MockitoBean private TaskCountService taskCountService;
+  @MockitoBean private TaskSearchResolver taskSearchResolver;
 
   @Autowired private ObjectMapper objectMapper;
 
@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.support.AbstractPostgresIntegrationTest;
+
+@Transactional
+@TestPropertySource(
+    properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "uk.gov.hmcts.reform.dev.repository.TaskIndexPlanPostgresIT$CapturedSql")
+class TaskIndexPlanPostgresIT extends AbstractPostgresIntegrationTest {
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TaskRepository taskRepository;
+
+  /** Records the SQL Hibernate sends, so the plan checked is the plan of the real query. */
+  public static class CapturedSql implements StatementInspector {
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+
+  @BeforeEach
+  void seed() {
+    // A table shaped like production: mostly closed history, a few hundred open overdue tasks and
+    // a thin slice of PENDING work, with fresh statistics so the planner sees that shape.
+    jdbcTemplate.update(
+        "INSERT INTO task (title, status, duedate)"
+            + " SELECT 'Task ' || n,"
+            + " CAST(CASE WHEN n % 100 = 0 THEN 'PENDING'"
+            + " WHEN n % 250 = 1 THEN 'IN_PROGRESS'"
+            + " WHEN n % 10 = 2 THEN 'CANCELLED' ELSE 'COMPLETED' END AS status_enum),"
+            + " now() - make_interval(hours => n % 5000) + interval '30 days' * (n % 100 = 0)::int"
+            + " FROM generate_series(1, 100000) AS n");
+    jdbcTemplate.execute("ANALYZE task");
+  }
+
+  @Test
+  @DisplayName("Overdue query is served by the partial index over open tasks")
+  void overdueUsesPartialIndex() {
+    LocalDateTime now = LocalDateTime.now();
+    CapturedSql.STATEMENTS.clear();
+    taskRepository.findOpenOverdue(now);
+    assertThat(CapturedSql.STATEMENTS).hasSize(1);
+
+    String plan = explain(CapturedSql.STATEMENTS.getFirst(), Timestamp.valueOf(now));
+
+    assertThat(plan).contains("idx_task_open_due").doesNotContain("Seq Scan");
+  }
+
+  @Test
+  @DisplayName("Status query is served in order by the composite index")
+  void statusUsesCompositeIndexWithoutSort() {
+    String plan =
+        explain(
+            "SELECT id FROM task WHERE status = CAST('PENDING' AS status_enum)"
+                + " ORDER BY duedate, id");
+
+    assertThat(plan).contains("idx_task_status_due_id").doesNotContain("Sort");
+  }
+
+  private String explain(String sql, Object... args) {
+    List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+    return String.join("\n", plan);
+  }
+}
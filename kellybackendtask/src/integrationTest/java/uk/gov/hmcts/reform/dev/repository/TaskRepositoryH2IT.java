@@ -1,14 +1,24 @@
 package uk.gov.hmcts.reform.dev.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.dev.entity.TaskEntity;
 import uk.gov.hmcts.reform.dev.models.Status;
 
@@ -17,6 +27,7 @@ import uk.gov.hmcts.reform.dev.models.Status;
 class TaskRepositoryH2IT {
 
   @Autowired private TaskRepository taskRepository;
+  @Autowired private TestEntityManager entityManager;
 
   @Test
   @DisplayName("Should persist and retrieve task by status")
@@ -27,6 +38,7 @@ class TaskRepositoryH2IT {
             .description("First")
             .status(Status.PENDING)
             .dueDate(LocalDateTime.now().plusDays(1))
+            .changeVersion(1L)
             .build();
     TaskEntity e2 =
         TaskEntity.builder()
@@ -34,16 +46,17 @@ class TaskRepositoryH2IT {
             .description("Second")
             .status(Status.IN_PROGRESS)
             .dueDate(LocalDateTime.now().plusDays(2))
+            .changeVersion(1L)
             .build();
     taskRepository.saveAll(List.of(e1, e2));
 
-    List<TaskEntity> pending = taskRepository.findByStatus(Status.PENDING);
+    List<TaskEntity> pending = taskRepository.findByStatusOrderByDueDateAscIdAsc(Status.PENDING);
     assertThat(pending).hasSize(1);
     assertThat(pending.getFirst().getTitle()).isEqualTo("Alpha");
   }
 
   @Test
-  @DisplayName("Should find overdue tasks using dueDateBefore")
+  @DisplayName("Should find overdue tasks")
   void findOverdue() {
     LocalDateTime now = LocalDateTime.now();
     TaskEntity overdue =
@@ -51,16 +64,209 @@ class TaskRepositoryH2IT {
             .title("Late")
             .status(Status.PENDING)
             .dueDate(now.minusHours(3))
+            .changeVersion(1L)
             .build();
     TaskEntity future =
         TaskEntity.builder()
             .title("Future")
             .status(Status.PENDING)
             .dueDate(now.plusHours(5))
+            .changeVersion(1L)
             .build();
     taskRepository.saveAll(List.of(overdue, future));
 
-    List<TaskEntity> results = taskRepository.findByDueDateBefore(now);
+    List<TaskEntity> results = taskRepository.findOpenOverdue(now);
     assertThat(results).extracting(TaskEntity::getTitle).containsExactly("Late");
   }
+
+  @Test
+  @DisplayName("Should find open overdue tasks, most overdue first")
+  void findOpenOverdue() {
+    LocalDateTime now = LocalDateTime.now();
+    taskRepository.saveAll(
+        List.of(
+            task("Late", Status.PENDING, now.minusHours(3)),
+            task("Later", Status.NEW, now.minusDays(2)),
+            task("Done", Status.COMPLETED, now.minusDays(1)),
+            task("Dropped", Status.CANCELLED, now.minusDays(1)),
+            task("Future", Status.PENDING, now.plusHours(5))));
+
+    assertThat(taskRepository.findOpenOverdue(now))
+        .extracting(TaskEntity::getTitle)
+        .containsExactly("Later", "Late");
+  }
+
+  @Test
+  @DisplayName("Should update in one statement and return both row images")
+  void updateReturning() {
+    TaskEntity saved = taskRepository.saveAndFlush(task("Toggle", Status.NEW, null));
+    Map<TaskColumn, Object> values = new EnumMap<>(TaskColumn.class);
+    values.put(TaskColumn.STATUS, Status.COMPLETED);
+
+    TaskRowChange change = taskRepository.updateReturning(saved.getId(), values).orElseThrow();
+
+    assertThat(change.getBefore().getStatus()).isEqualTo(Status.NEW);
+    assertThat(change.getAfter().getStatus()).isEqualTo(Status.COMPLETED);
+    assertThat(change.getAfter().getChangeVersion()).isPositive();
+    assertThat(taskRepository.updateReturning(-1L, values)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should delete in one statement and leave a tombstone")
+  void deleteReturning() {
+    TaskEntity saved = taskRepository.saveAndFlush(task("Gone", Status.NEW, null));
+    // Native statements bypass the persistence context, so drop the managed copy first.
+    entityManager.clear();
+
+    assertThat(taskRepository.deleteReturning(saved.getId()))
+        .get()
+        .extracting(TaskEntity::getTitle)
+        .isEqualTo("Gone");
+    assertThat(taskRepository.findById(saved.getId())).isEmpty();
+    assertThat(taskRepository.deleteReturning(saved.getId())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should insert in batches with pooled ids and allocate change versions in bulk")
+  void insertInBatches() {
+    long[] versions = taskRepository.nextChangeVersions(3);
+    assertThat(versions).hasSize(3).isSorted().doesNotHaveDuplicates();
+
+    List<TaskEntity> tasks =
+        List.of(
+            TaskEntity.builder().title("B1").status(Status.NEW).changeVersion(versions[0]).build(),
+            TaskEntity.builder().title("B2").status(Status.NEW).changeVersion(versions[1]).build(),
+            TaskEntity.builder().title("B3").status(Status.NEW).changeVersion(versions[2]).build());
+    taskRepository.insertInBatches(tasks);
+
+    assertThat(tasks).extracting(TaskEntity::getId).doesNotContainNull().doesNotHaveDuplicates();
+    assertThat(taskRepository.findAllById(tasks.stream().map(TaskEntity::getId).toList()))
+        .hasSize(3);
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  @DisplayName("Should refuse to register a change writer outside a transaction")
+  void registerChangeWriterOutsideTransaction() {
+    assertThatThrownBy(() -> taskRepository.nextChangeVersions(1))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  @DisplayName("Should bulk update and delete by id range")
+  void bulkUpdateAndDelete() {
+    List<TaskEntity> saved =
+        taskRepository.saveAllAndFlush(
+            List.of(
+                task("Sprint A", Status.IN_PROGRESS, null),
+                task("Sprint B", Status.IN_PROGRESS, null),
+                task("Backlog", Status.NEW, null)));
+    entityManager.clear();
+    var spec = TaskSpecifications.search("sprint", null, null);
+
+    List<Long> ids = taskRepository.lockIdChunk(spec, 0L, 10);
+    assertThat(ids).hasSize(2).isSorted();
+    int updated =
+        taskRepository.updateStatusInRange(
+            spec, ids.getFirst(), ids.getLast(), Status.COMPLETED, 99L);
+    assertThat(updated).isEqualTo(2);
+
+    assertThat(taskRepository.deleteWithTombstones(ids)).isEqualTo(2);
+    assertThat(taskRepository.findAll())
+        .extracting(TaskEntity::getId)
+        .containsExactly(saved.get(2).getId());
+  }
+
+  @Test
+  @DisplayName("Title search treats LIKE wildcards in the term literally")
+  void titleSearchEscapesWildcards() {
+    taskRepository.saveAllAndFlush(
+        List.of(
+            task("100% Done", Status.NEW, null),
+            task("1000 done", Status.NEW, null),
+            task("snake_case", Status.NEW, null),
+            task("snakeXcase", Status.NEW, null)));
+
+    assertThat(taskRepository.findAll(TaskSpecifications.search("0% d", null, null)))
+        .extracting(TaskEntity::getTitle)
+        .containsExactly("100% Done");
+    assertThat(taskRepository.findAll(TaskSpecifications.titleContains("E_C")))
+        .extracting(TaskEntity::getTitle)
+        .containsExactly("snake_case");
+  }
+
+  @Test
+  @DisplayName("Precompiled search queries filter every shape and page in the requested order")
+  void searchByShape() {
+    LocalDate day = LocalDate.now().plusDays(3);
+    taskRepository.saveAllAndFlush(
+        List.of(
+            task("Weekly report", Status.NEW, day.atTime(9, 0)),
+            task("Monthly report", Status.PENDING, day.atTime(17, 0)),
+            task("Report review", Status.NEW, day.plusDays(1).atStartOfDay()),
+            task("Backlog", Status.NEW, day.atStartOfDay())));
+
+    assertThat(taskRepository.search(new TaskSearch(null, null, null))).hasSize(4);
+    assertThat(taskRepository.search(new TaskSearch("REPORT", Status.NEW, day)))
+        .extracting(TaskEntity::getTitle)
+        .containsExactly("Weekly report");
+    // The next midnight belongs to the next day.
+    assertThat(taskRepository.search(new TaskSearch(null, null, day)))
+        .extracting(TaskEntity::getTitle)
+        .containsExactlyInAnyOrder("Weekly report", "Monthly report", "Backlog");
+
+    // Open-only with an upper bound is the overdue shape: the completed task drops out.
+    taskRepository.saveAndFlush(
+        task("Old report", Status.COMPLETED, day.minusDays(10).atStartOfDay()));
+    assertThat(taskRepository.search(new TaskSearch(null, null, null, day.atStartOfDay(), true)))
+        .isEmpty();
+    assertThat(taskRepository.search(new TaskSearch(null, null, null, day.atStartOfDay(), false)))
+        .extracting(TaskEntity::getTitle)
+        .containsExactly("Old report");
+
+    TaskSearch reports = new TaskSearch("report", Status.NEW, day.atStartOfDay(), null, true);
+    Sort soonestFirst = Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("id"));
+    assertThat(taskRepository.searchSlice(reports, PageRequest.of(0, 1, soonestFirst)))
+        .extracting(TaskEntity::getTitle)
+        .containsExactly("Weekly report");
+    Page<TaskEntity> byTitle =
+        taskRepository.searchPage(reports, PageRequest.of(0, 1, Sort.by("title")));
+    assertThat(byTitle.getTotalElements()).isEqualTo(2);
+    assertThat(byTitle).extracting(TaskEntity::getTitle).containsExactly("Report review");
+    assertThat(taskRepository.countSearch(reports)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Status facets group the matches of a search shape by status")
+  void statusFacetsByShape() {
+    LocalDate day = LocalDate.now().plusDays(3);
+    taskRepository.saveAllAndFlush(
+        List.of(
+            task("Weekly report", Status.NEW, day.atTime(9, 0)),
+            task("Monthly report", Status.PENDING, day.atTime(17, 0)),
+            task("Report review", Status.NEW, day.plusDays(1).atStartOfDay()),
+            task("Backlog", Status.COMPLETED, day.atStartOfDay())));
+
+    Map<Status, Long> counts = new EnumMap<>(Status.class);
+    TaskSearch reports = new TaskSearch("report", null, null);
+    for (Object[] row : taskRepository.countSearchByStatus(reports, 1)) {
+      counts.put((Status) row[0], ((Number) row[1]).longValue());
+    }
+    assertThat(counts)
+        .containsExactlyInAnyOrderEntriesOf(Map.of(Status.NEW, 2L, Status.PENDING, 1L));
+
+    TaskSearch dueBy = new TaskSearch(null, null, day);
+    assertThat(taskRepository.sampleSearchStatuses(dueBy, 2, 1000L)).hasSize(2);
+    assertThat(taskRepository.sampleSearchStatuses(dueBy, 10, 1000L))
+        .containsExactlyInAnyOrder(Status.NEW, Status.PENDING, Status.COMPLETED);
+  }
+
+  private static TaskEntity task(String title, Status status, LocalDateTime dueDate) {
+    return TaskEntity.builder()
+        .title(title)
+        .status(status)
+        .dueDate(dueDate)
+        .changeVersion(1L)
+        .build();
+  }
 }
@@ -27,6 +27,7 @@ class TaskRepositoryH2IntegrationTest {
             .description("First")
             .status(Status.PENDING)
             .dueDate(LocalDateTime.now().plusDays(1))
+            .changeVersion(1L)
             .build();
     TaskEntity e2 =
         TaskEntity.builder()
@@ -34,16 +35,17 @@ class TaskRepositoryH2IntegrationTest {
             .description("Second")
             .status(Status.IN_PROGRESS)
             .dueDate(LocalDateTime.now().plusDays(2))
+            .changeVersion(1L)
             .build();
     taskRepository.saveAll(List.of(e1, e2));
 
-    List<TaskEntity> pending = taskRepository.findByStatus(Status.PENDING);
+    List<TaskEntity> pending = taskRepository.findByStatusOrderByDueDateAscIdAsc(Status.PENDING);
     assertThat(pending).hasSize(1);
     assertThat(pending.getFirst().getTitle()).isEqualTo("Alpha");
   }
 
   @Test
-  @DisplayName("Should find overdue tasks using dueDateBefore")
+  @DisplayName("Should find overdue tasks")
   void findOverdue() {
     LocalDateTime now = LocalDateTime.now();
     TaskEntity overdue =
@@ -51,16 +53,18 @@ class TaskRepositoryH2IntegrationTest {
             .title("Late")
             .status(Status.PENDING)
             .dueDate(now.minusHours(3))
+            .changeVersion(1L)
             .build();
     TaskEntity future =
         TaskEntity.builder()
             .title("Future")
             .status(Status.PENDING)
             .dueDate(now.plusHours(5))
+            .changeVersion(1L)
             .build();
     taskRepository.saveAll(List.of(overdue, future));
 
-    List<TaskEntity> results = taskRepository.findByDueDateBefore(now);
+    List<TaskEntity> results = taskRepository.findOpenOverdue(now);
     assertThat(results).extracting(TaskEntity::getTitle).containsExactly("Late");
   }
 }
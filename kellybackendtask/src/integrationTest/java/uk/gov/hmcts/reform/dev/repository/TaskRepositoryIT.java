@@ -33,6 +33,7 @@ class TaskRepositoryIT extends AbstractPostgresIntegrationTest {
             .title("Enum Test")
             .status(Status.IN_PROGRESS)
             .dueDate(LocalDateTime.now().plusDays(1))
+            .changeVersion(1L)
             .build();
     TaskEntity saved = repository.save(e);
     TaskEntity found = repository.findById(saved.getId()).orElseThrow();
@@ -46,16 +47,18 @@ class TaskRepositoryIT extends AbstractPostgresIntegrationTest {
             .title("Overdue")
             .status(Status.NEW)
             .dueDate(LocalDateTime.now().minusHours(2))
+            .changeVersion(1L)
             .build();
     TaskEntity future =
         TaskEntity.builder()
             .title("Future")
             .status(Status.NEW)
             .dueDate(LocalDateTime.now().plusHours(2))
+            .changeVersion(1L)
             .build();
     repository.save(overdue);
     repository.save(future);
-    List<TaskEntity> result = repository.findByDueDateBefore(LocalDateTime.now());
+    List<TaskEntity> result = repository.findOpenOverdue(LocalDateTime.now());
     assertThat(result)
         .extracting(TaskEntity::getTitle)
         .contains("Overdue")
@@ -53,20 +53,23 @@ class TaskRepositoryPostgresIT {
             .description("Future task")
             .status(Status.PENDING)
             .dueDate(LocalDateTime.now().plusHours(2))
+            .changeVersion(1L)
             .build();
     TaskEntity late =
         TaskEntity.builder()
             .title("Late")
             .status(Status.IN_PROGRESS)
             .dueDate(LocalDateTime.now().minusHours(1))
+            .changeVersion(1L)
             .build();
     taskRepository.saveAll(List.of(soon, late));
 
-    List<TaskEntity> inProgress = taskRepository.findByStatus(Status.IN_PROGRESS);
+    List<TaskEntity> inProgress =
+        taskRepository.findByStatusOrderByDueDateAscIdAsc(Status.IN_PROGRESS);
     assertThat(inProgress).hasSize(1);
     assertThat(inProgress.getFirst().getTitle()).isEqualTo("Late");
 
-    List<TaskEntity> overdue = taskRepository.findByDueDateBefore(LocalDateTime.now());
+    List<TaskEntity> overdue = taskRepository.findOpenOverdue(LocalDateTime.now());
     assertThat(overdue).extracting(TaskEntity::getTitle).containsExactly("Late");
   }
 }
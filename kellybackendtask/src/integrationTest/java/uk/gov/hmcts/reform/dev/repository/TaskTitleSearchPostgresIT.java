@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.support.AbstractPostgresIntegrationTest;
+
+class TaskTitleSearchPostgresIT extends AbstractPostgresIntegrationTest {
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @Transactional
+  @DisplayName("Title LIKE predicate is answerable from the trigram index")
+  void titleSearchUsesTrigramIndex() {
+    // Same predicate shape TaskSpecifications emits; seq scans off so a tiny table still shows
+    // whether the index matches the expression.
+    jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    List<String> plan =
+        jdbcTemplate.queryForList(
+            "EXPLAIN SELECT id FROM task WHERE lower(title) LIKE ? ESCAPE '\\'",
+            String.class,
+            "%sprint%");
+
+    assertThat(String.join("\n", plan)).contains("idx_task_title_trgm");
+  }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TaskArrowService.class)
+class TaskArrowServiceH2IT {
+
+  @Autowired private TaskArrowService taskArrowService;
+  @Autowired private TaskRepository taskRepository;
+
+  @Test
+  @DisplayName("Exports tasks as Arrow batches with a status dictionary")
+  void exportsArrowStream() throws Exception {
+    LocalDateTime due = LocalDateTime.of(2030, 1, 1, 9, 0, 0, 123_456_000);
+    List<TaskEntity> saved =
+        taskRepository.saveAllAndFlush(
+            List.of(
+                TaskEntity.builder()
+                    .title("Alpha")
+                    .status(Status.PENDING)
+                    .dueDate(due)
+                    .changeVersion(1L)
+                    .build(),
+                TaskEntity.builder()
+                    .title("Beta")
+                    .description("Second")
+                    .changeVersion(2L)
+                    .build()));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    taskArrowService.export(out);
+
+    try (RootAllocator allocator = new RootAllocator();
+        ArrowStreamReader reader =
+            new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray()), allocator)) {
+      assertThat(reader.loadNextBatch()).isTrue();
+      VectorSchemaRoot root = reader.getVectorSchemaRoot();
+      assertThat(root.getSchema().getFields())
+          .extracting(field -> field.getName())
+          .containsExactly("id", "title", "description", "status", "dueDate", "tasknum");
+      assertThat(root.getRowCount()).isEqualTo(2);
+
+      assertThat(((BigIntVector) root.getVector("id")).get(0)).isEqualTo(saved.get(0).getId());
+      assertThat(((VarCharVector) root.getVector("title")).getObject(1)).hasToString("Beta");
+      assertThat(root.getVector("description").isNull(0)).isTrue();
+
+      TinyIntVector status = (TinyIntVector) root.getVector("status");
+      VarCharVector names = (VarCharVector) reader.getDictionaryVectors().get(0L).getVector();
+      assertThat(names.getObject(status.get(0))).hasToString("PENDING");
+      assertThat(status.isNull(1)).isTrue();
+
+      assertThat(((TimeStampMicroVector) root.getVector("dueDate")).getObject(0)).isEqualTo(due);
+      assertThat(reader.loadNextBatch()).isFalse();
+    }
+  }
+}
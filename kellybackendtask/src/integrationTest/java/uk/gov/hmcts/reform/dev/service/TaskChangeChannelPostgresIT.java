@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.event.TaskChangeNotice;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.support.AbstractPostgresIntegrationTest;
+
+class TaskChangeChannelPostgresIT extends AbstractPostgresIntegrationTest {
+
+  @Autowired private TaskChangeChannel channel;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private final BlockingQueue<TaskChangeNotice> received = new LinkedBlockingQueue<>();
+
+  @BeforeEach
+  void listen() throws InterruptedException {
+    channel.subscribe(received::addAll);
+    // The listener connects in the background; probe until it hears this node.
+    TaskChangeNotice probe = TaskChangeNotice.bulk(channel.nodeId());
+    boolean heard = false;
+    for (int attempt = 0; attempt < 10 && !heard; attempt++) {
+      channel.publish(List.of(probe));
+      heard = probe.equals(received.poll(1, TimeUnit.SECONDS));
+    }
+    assertThat(heard).isTrue();
+    // Drain repeats of probes that were answered late.
+    while (received.poll(200, TimeUnit.MILLISECONDS) != null) {
+      // discard
+    }
+  }
+
+  @Test
+  @DisplayName("NOTIFY delivers committed notices in order and drops rolled-back ones")
+  void deliversOnlyCommittedNotices() throws InterruptedException {
+    TaskChangeNotice rolledBack =
+        new TaskChangeNotice(
+            "peer",
+            TaskChangeNotice.Operation.UPDATED,
+            1L,
+            2L,
+            Status.NEW,
+            null,
+            Status.PENDING,
+            null);
+    TaskChangeNotice first =
+        new TaskChangeNotice(
+            "peer", TaskChangeNotice.Operation.CREATED, 3L, 4L, null, null, Status.NEW, null);
+    TaskChangeNotice second =
+        new TaskChangeNotice(
+            "peer", TaskChangeNotice.Operation.DELETED, 3L, 4L, Status.NEW, null, null, null);
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          channel.publish(List.of(rolledBack));
+          status.setRollbackOnly();
+        });
+    transactionTemplate.executeWithoutResult(status -> channel.publish(List.of(first, second)));
+
+    assertThat(received.poll(10, TimeUnit.SECONDS)).isEqualTo(first);
+    assertThat(received.poll(10, TimeUnit.SECONDS)).isEqualTo(second);
+    assertThat(received.poll(200, TimeUnit.MILLISECONDS)).isNull();
+  }
+}
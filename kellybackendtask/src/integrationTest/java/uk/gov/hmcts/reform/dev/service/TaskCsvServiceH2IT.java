@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TaskCsvService.class)
+class TaskCsvServiceH2IT {
+
+  @Autowired private TaskCsvService taskCsvService;
+  @Autowired private TaskRepository taskRepository;
+
+  private static ByteArrayInputStream csv(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("H2 fallback imports with batched inserts and exports the same CSV")
+  void fallbackImportAndExport() {
+    String content =
+        TaskCsv.HEADER
+            + "\n99,\"Quoted, title\",\"\",PENDING,2030-01-01T09:00:00,7"
+            + "\n,Second,,COMPLETED,2020-06-30 17:45:00.5,\n";
+
+    assertThat(taskCsvService.importCsv(csv(content)).getAffected()).isEqualTo(2);
+    assertThat(taskRepository.findByStatusOrderByDueDateAscIdAsc(Status.PENDING)).hasSize(1);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    taskCsvService.exportCsv(out);
+    String exported = out.toString(StandardCharsets.UTF_8);
+    assertThat(exported).startsWith(TaskCsv.HEADER + "\n");
+    assertThat(exported).contains(",\"Quoted, title\",\"\",PENDING,2030-01-01 09:00:00,7\n");
+    assertThat(exported).contains(",Second,,COMPLETED,2020-06-30 17:45:00.5,\n");
+  }
+
+  @Test
+  @DisplayName("H2 fallback reports the failing record number")
+  void invalidRecordRejected() {
+    String content = TaskCsv.HEADER + "\n,No status,,,2030-01-01 09:00:00,\n";
+
+    assertThatThrownBy(() -> taskCsvService.importCsv(csv(content)))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessageContaining("record 1");
+  }
+}
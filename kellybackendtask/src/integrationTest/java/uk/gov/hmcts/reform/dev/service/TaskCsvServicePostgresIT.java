@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.support.AbstractPostgresIntegrationTest;
+
+class TaskCsvServicePostgresIT extends AbstractPostgresIntegrationTest {
+
+  @Autowired private TaskCsvService taskCsvService;
+  @Autowired private TaskRepository taskRepository;
+
+  @BeforeEach
+  void clean() {
+    taskRepository.deleteAllInBatch();
+  }
+
+  private static ByteArrayInputStream csv(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("COPY import casts status and export round-trips the rows")
+  void copyImportAndExport() {
+    String content =
+        TaskCsv.HEADER
+            + "\n,\"Quoted, title\",,NEW,2030-01-01 09:00:00,7"
+            + "\n,Second,\"multi\nline\",COMPLETED,2020-06-30 17:45:00,\n";
+
+    assertThat(taskCsvService.importCsv(csv(content)).getAffected()).isEqualTo(2);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    taskCsvService.exportCsv(out);
+    String exported = out.toString(StandardCharsets.UTF_8);
+    assertThat(exported).startsWith(TaskCsv.HEADER + "\n");
+    assertThat(exported).contains("\"Quoted, title\",,NEW,2030-01-01 09:00:00,7");
+    assertThat(exported).contains("Second,\"multi\nline\",COMPLETED,2020-06-30 17:45:00,");
+  }
+
+  @Test
+  @DisplayName("Unknown status rejects the whole COPY import")
+  void unknownStatusRejected() {
+    String content =
+        TaskCsv.HEADER
+            + "\n,Good,,NEW,2030-01-01 09:00:00,"
+            + "\n,Bad,,ARCHIVED,2030-01-01 09:00:00,\n";
+
+    assertThatThrownBy(() -> taskCsvService.importCsv(csv(content)))
+        .isInstanceOf(BadRequestException.class);
+    assertThat(taskRepository.count()).isZero();
+  }
+}
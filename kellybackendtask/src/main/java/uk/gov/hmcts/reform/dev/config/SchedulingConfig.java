@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Enables {@code @Scheduled} background jobs such as statistics reconciliation. */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
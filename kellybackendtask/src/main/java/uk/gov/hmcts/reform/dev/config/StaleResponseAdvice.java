@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+
+/**
+ * Marks responses built from last-known-good results, recorded by {@code TaskReadGuard} while the
+ * database is unavailable, with {@code Warning: 110} and an {@code Age} in seconds, and stops
+ * shared caches from keeping them.
+ */
+@ControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    if (request instanceof ServletServerHttpRequest servletRequest
+        && servletRequest.getServletRequest().getAttribute(TaskConstants.STALE_AGE_ATTRIBUTE)
+            instanceof Long age) {
+      HttpHeaders headers = response.getHeaders();
+      headers.set(HttpHeaders.WARNING, TaskConstants.STALE_WARNING);
+      headers.set(HttpHeaders.AGE, Long.toString(age));
+      headers.setCacheControl("no-store");
+    }
+    return body;
+  }
+}
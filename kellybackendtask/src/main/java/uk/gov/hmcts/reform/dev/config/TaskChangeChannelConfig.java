@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.reform.dev.service.LoopbackTaskChangeChannel;
+import uk.gov.hmcts.reform.dev.service.PgNotifyTaskChangeChannel;
+import uk.gov.hmcts.reform.dev.service.TaskChangeChannel;
+
+/**
+ * Chooses how committed writes reach the other nodes: {@code LISTEN/NOTIFY} on PostgreSQL, where
+ * replicas share the database, and an in-JVM loopback on anything else.
+ */
+@Configuration
+public class TaskChangeChannelConfig {
+
+  @Bean
+  public TaskChangeChannel taskChangeChannel(
+      JdbcTemplate jdbcTemplate,
+      DataSourceProperties dataSourceProperties,
+      @Value("${task.change-channel.batch-window:PT0.02S}") Duration batchWindow,
+      @Value("${task.change-channel.reconnect-delay:PT5S}") Duration reconnectDelay) {
+    String url = dataSourceProperties.determineUrl();
+    if (url == null || !url.startsWith("jdbc:postgresql:")) {
+      return new LoopbackTaskChangeChannel(UUID.randomUUID().toString());
+    }
+    return new PgNotifyTaskChangeChannel(
+        jdbcTemplate,
+        url,
+        dataSourceProperties.determineUsername(),
+        dataSourceProperties.determinePassword(),
+        batchWindow,
+        reconnectDelay);
+  }
+}
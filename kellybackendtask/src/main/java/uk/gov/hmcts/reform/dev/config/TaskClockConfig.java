@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The clock every calendar-based read shares: named due-date ranges, the overdue list and the
+ * per-day statistics all tell the time in {@code task.search.time-zone} (default {@code
+ * Europe/London}), so "today" and "now" mean the same instant across them whatever zone the JVM
+ * runs in.
+ */
+@Configuration
+public class TaskClockConfig {
+
+  @Bean
+  public Clock taskClock(@Value("${task.search.time-zone:Europe/London}") ZoneId zone) {
+    return Clock.system(zone);
+  }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponseStream;
+
+/**
+ * Writes a {@link TaskResponseStream} as newline-delimited JSON ({@code application/x-ndjson}).
+ *
+ * <p>Each task is serialised and written as soon as it is read, and the output is flushed every
+ * {@link TaskConstants#NDJSON_FLUSH_INTERVAL} rows, so memory use is independent of result size.
+ * Registered as a bean so Spring Boot adds it to the MVC converter chain.
+ */
+@Component
+public class TaskNdjsonHttpMessageConverter
+    extends AbstractHttpMessageConverter<TaskResponseStream> {
+  private static final byte NEWLINE = '\n';
+
+  private final ObjectWriter writer;
+
+  public TaskNdjsonHttpMessageConverter(ObjectMapper objectMapper) {
+    super(MediaType.APPLICATION_NDJSON);
+    this.writer = objectMapper.writerFor(TaskResponse.class);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return TaskResponseStream.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected TaskResponseStream readInternal(
+      Class<? extends TaskResponseStream> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("NDJSON task streams are write-only", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(TaskResponseStream tasks, HttpOutputMessage outputMessage)
+      throws IOException {
+    OutputStream body = outputMessage.getBody();
+    try {
+      tasks.forEach(new LineWriter(body));
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+    body.flush();
+  }
+
+  private final class LineWriter implements Consumer<TaskResponse> {
+    private final OutputStream body;
+    private int unflushed;
+
+    private LineWriter(OutputStream body) {
+      this.body = body;
+    }
+
+    @Override
+    public void accept(TaskResponse task) {
+      try {
+        body.write(writer.writeValueAsBytes(task));
+        body.write(NEWLINE);
+        if (++unflushed >= TaskConstants.NDJSON_FLUSH_INTERVAL) {
+          body.flush();
+          unflushed = 0;
+        }
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+  }
+}
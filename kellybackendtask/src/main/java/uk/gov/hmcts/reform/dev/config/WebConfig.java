@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.dev.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import uk.gov.hmcts.reform.dev.constants.TaskConstants;
@@ -16,7 +17,12 @@ public class WebConfig {
         registry
             .addMapping(TaskConstants.API_MAPPING_PATTERN)
             .allowedOrigins(TaskConstants.CORS_ALLOWED_ORIGINS)
-            .allowedMethods("*");
+            .allowedMethods("*")
+            .exposedHeaders(
+                TaskConstants.TOTAL_COUNT_HEADER,
+                TaskConstants.TOTAL_COUNT_EXACT_HEADER,
+                HttpHeaders.WARNING,
+                HttpHeaders.AGE);
       }
     };
   }
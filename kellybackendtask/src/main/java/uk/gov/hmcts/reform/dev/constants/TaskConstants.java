@@ -18,6 +18,41 @@ public final class TaskConstants {
   public static final String TASK_NOT_FOUND = "Task not found with id %d";
   public static final String TASK_DELETED_SUCCESS = "Task deleted successfully.";
   public static final String DATABASE_WRITE_ERROR = "Failed to save task to the database.";
+  public static final String DATABASE_UNAVAILABLE =
+      "Tasks are temporarily unavailable; retry in %d seconds";
+  public static final String INVALID_CURSOR = "Invalid pagination cursor";
+  public static final String INVALID_LIMIT = "limit must be a positive number";
+  public static final String INVALID_PAGE = "page must be zero or greater";
+  public static final String INVALID_CHANGE_TOKEN = "Invalid change token";
+  public static final String INVALID_DUE_DATE = "dueDate must be a date in YYYY-MM-DD format";
+  public static final String INVALID_DUE_BOUND =
+      "'%s' must be an ISO date (YYYY-MM-DD) or date-time (YYYY-MM-DDTHH:MM[:SS])";
+  public static final String INVALID_DUE_RANGE =
+      "Unsupported dueRange '%s'; allowed: today, this_week, overdue";
+  public static final String INVALID_DUE_FILTER =
+      "Use only one of dueDate, dueRange or dueFrom/dueTo, with dueFrom before dueTo";
+  public static final String INVALID_SEARCH_COMBINATION =
+      "q cannot be combined with title, dueRange, dueFrom, dueTo, page, sort or facets";
+  public static final String INVALID_COUNT_QUERY =
+      "Full-text (q) searches cannot be counted; use GET with q instead";
+  public static final String INVALID_FACETS = "Unsupported facets '%s'; allowed: status";
+  public static final String INVALID_SORT =
+      "Unsupported sort '%s'; allowed: dueDate, title, status, id";
+  public static final String INVALID_PATCH = "Patch body must be a JSON object";
+  public static final String INVALID_PATCH_FIELD =
+      "Unsupported patch field '%s'; allowed: title, description, status, dueDate";
+  public static final String INVALID_PATCH_VALUE = "Invalid value for '%s'";
+  public static final String FIELD_TOO_LONG = "'%s' must be at most %d characters";
+  public static final String INVALID_BATCH_SIZE = "A batch must contain between 1 and %d tasks";
+  public static final String INVALID_BATCH_ENTRY = "Batch entry must be a task object";
+  public static final String INVALID_IMPORT_RECORD = "Record is not a valid task: %s";
+  public static final String INVALID_CSV = "Invalid CSV import: %s";
+  public static final String INVALID_CSV_RECORD = "Invalid CSV record %d: %s";
+  public static final String IMPORT_ABORTED = "Malformed JSON, import stopped: %s";
+  public static final String IMPORT_WRITERS_STOPPED =
+      "Import stopped: no writer is left to store records";
+  public static final String INVALID_BULK_TARGET =
+      "Provide either ids (at most %d) or a non-empty filter, but not both";
 
   // ============================================================
   // Validation Messages
@@ -34,6 +69,88 @@ public final class TaskConstants {
   public static final int MAX_DESCRIPTION_LENGTH = 200;
   public static final long MAX_DUE_DATE_YEARS = 2;
 
+  // ============================================================
+  // Pagination
+  // ============================================================
+  public static final int DEFAULT_PAGE_SIZE = 50;
+  public static final int MAX_PAGE_SIZE = 500;
+  public static final int DEFAULT_SUGGEST_LIMIT = 10;
+  public static final int MAX_SUGGEST_LIMIT = 50;
+
+  /** Title edits kept beside the suggestion index before they are folded into it. */
+  public static final int SUGGEST_MAX_EDITS = 1_000;
+
+  // ============================================================
+  // Overdue list
+  // ============================================================
+  // Overdue requests within one window of this many seconds share a cached read, filtered by time.
+  public static final long OVERDUE_WINDOW_SECONDS = 60;
+
+  // ============================================================
+  // Search facets
+  // ============================================================
+  public static final String FACET_STATUS = "status";
+  // Exact facet counts run on this many threads; further requests queue behind them.
+  public static final int FACET_THREADS = 4;
+  // Matches read to approximate facet counts once the exact count misses its time budget.
+  public static final int FACET_SAMPLE_SIZE = 10_000;
+  // Share of the facet budget held back for that sample, so it has time of its own to run.
+  public static final int FACET_SAMPLE_BUDGET_PERCENT = 25;
+
+  // ============================================================
+  // Bulk writes
+  // ============================================================
+  // Ids come from task_id_seq through Hibernate's pooled optimizer; the sequence INCREMENT must
+  // equal the allocation size (see V4 migration and schema-h2.sql).
+  public static final String TASK_ID_SEQUENCE = "task_id_seq";
+  public static final int TASK_ID_ALLOCATION_SIZE = 50;
+  public static final int INSERT_BATCH_SIZE = 500;
+  public static final int MAX_BATCH_CREATE = 10_000;
+  // Ids one bulk status change or delete may name; larger sets should use a filter.
+  public static final int MAX_BULK_IDS = 10_000;
+  // Per-record import errors kept for the response; later ones are only counted.
+  public static final int MAX_IMPORT_ERRORS = 1_000;
+  // How often a reader blocked on a full import queue checks that its writers are still alive.
+  public static final long IMPORT_QUEUE_POLL_MILLIS = 100;
+  // Rows per bulk UPDATE/DELETE transaction; bounds how long row locks are held.
+  public static final int BULK_CHUNK_SIZE = 1_000;
+
+  // ============================================================
+  // Delta sync
+  // ============================================================
+  // Allocation size must stay 1: pooled blocks would let one node write versions lower than
+  // ones another node has already published.
+  public static final String CHANGE_VERSION_SEQUENCE = "task_change_seq";
+
+  // ============================================================
+  // Cross-node cache invalidation
+  // ============================================================
+  // LISTEN/NOTIFY channel carrying the TaskChangeNotices of committed writes, one per line.
+  public static final String CHANGE_NOTIFY_CHANNEL = "task_changes";
+  // Notices applied together at most; a burst beyond this waits for the next batch.
+  public static final int CHANGE_BATCH_MAX = 1_000;
+  // Above this many notices in one batch, caches are cleared instead of purged id by id.
+  public static final int CHANGE_TARGETED_MAX = 256;
+
+  // ============================================================
+  // Read resilience
+  // ============================================================
+  // The read circuit breaker opens once CIRCUIT_FAILURE_PERCENT of the last CIRCUIT_WINDOW
+  // database reads, and at least CIRCUIT_MIN_CALLS of them, failed or ran slow.
+  public static final int CIRCUIT_WINDOW = 20;
+  public static final int CIRCUIT_MIN_CALLS = 10;
+  public static final int CIRCUIT_FAILURE_PERCENT = 50;
+  // Request attribute holding the age in seconds of the oldest last-known-good result served.
+  public static final String STALE_AGE_ATTRIBUTE = "uk.gov.hmcts.reform.dev.staleAge";
+  public static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+  // ============================================================
+  // Streaming (NDJSON, Arrow)
+  // ============================================================
+  public static final int STREAM_FETCH_SIZE = 500;
+  public static final int NDJSON_FLUSH_INTERVAL = 200;
+  public static final int ARROW_BATCH_ROWS = 8_192;
+
   // ============================================================
   // CORS Configuration
   // ============================================================
@@ -45,5 +162,10 @@ public final class TaskConstants {
   // API Paths
   // ============================================================
   public static final String API_TASKS_PATH = "/api/tasks";
+  public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+  public static final String TEXT_CSV = "text/csv";
+  public static final String ARROW_STREAM = "application/vnd.apache.arrow.stream";
   public static final String API_MAPPING_PATTERN = "/api/**";
+  public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+  public static final String TOTAL_COUNT_EXACT_HEADER = "X-Total-Count-Exact";
 }
@@ -13,6 +13,9 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.service.TaskCache;
+import uk.gov.hmcts.reform.dev.service.TaskReadGuard;
+import uk.gov.hmcts.reform.dev.service.TaskSearchCache;
 
 @RestController
 @RequestMapping(path = "/api/info", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.RestController;
  *   <li>Application name
  *   <li>Active and default Spring profiles
  *   <li>Database product and sanitized JDBC URL (credentials stripped)
+ *   <li>Task cache size and hit, miss and eviction counts
  * </ul>
  *
  * Intended for manual inspection and basic health insight during development; not a replacement for
@@ -34,13 +38,24 @@ public class InfoController {
 
   private final Environment environment;
   private final ObjectProvider<DataSource> dataSourceProvider;
+  private final ObjectProvider<TaskCache> taskCacheProvider;
+  private final ObjectProvider<TaskSearchCache> taskSearchCacheProvider;
+  private final ObjectProvider<TaskReadGuard> readGuardProvider;
 
   @Value("${spring.application.name:application}")
   private String appName;
 
-  public InfoController(Environment environment, ObjectProvider<DataSource> dataSourceProvider) {
+  public InfoController(
+      Environment environment,
+      ObjectProvider<DataSource> dataSourceProvider,
+      ObjectProvider<TaskCache> taskCacheProvider,
+      ObjectProvider<TaskSearchCache> taskSearchCacheProvider,
+      ObjectProvider<TaskReadGuard> readGuardProvider) {
     this.environment = environment;
     this.dataSourceProvider = dataSourceProvider;
+    this.taskCacheProvider = taskCacheProvider;
+    this.taskSearchCacheProvider = taskSearchCacheProvider;
+    this.readGuardProvider = readGuardProvider;
   }
 
   @GetMapping
@@ -50,6 +65,18 @@ public class InfoController {
     out.put("activeProfiles", environment.getActiveProfiles());
     out.put("defaultProfiles", environment.getDefaultProfiles());
     out.put("database", dbDetails());
+    TaskCache taskCache = taskCacheProvider.getIfAvailable();
+    if (taskCache != null) {
+      out.put("taskCache", taskCache.stats());
+    }
+    TaskSearchCache searchCache = taskSearchCacheProvider.getIfAvailable();
+    if (searchCache != null) {
+      out.put("searchCache", searchCache.stats());
+    }
+    TaskReadGuard readGuard = readGuardProvider.getIfAvailable();
+    if (readGuard != null) {
+      out.put("readGuard", readGuard.stats());
+    }
     return out;
   }
 
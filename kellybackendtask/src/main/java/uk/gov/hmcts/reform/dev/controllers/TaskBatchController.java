@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.request.TaskBulkRequest;
+import uk.gov.hmcts.reform.dev.dto.request.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.response.TaskBatchResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskBulkResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskImportResponse;
+import uk.gov.hmcts.reform.dev.service.TaskArrowService;
+import uk.gov.hmcts.reform.dev.service.TaskBatchService;
+import uk.gov.hmcts.reform.dev.service.TaskCsvService;
+import uk.gov.hmcts.reform.dev.service.TaskImportService;
+
+/** Bulk task endpoints, kept apart from the single-task CRUD controller. */
+@RestController
+@RequestMapping(TaskConstants.API_TASKS_PATH)
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@Tag(name = "Task Management", description = "Task Management API")
+public class TaskBatchController {
+  private final TaskBatchService taskBatchService;
+  private final TaskImportService taskImportService;
+  private final TaskCsvService taskCsvService;
+  private final TaskArrowService taskArrowService;
+
+  public TaskBatchController(
+      TaskBatchService taskBatchService,
+      TaskImportService taskImportService,
+      TaskCsvService taskCsvService,
+      TaskArrowService taskArrowService) {
+    this.taskBatchService = taskBatchService;
+    this.taskImportService = taskImportService;
+    this.taskCsvService = taskCsvService;
+    this.taskArrowService = taskArrowService;
+  }
+
+  @PostMapping("/batch")
+  @Operation(
+      summary = "Create many tasks in one request",
+      description =
+          "Each entry is validated like POST /api/tasks. Valid entries are inserted together;"
+              + " invalid ones are skipped and reported by index with their field errors.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Per-item results returned"),
+    @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+  })
+  public ResponseEntity<TaskBatchResponse> createTasks(@RequestBody List<TaskRequest> requests) {
+    return ResponseEntity.ok(taskBatchService.createTasks(requests));
+  }
+
+  @PostMapping("/bulk/status")
+  @Operation(
+      summary = "Change the status of many tasks",
+      description =
+          "Targets either ids or a filter (title, status, dueDate as in /search). Runs as"
+              + " set-based UPDATEs in id-range chunks and returns the number of tasks changed.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Affected count returned"),
+    @ApiResponse(responseCode = "400", description = "Missing status or invalid target")
+  })
+  public ResponseEntity<TaskBulkResponse> updateStatus(@RequestBody TaskBulkRequest request) {
+    return ResponseEntity.ok(taskBatchService.updateStatus(request));
+  }
+
+  @PostMapping("/bulk/delete")
+  @Operation(
+      summary = "Delete many tasks",
+      description =
+          "Targets either ids or a filter (title, status, dueDate as in /search). Runs as"
+              + " set-based DELETEs in id-range chunks and returns the number of tasks deleted.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Affected count returned"),
+    @ApiResponse(responseCode = "400", description = "Invalid target")
+  })
+  public ResponseEntity<TaskBulkResponse> delete(@RequestBody TaskBulkRequest request) {
+    return ResponseEntity.ok(taskBatchService.delete(request));
+  }
+
+  @PostMapping(
+      value = "/import",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  @Operation(
+      summary = "Import tasks from a large JSON array or NDJSON body",
+      description =
+          "The body is parsed as it arrives and stored in chunks that commit independently."
+              + " Invalid records are skipped and reported with their index and line number.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Import summary returned"),
+  })
+  public ResponseEntity<TaskImportResponse> importTasks(InputStream body) throws IOException {
+    return ResponseEntity.ok(taskImportService.importTasks(body));
+  }
+
+  @PostMapping(value = "/import", consumes = TaskConstants.TEXT_CSV)
+  @Operation(
+      summary = "Import tasks from CSV",
+      description =
+          "Columns as produced by GET /api/tasks/export, with a header row; ids are ignored."
+              + " Uses COPY on PostgreSQL. All rows are inserted or, on any bad row, none.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Number of tasks imported"),
+    @ApiResponse(responseCode = "400", description = "Malformed or invalid row")
+  })
+  public ResponseEntity<TaskBulkResponse> importCsv(InputStream body) {
+    return ResponseEntity.ok(taskCsvService.importCsv(body));
+  }
+
+  @GetMapping(value = "/export", produces = TaskConstants.TEXT_CSV)
+  @Operation(
+      summary = "Export all tasks as CSV",
+      description = "Streams every task in id order. Uses COPY on PostgreSQL.")
+  @ApiResponse(responseCode = "200", description = "CSV stream")
+  public ResponseEntity<StreamingResponseBody> exportCsv() {
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.csv\"")
+        .contentType(MediaType.parseMediaType(TaskConstants.TEXT_CSV))
+        .body(taskCsvService::exportCsv);
+  }
+
+  @GetMapping(value = "/export", params = "format=arrow", produces = TaskConstants.ARROW_STREAM)
+  @Operation(
+      summary = "Export all tasks as an Apache Arrow stream",
+      description =
+          "Columnar record batches for analytics tools: int64 id, UTF-8 title/description,"
+              + " dictionary-encoded status, microsecond dueDate, int32 tasknum.")
+  @ApiResponse(responseCode = "200", description = "Arrow IPC stream")
+  public ResponseEntity<StreamingResponseBody> exportArrow() {
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.arrows\"")
+        .contentType(MediaType.parseMediaType(TaskConstants.ARROW_STREAM))
+        .body(taskArrowService::export);
+  }
+}
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskChangesResponse;
+import uk.gov.hmcts.reform.dev.service.TaskChangesService;
+
+/** Delta sync: lets clients refresh by fetching only what changed since their last token. */
+@RestController
+@RequestMapping(TaskConstants.API_TASKS_PATH)
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@Tag(name = "Task Management", description = "Task Management API")
+public class TaskChangesController {
+  private final TaskChangesService taskChangesService;
+
+  public TaskChangesController(TaskChangesService taskChangesService) {
+    this.taskChangesService = taskChangesService;
+  }
+
+  @GetMapping("/changes")
+  @Operation(summary = "Get tasks created, updated or deleted since a sync token")
+  public ResponseEntity<TaskChangesResponse> getChanges(
+      @RequestParam(required = false) String since,
+      @RequestParam(required = false) Integer limit) {
+    return ResponseEntity.ok(taskChangesService.getChangesSince(since, limit));
+  }
+}
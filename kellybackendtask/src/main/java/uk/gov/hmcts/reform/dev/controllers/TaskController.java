@@ -1,31 +1,50 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.request.TaskFilter;
 import uk.gov.hmcts.reform.dev.dto.request.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.response.TaskCount;
 import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponseStream;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
 import uk.gov.hmcts.reform.dev.exception.ResourceNotFoundException;
 import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+import uk.gov.hmcts.reform.dev.service.TaskCountService;
+import uk.gov.hmcts.reform.dev.service.TaskEtagService;
+import uk.gov.hmcts.reform.dev.service.TaskFullTextService;
+import uk.gov.hmcts.reform.dev.service.TaskSearchResolver;
 import uk.gov.hmcts.reform.dev.service.TaskService;
 
 @RestController
@@ -34,9 +53,25 @@ import uk.gov.hmcts.reform.dev.service.TaskService;
 @Tag(name = "Task Management", description = "Task Management API")
 public class TaskController {
   private final TaskService taskService;
+  private final TaskEtagService taskEtagService;
+  private final TaskFullTextService taskFullTextService;
+  private final TaskCountService taskCountService;
+  private final TaskSearchResolver taskSearchResolver;
+  private final Clock clock;
 
-  public TaskController(TaskService taskService) {
+  public TaskController(
+      TaskService taskService,
+      TaskEtagService taskEtagService,
+      TaskFullTextService taskFullTextService,
+      TaskCountService taskCountService,
+      TaskSearchResolver taskSearchResolver,
+      Clock clock) {
     this.taskService = taskService;
+    this.taskEtagService = taskEtagService;
+    this.taskFullTextService = taskFullTextService;
+    this.taskCountService = taskCountService;
+    this.taskSearchResolver = taskSearchResolver;
+    this.clock = clock;
   }
 
   // Endpoint to create a task
@@ -53,9 +88,13 @@ public class TaskController {
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id)
-      throws ResourceNotFoundException {
+  public ResponseEntity<TaskResponse> getTaskById(
+      @PathVariable Long id, ServletWebRequest webRequest) throws ResourceNotFoundException {
+    // Usually served from the task cache, which also supplies the version for the ETag.
     TaskResponse task = taskService.getTaskById(id);
+    if (notModified(webRequest, TaskEtagService.taskEtag(task))) {
+      return null;
+    }
     return ResponseEntity.ok(task);
   }
 
@@ -67,6 +106,24 @@ public class TaskController {
     return ResponseEntity.ok(updatedTask);
   }
 
+  @PatchMapping(
+      value = "/{id}",
+      consumes = {TaskConstants.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+  @Operation(
+      summary = "Partially update a task",
+      description =
+          "JSON Merge Patch (RFC 7396): only the fields present are written. description may be"
+              + " set to null to clear it; title, status and dueDate follow the create rules.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Task updated"),
+    @ApiResponse(responseCode = "400", description = "Invalid patch"),
+    @ApiResponse(responseCode = "404", description = "Task not found")
+  })
+  public ResponseEntity<TaskResponse> patchTask(@PathVariable Long id, @RequestBody JsonNode patch)
+      throws ResourceNotFoundException {
+    return ResponseEntity.ok(taskService.patchTask(id, patch));
+  }
+
   @DeleteMapping("/{id}")
   public ResponseEntity<String> deleteTask(@PathVariable Long id) throws ResourceNotFoundException {
     taskService.deleteTask(id);
@@ -74,10 +131,44 @@ public class TaskController {
   }
 
   @GetMapping
-  @Operation(summary = "Get all tasks")
-  public ResponseEntity<List<TaskResponse>> getAllTasks() {
-    List<TaskResponse> tasks = taskService.getAllTasks();
-    return ResponseEntity.ok(tasks);
+  @Operation(
+      summary = "Get all tasks",
+      description =
+          "Without paging parameters returns the legacy array of every task. Supplying limit"
+              + " and/or after returns a keyset page ordered by dueDate then id, with nextCursor"
+              + " to pass as 'after' for the following page. Send Accept: application/x-ndjson"
+              + " to stream every task as newline-delimited JSON instead.")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Tasks returned"),
+    @ApiResponse(responseCode = "400", description = "Invalid limit or cursor")
+  })
+  public ResponseEntity<?> getAllTasks(
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String after,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      ServletWebRequest webRequest) {
+    if (collectionNotModified(webRequest, accept)) {
+      return null;
+    }
+    if (acceptsNdjson(accept)) {
+      return ndjson(taskService.streamAllTasks());
+    }
+    if (limit == null && after == null) {
+      List<TaskResponse> tasks = taskService.getAllTasks();
+      return ResponseEntity.ok(tasks);
+    }
+    return ResponseEntity.ok(taskService.getTasksPage(limit, after));
+  }
+
+  @RequestMapping(method = RequestMethod.HEAD)
+  @Operation(
+      summary = "Count all tasks",
+      description =
+          "Returns no body; X-Total-Count carries the number of tasks. It is estimated from the"
+              + " server's maintained counters unless exact=true, and X-Total-Count-Exact says"
+              + " which.")
+  public ResponseEntity<Void> countAllTasks(@RequestParam(defaultValue = "false") boolean exact) {
+    return totalCount(taskCountService.count(TaskFilter.builder().build(), exact));
   }
 
   @PutMapping("/{id}/status")
@@ -94,15 +185,28 @@ public class TaskController {
 
   @GetMapping("/status/{status}")
   @Operation(summary = "Get tasks by status")
-  public ResponseEntity<List<TaskResponse>> getTasksByStatus(@PathVariable Status status) {
+  public ResponseEntity<?> getTasksByStatus(
+      @PathVariable Status status,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      ServletWebRequest webRequest) {
+    if (collectionNotModified(webRequest, accept)) {
+      return null;
+    }
+    if (acceptsNdjson(accept)) {
+      return ndjson(taskService.streamTasksByStatus(status));
+    }
     List<TaskResponse> tasks = taskService.getTasksByStatus(status);
     return ResponseEntity.ok(tasks);
   }
 
   @GetMapping("/overdue")
-  @Operation(summary = "Get overdue tasks")
-  public ResponseEntity<List<TaskResponse>> getOverdueTasks() {
-    List<TaskResponse> tasks = taskService.getOverdueTasks(LocalDateTime.now());
+  @Operation(summary = "Get open tasks past their due date")
+  public ResponseEntity<?> getOverdueTasks(
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+    if (acceptsNdjson(accept)) {
+      return ndjson(taskService.streamOverdueTasks(LocalDateTime.now(clock)));
+    }
+    List<TaskResponse> tasks = taskService.getOverdueTasks(LocalDateTime.now(clock));
     return ResponseEntity.ok(tasks);
   }
 
@@ -114,20 +218,207 @@ public class TaskController {
 
   @GetMapping("/search")
   @Operation(
-      summary = "Search tasks by optional title substring, status, and/or dueDate (YYYY-MM-DD)")
-  public ResponseEntity<List<TaskResponse>> searchTasks(
+      summary =
+          "Search tasks by optional title substring, status, and a dueDate (YYYY-MM-DD), due range"
+              + " (today, this_week, overdue) or dueFrom/dueTo bounds",
+      description =
+          "Due-date criteria are mutually exclusive. dueFrom is inclusive and dueTo exclusive; each"
+              + " takes a date or a date-time. Named ranges use the server's task.search.time-zone;"
+              + " overdue also excludes completed and cancelled tasks. Supplying page, size or sort"
+              + " returns a page sorted server-side (default dueDate,asc). Set count=true to"
+              + " include totalElements; it is omitted by default to avoid a COUNT(*) over broad"
+              + " matches. facets=status also returns the page, with facets.status counting every"
+              + " match per status; counts that miss the server's time budget come from a sample"
+              + " of facets.sampled matches, scaled to totalElements when count=true, and set"
+              + " facets.approximate, and facets.status is null if nothing could be measured in"
+              + " time. Supplying q instead runs a"
+              + " relevance-ranked, typo-tolerant full-text search over title and description,"
+              + " returning at most size tasks best first; status and dueDate still filter, while"
+              + " title, dueRange, dueFrom, dueTo, page, sort and facets are rejected. Unparseable"
+              + " dates are rejected with 400.")
+  public ResponseEntity<?> searchTasks(
+      @RequestParam(required = false) String q,
+      @RequestParam(required = false) String title,
+      @RequestParam(required = false) Status status,
+      @RequestParam(required = false) String dueDate,
+      @RequestParam(required = false) String dueRange,
+      @RequestParam(required = false) String dueFrom,
+      @RequestParam(required = false) String dueTo,
+      @RequestParam(required = false) Integer page,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(required = false) List<String> sort,
+      @RequestParam(defaultValue = "false") boolean count,
+      @RequestParam(required = false) String facets,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      ServletWebRequest webRequest) {
+    TaskFilter filter = searchFilter(title, status, dueDate, dueRange, dueFrom, dueTo);
+    boolean statusFacets = parseFacets(facets);
+    boolean fullText = q != null && !q.isBlank();
+    if (fullText
+        && ((title != null && !title.isBlank())
+            || (dueRange != null && !dueRange.isBlank())
+            || filter.getDueFrom() != null
+            || filter.getDueTo() != null
+            || page != null
+            || sort != null
+            || statusFacets)) {
+      throw new BadRequestException(TaskConstants.INVALID_SEARCH_COMBINATION);
+    }
+    // Full-text hits come from the index, which the collection ETag does not track.
+    if (!fullText && collectionNotModified(webRequest, accept, dueRangeKey(filter))) {
+      return null;
+    }
+    if (fullText) {
+      return ResponseEntity.ok(
+          taskFullTextService.search(q, status, filter.getDueDate(), size));
+    }
+    // Facets only fit the page envelope, so they take precedence over NDJSON.
+    if (acceptsNdjson(accept) && !statusFacets) {
+      return ndjson(taskService.streamSearchTasks(filter));
+    }
+    if (page != null || size != null || sort != null || statusFacets) {
+      return ResponseEntity.ok(
+          taskService.searchTasksPage(filter, page, size, sort, count, statusFacets));
+    }
+    List<TaskResponse> results = taskService.searchTasks(filter);
+    return ResponseEntity.ok(results);
+  }
+
+  @RequestMapping(value = "/search", method = RequestMethod.HEAD)
+  @Operation(
+      summary = "Count the tasks a search matches",
+      description =
+          "Takes the filters of GET /search and returns no body; X-Total-Count carries the number"
+              + " of matches and X-Total-Count-Exact whether it was counted. Searches with no"
+              + " filter, or only status, are estimated from the server's maintained counters"
+              + " unless exact=true; any other filter is counted. q cannot be counted.")
+  public ResponseEntity<Void> countSearchTasks(
+      @RequestParam(required = false) String q,
       @RequestParam(required = false) String title,
       @RequestParam(required = false) Status status,
-      @RequestParam(required = false) String dueDate) {
+      @RequestParam(required = false) String dueDate,
+      @RequestParam(required = false) String dueRange,
+      @RequestParam(required = false) String dueFrom,
+      @RequestParam(required = false) String dueTo,
+      @RequestParam(defaultValue = "false") boolean exact) {
+    if (q != null && !q.isBlank()) {
+      throw new BadRequestException(TaskConstants.INVALID_COUNT_QUERY);
+    }
+    TaskFilter filter = searchFilter(title, status, dueDate, dueRange, dueFrom, dueTo);
+    return totalCount(taskCountService.count(filter, exact));
+  }
+
+  private static ResponseEntity<Void> totalCount(TaskCount total) {
+    return ResponseEntity.ok()
+        .header(TaskConstants.TOTAL_COUNT_HEADER, String.valueOf(total.getCount()))
+        .header(TaskConstants.TOTAL_COUNT_EXACT_HEADER, String.valueOf(total.isExact()))
+        .build();
+  }
+
+  private static TaskFilter searchFilter(
+      String title,
+      Status status,
+      String dueDate,
+      String dueRange,
+      String dueFrom,
+      String dueTo) {
     LocalDate parsedDate = null;
     if (dueDate != null && !dueDate.isBlank()) {
       try {
         parsedDate = LocalDate.parse(dueDate);
-      } catch (Exception ignored) {
-        /* invalid date -> treated as null */
+      } catch (DateTimeParseException exception) {
+        throw new BadRequestException(TaskConstants.INVALID_DUE_DATE);
       }
     }
-    List<TaskResponse> results = taskService.searchTasks(title, status, parsedDate);
-    return ResponseEntity.ok(results);
+    return TaskFilter.builder()
+        .title(title)
+        .status(status)
+        .dueDate(parsedDate)
+        .dueRange(dueRange)
+        .dueFrom(parseDueBound("dueFrom", dueFrom))
+        .dueTo(parseDueBound("dueTo", dueTo))
+        .build();
+  }
+
+  /** Whether {@code facets=status} was asked for; status is the only facet so far. */
+  private static boolean parseFacets(String facets) {
+    if (facets == null || facets.isBlank()) {
+      return false;
+    }
+    if (!TaskConstants.FACET_STATUS.equals(facets.strip())) {
+      throw new BadRequestException(String.format(TaskConstants.INVALID_FACETS, facets));
+    }
+    return true;
+  }
+
+  /** Parses a due-date bound given as an ISO date (start of that day) or date-time. */
+  private static LocalDateTime parseDueBound(String name, String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return value.contains("T")
+          ? LocalDateTime.parse(value)
+          : LocalDate.parse(value).atStartOfDay();
+    } catch (DateTimeParseException exception) {
+      throw new BadRequestException(String.format(TaskConstants.INVALID_DUE_BOUND, name));
+    }
+  }
+
+  /**
+   * Evaluates {@code If-None-Match} against the validator and, when it still matches, leaves a 304
+   * on the response; handlers then return {@code null} without running the query. A missing
+   * validator (unknown or unversioned task) falls through to the normal response.
+   */
+  private static boolean notModified(ServletWebRequest webRequest, String etag) {
+    return etag != null && webRequest.checkNotModified(etag);
+  }
+
+  private boolean collectionNotModified(ServletWebRequest webRequest, String accept) {
+    return collectionNotModified(webRequest, accept, "");
+  }
+
+  private boolean collectionNotModified(
+      ServletWebRequest webRequest, String accept, String resolvedKey) {
+    String query = webRequest.getRequest().getQueryString();
+    String requestKey =
+        webRequest.getRequest().getRequestURI()
+            + "?"
+            + (query == null ? "" : query)
+            + resolvedKey
+            + (acceptsNdjson(accept) ? "|ndjson" : "|json");
+    return notModified(webRequest, taskEtagService.collectionEtag(requestKey));
+  }
+
+  /**
+   * Named due ranges move with the clock, so the bounds they resolve to now belong in the ETag
+   * key; otherwise yesterday's {@code dueRange=today} would still validate today.
+   */
+  private String dueRangeKey(TaskFilter filter) {
+    if (filter.getDueRange() == null || filter.getDueRange().isBlank()) {
+      return "";
+    }
+    TaskSearch search = taskSearchResolver.resolve(filter);
+    return "|due=" + search.getDueFrom() + "," + search.getDueTo();
+  }
+
+  /**
+   * NDJSON is opt-in: only an explicit {@code application/x-ndjson} entry selects it, so wildcard
+   * Accept headers from browsers and axios keep receiving the JSON array.
+   */
+  private static boolean acceptsNdjson(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return false;
+    }
+    try {
+      return MediaType.parseMediaTypes(accept).stream()
+          .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    } catch (InvalidMediaTypeException ex) {
+      return false;
+    }
+  }
+
+  private static ResponseEntity<TaskResponseStream> ndjson(TaskResponseStream tasks) {
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(tasks);
   }
 }
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskStatsResponse;
+import uk.gov.hmcts.reform.dev.service.TaskStatsService;
+
+/** Dashboard statistics, served from maintained counters rather than the task list. */
+@RestController
+@RequestMapping(TaskConstants.API_TASKS_PATH)
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@Tag(name = "Task Management", description = "Task Management API")
+public class TaskStatsController {
+  private final TaskStatsService taskStatsService;
+
+  public TaskStatsController(TaskStatsService taskStatsService) {
+    this.taskStatsService = taskStatsService;
+  }
+
+  @GetMapping("/stats")
+  @Operation(summary = "Get task counts per status plus overdue and due-today counts")
+  public ResponseEntity<TaskStatsResponse> getStats() {
+    return ResponseEntity.ok(taskStatsService.getStats());
+  }
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskSuggestion;
+import uk.gov.hmcts.reform.dev.service.TaskSuggestService;
+
+/** Title autocomplete, served from an in-memory prefix index rather than the database. */
+@RestController
+@RequestMapping(TaskConstants.API_TASKS_PATH)
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@Tag(name = "Task Management", description = "Task Management API")
+public class TaskSuggestController {
+  private final TaskSuggestService taskSuggestService;
+
+  public TaskSuggestController(TaskSuggestService taskSuggestService) {
+    this.taskSuggestService = taskSuggestService;
+  }
+
+  @GetMapping("/suggest")
+  @Operation(
+      summary = "Suggest task titles for a typed prefix",
+      description =
+          "Matches the start of any word in the title, ignoring case and accents. Returns at most"
+              + " limit (default 10, max 50) tasks.")
+  public ResponseEntity<List<TaskSuggestion>> suggest(
+      @RequestParam String prefix, @RequestParam(required = false) Integer limit) {
+    return ResponseEntity.ok(taskSuggestService.suggest(prefix, limit));
+  }
+}
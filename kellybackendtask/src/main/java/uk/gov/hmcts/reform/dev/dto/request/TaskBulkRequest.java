@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.dto.request;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Target of a bulk operation: either explicit {@code ids} or a {@code filter}, never both. {@code
+ * status} is the new status for bulk status changes and is ignored by bulk delete.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskBulkRequest {
+  private List<Long> ids;
+  private TaskFilter filter;
+  private Status status;
+}
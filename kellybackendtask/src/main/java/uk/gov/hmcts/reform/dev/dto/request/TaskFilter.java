@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.dto.request;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/** Task selection criteria with the same meaning as the {@code /api/tasks/search} parameters. */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskFilter {
+  private String title;
+  private Status status;
+  private LocalDate dueDate;
+
+  /** Inclusive lower bound on the due date. */
+  private LocalDateTime dueFrom;
+
+  /** Exclusive upper bound on the due date. */
+  private LocalDateTime dueTo;
+
+  /** Named relative range: {@code today}, {@code this_week} or {@code overdue}. */
+  private String dueRange;
+
+  public boolean hasCriteria() {
+    return (title != null && !title.isBlank())
+        || status != null
+        || dueDate != null
+        || dueFrom != null
+        || dueTo != null
+        || (dueRange != null && !dueRange.isBlank());
+  }
+}
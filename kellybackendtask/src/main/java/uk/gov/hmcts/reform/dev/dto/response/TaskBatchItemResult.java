@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Outcome for one entry of a batch create, matched to the request by {@code index}. */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskBatchItemResult {
+  private int index;
+  private boolean created;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Long id;
+
+  /** Field name to validation message, as returned by single-task create; null when created. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Map<String, String> errors;
+}
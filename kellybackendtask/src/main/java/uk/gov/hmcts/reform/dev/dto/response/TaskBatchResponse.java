@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Result of {@code POST /api/tasks/batch}: totals plus one entry per submitted task. */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskBatchResponse {
+  private int created;
+  private int rejected;
+  private List<TaskBatchItemResult> results;
+}
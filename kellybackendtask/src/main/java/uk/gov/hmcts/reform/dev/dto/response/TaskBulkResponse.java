@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Number of tasks changed by a bulk status change or bulk delete. */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskBulkResponse {
+  private long affected;
+}
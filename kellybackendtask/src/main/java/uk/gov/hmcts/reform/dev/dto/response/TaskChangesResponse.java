@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Incremental changes since a client's last sync token.
+ *
+ * <p>Clients upsert {@code changed} by id, remove {@code deleted} ids, store {@code token} for the
+ * next poll and repeat immediately while {@code hasMore} is set. When {@code resyncRequired} is set
+ * the token is too old to replay and the client must reload the full list.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskChangesResponse {
+  private List<TaskResponse> changed;
+  private List<Long> deleted;
+  private String token;
+  private boolean hasMore;
+  private boolean resyncRequired;
+}
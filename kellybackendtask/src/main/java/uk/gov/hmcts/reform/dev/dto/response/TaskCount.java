@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A task total, sent as {@code X-Total-Count}, and whether it was counted or estimated. */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskCount {
+  private long count;
+  private boolean exact;
+}
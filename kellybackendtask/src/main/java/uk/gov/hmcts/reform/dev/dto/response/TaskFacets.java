@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Match counts per status for a search. What the counts mean depends on how they were measured:
+ *
+ * <ul>
+ *   <li>{@code approximate} false: exact counts of every match, every status listed even when zero.
+ *   <li>{@code approximate} true with {@code sampled}: the exact count missed its time budget, so
+ *       the statuses of the first {@code sampled} matches were tallied. When the page also carries
+ *       {@code totalElements} the tallies are scaled up to it; otherwise they are counts within
+ *       the sample. Either way they estimate each status's share, not a bound.
+ *   <li>{@code approximate} true without {@code sampled}: the sample missed its budget too. A
+ *       search on status alone reports this node's running totals per status; for any other
+ *       search nothing was measured and {@code status} is null.
+ * </ul>
+ */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskFacets {
+  private Map<Status, Long> status;
+  private boolean approximate;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Integer sampled;
+}
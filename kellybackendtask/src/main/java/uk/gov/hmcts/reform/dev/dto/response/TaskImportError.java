@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A record the import could not store. {@code index} counts records from zero in body order and
+ * {@code line} is where the record starts, so NDJSON errors point straight at the offending line.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskImportError {
+  private long index;
+  private int line;
+
+  /** Field name to message, as for batch create; {@code task} or {@code database} otherwise. */
+  private Map<String, String> errors;
+}
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Summary of a streaming import. Records counted as imported are committed. */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskImportResponse {
+  private long received;
+  private long imported;
+  private long rejected;
+  private long failed;
+
+  /** False when the body stopped being valid JSON; records before that point are kept. */
+  private boolean completed;
+
+  private List<TaskImportError> errors;
+
+  /** True when more records failed than {@code errors} lists. */
+  private boolean errorsTruncated;
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of tasks. {@code content} mirrors the Spring Data page shape already understood by the
+ * frontend list normaliser.
+ *
+ * <p>Keyset pages carry {@code nextCursor} ({@code null} on the last page); offset pages carry
+ * {@code page} and, only when the client asked for them, {@code totalElements} and {@code facets}.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskPageResponse {
+  private List<TaskResponse> content;
+  private int limit;
+  private boolean hasNext;
+  private String nextCursor;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Integer page;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Long totalElements;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private TaskFacets facets;
+}
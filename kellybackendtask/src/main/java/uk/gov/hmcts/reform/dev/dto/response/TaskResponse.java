@@ -22,6 +22,9 @@ public class TaskResponse {
   private LocalDateTime dueDate;
   private Integer tasknum;
 
+  /** Change version of the row; increases on every write. */
+  private Long version;
+
   // Convenience constructor for tests/usages that don't provide tasknum
   public TaskResponse(
       Long id, String title, String description, Status status, LocalDateTime dueDate) {
@@ -31,5 +34,18 @@ public class TaskResponse {
     this.status = status;
     this.dueDate = dueDate;
     this.tasknum = null;
+    this.version = null;
+  }
+
+  // Convenience constructor for tests/usages that don't provide version
+  public TaskResponse(
+      Long id,
+      String title,
+      String description,
+      Status status,
+      LocalDateTime dueDate,
+      Integer tasknum) {
+    this(id, title, description, status, dueDate);
+    this.tasknum = tasknum;
   }
 }
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import java.util.function.Consumer;
+
+/**
+ * Lazily evaluated sequence of tasks, produced row by row while the response body is written.
+ *
+ * <p>Nothing is read from the database until {@link #forEach(Consumer)} is invoked, which lets the
+ * NDJSON message converter pull rows through an open cursor instead of a materialised list.
+ */
+@FunctionalInterface
+public interface TaskResponseStream {
+  void forEach(Consumer<TaskResponse> action);
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Aggregate task counts for the dashboard.
+ *
+ * <p>{@code overdue} counts open (non-terminal) tasks due on an earlier day; open tasks due later
+ * today are reported in {@code dueToday} instead. {@code reconciledAt} is when the counters were
+ * last checked against the database.
+ */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskStatsResponse {
+  private long total;
+  private Map<Status, Long> byStatus;
+  private long overdue;
+  private long dueToday;
+  private LocalDateTime generatedAt;
+  private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** One autocomplete match: the task and its title as stored. */
+@Data
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+public class TaskSuggestion {
+  private long id;
+  private String title;
+}
@@ -7,6 +7,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -18,6 +21,7 @@ import lombok.Setter;
 import lombok.ToString;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
 import uk.gov.hmcts.reform.dev.models.Status;
 
 @Entity
@@ -38,8 +42,13 @@ import uk.gov.hmcts.reform.dev.models.Status;
  */
 public class TaskEntity {
 
+  // SEQUENCE rather than IDENTITY so Hibernate knows ids before INSERT and can batch them.
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_seq")
+  @SequenceGenerator(
+      name = "task_id_seq",
+      sequenceName = TaskConstants.TASK_ID_SEQUENCE,
+      allocationSize = TaskConstants.TASK_ID_ALLOCATION_SIZE)
   private Long id;
 
   @Column(length = 100)
@@ -59,4 +68,25 @@ public class TaskEntity {
 
   @Column(name = "tasknum")
   private Integer tasknum;
+
+  // Monotonic change version drawn from task_change_seq on every write; shared with tombstones so
+  // clients can sync inserts, updates and deletes from a single position.
+  @Column(name = "change_version", nullable = false)
+  private Long changeVersion;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  // Every write path stamps a version from task_change_seq. A row without one would be invisible
+  // to delta sync forever, so refuse it rather than invent a value.
+  @PrePersist
+  @PreUpdate
+  void fillChangeTracking() {
+    if (changeVersion == null) {
+      throw new IllegalStateException("Task written without a change version");
+    }
+    if (updatedAt == null) {
+      updatedAt = LocalDateTime.now();
+    }
+  }
 }
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+
+@Entity
+@Table(name = "task_tombstone")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+/**
+ * Record of a deleted task, kept so delta-sync clients learn about deletions.
+ *
+ * <p>The primary key is the change version itself, allocated from the same {@code
+ * task_change_seq} sequence as {@link TaskEntity#getChangeVersion()}. Declaring the generator here
+ * also lets Hibernate create the sequence when it manages the schema (H2 tests).
+ */
+public class TaskTombstoneEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_change_seq")
+  @SequenceGenerator(
+      name = "task_change_seq",
+      sequenceName = TaskConstants.CHANGE_VERSION_SEQUENCE,
+      allocationSize = 1)
+  private Long version;
+
+  @Column(name = "task_id", nullable = false)
+  private Long taskId;
+
+  @Column(name = "deleted_at", nullable = false)
+  private LocalDateTime deletedAt;
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Entity
+@Table(name = "task_write_counter")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+/**
+ * Single-row count of committed task write transactions, the validator behind collection ETags.
+ *
+ * <p>Only ever written with native SQL by the task repository; mapped so Hibernate creates the
+ * table when it manages the schema (H2 tests), as {@link TaskTombstoneEntity} does for its
+ * sequence.
+ */
+public class TaskWriteCounterEntity {
+
+  @Id private Integer id;
+
+  @Column(nullable = false)
+  private Long writes;
+}
@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.dev.event;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Compact record of a committed write, sent to the other nodes so they can bring their caches,
+ * indexes and counters up to date.
+ *
+ * <p>Encoded as {@code <origin>,<op>,<taskId>,<version>} followed by the status and due day before
+ * and after the write, where {@code op} is one letter of {@link Operation}, statuses are enum names
+ * and due days ISO dates, each left empty when missing, so a notice stays far below the 8000-byte
+ * NOTIFY payload limit. {@code origin} identifies the node that made the write, which already
+ * applied it locally. A {@link Operation#BULK} notice names no task and invalidates everything.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class TaskChangeNotice {
+  private static final String SEPARATOR = ",";
+  private static final int FIELDS = 8;
+
+  public enum Operation {
+    CREATED('C'),
+    UPDATED('U'),
+    DELETED('D'),
+    BULK('*');
+
+    private final char code;
+
+    Operation(char code) {
+      this.code = code;
+    }
+
+    static Operation of(char code) {
+      for (Operation operation : values()) {
+        if (operation.code == code) {
+          return operation;
+        }
+      }
+      throw new IllegalArgumentException("Unknown change operation: " + code);
+    }
+  }
+
+  private final String origin;
+  private final Operation operation;
+  private final long taskId;
+  private final long version;
+
+  /** Status before the write; {@code null} for {@link Operation#CREATED} and bulk notices. */
+  private final Status previousStatus;
+
+  private final LocalDate previousDueDay;
+
+  /** Status after the write; {@code null} for {@link Operation#DELETED} and bulk notices. */
+  private final Status currentStatus;
+
+  private final LocalDate currentDueDay;
+
+  public TaskChangeNotice(
+      String origin,
+      Operation operation,
+      long taskId,
+      long version,
+      Status previousStatus,
+      LocalDate previousDueDay,
+      Status currentStatus,
+      LocalDate currentDueDay) {
+    this.origin = origin;
+    this.operation = operation;
+    this.taskId = taskId;
+    this.version = version;
+    this.previousStatus = previousStatus;
+    this.previousDueDay = previousDueDay;
+    this.currentStatus = currentStatus;
+    this.currentDueDay = currentDueDay;
+  }
+
+  /** The notice for a single-task write; a missing version is sent as {@code 0}. */
+  public static TaskChangeNotice of(String origin, TaskChangedEvent event) {
+    TaskResponse previous = event.getPrevious();
+    TaskResponse current = event.getCurrent();
+    TaskResponse image = current == null ? previous : current;
+    long version = image.getVersion() == null ? 0 : image.getVersion();
+    return new TaskChangeNotice(
+        origin,
+        Operation.valueOf(event.getOperation().name()),
+        event.getTaskId(),
+        version,
+        previous == null ? null : previous.getStatus(),
+        dueDay(previous),
+        current == null ? null : current.getStatus(),
+        dueDay(current));
+  }
+
+  public static TaskChangeNotice bulk(String origin) {
+    return new TaskChangeNotice(origin, Operation.BULK, 0, 0, null, null, null, null);
+  }
+
+  public String encode() {
+    return String.join(
+        SEPARATOR,
+        origin,
+        String.valueOf(operation.code),
+        String.valueOf(taskId),
+        String.valueOf(version),
+        previousStatus == null ? "" : previousStatus.name(),
+        previousDueDay == null ? "" : previousDueDay.toString(),
+        currentStatus == null ? "" : currentStatus.name(),
+        currentDueDay == null ? "" : currentDueDay.toString());
+  }
+
+  /**
+   * Parses a payload produced by {@link #encode()}.
+   *
+   * @throws IllegalArgumentException if it was not
+   */
+  public static TaskChangeNotice decode(String payload) {
+    String[] parts = payload.split(SEPARATOR, -1);
+    if (parts.length != FIELDS || parts[1].length() != 1) {
+      throw new IllegalArgumentException("Malformed change notice: " + payload);
+    }
+    try {
+      return new TaskChangeNotice(
+          parts[0],
+          Operation.of(parts[1].charAt(0)),
+          Long.parseLong(parts[2]),
+          Long.parseLong(parts[3]),
+          parts[4].isEmpty() ? null : Status.valueOf(parts[4]),
+          parts[5].isEmpty() ? null : LocalDate.parse(parts[5]),
+          parts[6].isEmpty() ? null : Status.valueOf(parts[6]),
+          parts[7].isEmpty() ? null : LocalDate.parse(parts[7]));
+    } catch (DateTimeParseException exception) {
+      throw new IllegalArgumentException("Malformed change notice: " + payload, exception);
+    }
+  }
+
+  private static LocalDate dueDay(TaskResponse image) {
+    return image == null || image.getDueDate() == null ? null : image.getDueDate().toLocalDate();
+  }
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.event;
+
+import lombok.Getter;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+
+/**
+ * Published by the service layer after a single task is created, updated or deleted.
+ *
+ * <p>Carries both the before and after image so listeners that maintain derived state (counters,
+ * indexes, caches) can apply an exact delta without re-reading the row. Listeners should use
+ * {@code @TransactionalEventListener} so they only observe committed changes.
+ */
+@Getter
+public class TaskChangedEvent {
+
+  public enum Operation {
+    CREATED,
+    UPDATED,
+    DELETED
+  }
+
+  private final Operation operation;
+  private final Long taskId;
+
+  /** State before the change; {@code null} for {@link Operation#CREATED}. */
+  private final TaskResponse previous;
+
+  /** State after the change; {@code null} for {@link Operation#DELETED}. */
+  private final TaskResponse current;
+
+  private TaskChangedEvent(
+      Operation operation, Long taskId, TaskResponse previous, TaskResponse current) {
+    this.operation = operation;
+    this.taskId = taskId;
+    this.previous = previous;
+    this.current = current;
+  }
+
+  public static TaskChangedEvent created(TaskResponse current) {
+    return new TaskChangedEvent(Operation.CREATED, current.getId(), null, current);
+  }
+
+  public static TaskChangedEvent updated(TaskResponse previous, TaskResponse current) {
+    return new TaskChangedEvent(Operation.UPDATED, current.getId(), previous, current);
+  }
+
+  public static TaskChangedEvent deleted(TaskResponse previous) {
+    return new TaskChangedEvent(Operation.DELETED, previous.getId(), previous, null);
+  }
+}
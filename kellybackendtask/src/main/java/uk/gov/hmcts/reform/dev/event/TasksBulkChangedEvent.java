@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.dev.event;
+
+import lombok.Getter;
+
+/**
+ * Published after a set-based bulk operation.
+ *
+ * <p>Bulk statements do not load the rows they change, so no per-task images are available;
+ * listeners that maintain derived state should rebuild it from the database instead.
+ */
+@Getter
+public class TasksBulkChangedEvent {
+
+  public enum Operation {
+    IMPORTED,
+    STATUS_CHANGED,
+    DELETED
+  }
+
+  private final Operation operation;
+  private final long affected;
+
+  public TasksBulkChangedEvent(Operation operation, long affected) {
+    this.operation = operation;
+    this.affected = affected;
+  }
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+/**
+ * Signals a syntactically valid request whose parameters cannot be honoured (e.g. a tampered
+ * pagination cursor).
+ *
+ * <p>Mapped to HTTP 400 by {@link GlobalExceptionHandler}.
+ */
+public class BadRequestException extends RuntimeException {
+  public BadRequestException(String message) {
+    super(message);
+  }
+
+  public BadRequestException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
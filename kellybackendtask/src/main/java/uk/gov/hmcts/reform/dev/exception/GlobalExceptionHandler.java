@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -60,12 +61,29 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Malformed JSON request");
   }
 
+  @ExceptionHandler(BadRequestException.class)
+  public ResponseEntity<Map<String, String>> handleBadRequest(BadRequestException ex) {
+    logger.warn("Bad request: {}", ex.getMessage());
+    Map<String, String> body = new HashMap<>();
+    body.put("error", "Bad Request");
+    body.put("message", ex.getMessage());
+    return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+  }
+
   @ExceptionHandler(DatabaseWriteException.class)
   public ResponseEntity<String> handleDatabaseWriteException(DatabaseWriteException ex) {
     logger.error("Database write exception: {}", ex.getMessage(), ex);
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.getMessage());
   }
 
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<String> handleServiceUnavailable(ServiceUnavailableException ex) {
+    logger.warn("Read refused: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfter()))
+        .body(ex.getMessage());
+  }
+
   @ExceptionHandler(IllegalStateException.class)
   public ResponseEntity<Map<String, String>> handleIllegalState(IllegalStateException ex) {
     logger.error("Business rule violation: {}", ex.getMessage(), ex);
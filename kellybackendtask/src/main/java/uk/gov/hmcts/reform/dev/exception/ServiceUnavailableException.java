@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+/**
+ * Signals that a read was refused without touching the database, because it is failing or slow
+ * and no earlier result can stand in, so the client should retry after {@link #getRetryAfter()}
+ * seconds.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+  private final long retryAfter;
+
+  public ServiceUnavailableException(String message, long retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  public long getRetryAfter() {
+    return retryAfter;
+  }
+}
@@ -30,6 +30,7 @@ public class TaskMapper {
         taskEntity.getDescription(),
         taskEntity.getStatus(),
         taskEntity.getDueDate(),
-        taskEntity.getTasknum());
+        taskEntity.getTasknum(),
+        taskEntity.getChangeVersion());
   }
 }
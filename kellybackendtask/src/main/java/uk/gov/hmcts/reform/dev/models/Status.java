@@ -7,5 +7,10 @@ public enum Status {
   IN_PROGRESS,
   COMPLETED,
   APPROVED,
-  CANCELLED
+  CANCELLED;
+
+  /** Terminal tasks are closed out: they can no longer become overdue. */
+  public boolean isTerminal() {
+    return this == COMPLETED || this == CANCELLED;
+  }
 }
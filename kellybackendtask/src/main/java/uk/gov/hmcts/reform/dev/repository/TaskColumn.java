@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+/** Client-writable columns of {@code task}, used to render single-statement UPDATEs. */
+public enum TaskColumn {
+  TITLE("title"),
+  DESCRIPTION("description"),
+  STATUS("status"),
+  DUE_DATE("duedate");
+
+  private final String columnName;
+
+  TaskColumn(String columnName) {
+    this.columnName = columnName;
+  }
+
+  public String getColumnName() {
+    return columnName;
+  }
+}
@@ -6,21 +6,76 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.dev.entity.TaskEntity;
 import uk.gov.hmcts.reform.dev.models.Status;
 
 /**
  * Spring Data repository abstraction for tasks with convenience finders. Extends
- * JpaSpecificationExecutor for dynamic query support and pagination.
+ * JpaSpecificationExecutor for dynamic query support and pagination, and {@link
+ * TaskRepositoryCustom} for cursor-based streaming.
  */
 @Repository
 public interface TaskRepository
-    extends JpaRepository<TaskEntity, Long>, JpaSpecificationExecutor<TaskEntity> {
+    extends JpaRepository<TaskEntity, Long>,
+        JpaSpecificationExecutor<TaskEntity>,
+        TaskRepositoryCustom {
 
-  List<TaskEntity> findByStatus(Status status);
+  // Served in index order by idx_task_status_due_id.
+  List<TaskEntity> findByStatusOrderByDueDateAscIdAsc(Status status);
 
-  List<TaskEntity> findByDueDateBefore(LocalDateTime cutOff);
+  // Open tasks past their due date. The status literals must stay inline (not bound) and match the
+  // predicate of the partial index idx_task_open_due, or PostgreSQL cannot prove the index applies.
+  @Query(
+      "select t from TaskEntity t where t.dueDate < :now"
+          + " and t.status not in (uk.gov.hmcts.reform.dev.models.Status.COMPLETED,"
+          + " uk.gov.hmcts.reform.dev.models.Status.CANCELLED)"
+          + " order by t.dueDate asc, t.id asc")
+  List<TaskEntity> findOpenOverdue(@Param("now") LocalDateTime now);
 
   Page<TaskEntity> findAll(Pageable pageable);
+
+  // Keyset (seek) pagination over (dueDate, id), served by idx_task_due_id. The leading range
+  // predicate keeps the scan index-bound; the OR only filters ties on the first key. Undated tasks
+  // sort after every dated one and are paged separately by id.
+  @Query(
+      "select t from TaskEntity t where t.dueDate is not null order by t.dueDate asc, t.id asc")
+  List<TaskEntity> findFirstKeysetPage(Pageable pageable);
+
+  @Query(
+      "select t from TaskEntity t where t.dueDate >= :dueDate"
+          + " and (t.dueDate > :dueDate or t.id > :id) order by t.dueDate asc, t.id asc")
+  List<TaskEntity> findKeysetPageAfter(
+      @Param("dueDate") LocalDateTime dueDate, @Param("id") Long id, Pageable pageable);
+
+  @Query("select t from TaskEntity t where t.dueDate is null and t.id > :id order by t.id asc")
+  List<TaskEntity> findUndatedKeysetPageAfter(@Param("id") Long id, Pageable pageable);
+
+  // Delta sync: rows written after (changeVersion, id) and below the watermark, served by
+  // idx_task_change_version. The id tie-break matters because bulk updates stamp a whole chunk with
+  // one version.
+  @Query(
+      "select t from TaskEntity t where (t.changeVersion > :changeVersion"
+          + " or (t.changeVersion = :changeVersion and t.id > :id))"
+          + " and t.changeVersion < :below"
+          + " order by t.changeVersion, t.id")
+  List<TaskEntity> findChangedAfter(
+      @Param("changeVersion") Long changeVersion,
+      @Param("id") Long id,
+      @Param("below") Long below,
+      Pageable pageable);
+
+  // Aggregates used to reconcile the in-memory statistics counters; each row is {key, count}.
+  @Query("select t.status, count(t) from TaskEntity t group by t.status")
+  List<Object[]> countByStatus();
+
+  @Query(
+      "select extract(date from t.dueDate), count(t) from TaskEntity t"
+          + " where t.dueDate is not null"
+          + " and t.status not in (uk.gov.hmcts.reform.dev.models.Status.COMPLETED,"
+          + " uk.gov.hmcts.reform.dev.models.Status.CANCELLED)"
+          + " group by extract(date from t.dueDate)")
+  List<Object[]> countOpenByDueDay();
 }
@@ -0,0 +1,162 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/** Hand-written repository fragment for queries Spring Data cannot derive. */
+public interface TaskRepositoryCustom {
+
+  /**
+   * Streams every task matching {@code spec} through {@code action} using a server-side cursor.
+   *
+   * <p>Each entity is detached once the action returns, so the persistence context never holds
+   * more than one row regardless of result size.
+   *
+   * @param spec filter to apply, or {@code null} for all tasks
+   * @param action callback invoked once per row, inside the read-only transaction
+   * @return number of rows visited
+   */
+  long forEachMatching(Specification<TaskEntity> spec, Consumer<TaskEntity> action);
+
+  /**
+   * Returns one page of matches without issuing a COUNT query.
+   *
+   * <p>Reads {@code pageSize + 1} rows to learn whether another page exists, which keeps broad
+   * searches proportional to the page rather than the full match set.
+   */
+  Slice<TaskEntity> findSlice(Specification<TaskEntity> spec, Pageable pageable);
+
+  /** Returns every task matching {@code search}, unordered, through its precompiled query. */
+  List<TaskEntity> search(TaskSearch search);
+
+  /**
+   * Returns one page of matches for {@code search} without a COUNT query, like {@link
+   * #findSlice(Specification, Pageable)}.
+   */
+  Slice<TaskEntity> searchSlice(TaskSearch search, Pageable pageable);
+
+  /** Returns one page of matches for {@code search} with the total, counted only when needed. */
+  Page<TaskEntity> searchPage(TaskSearch search, Pageable pageable);
+
+  /** Counts every match of {@code search} exactly. */
+  long countSearch(TaskSearch search);
+
+  /**
+   * Counts the matches of {@code search} per status with one GROUP BY.
+   *
+   * @param timeoutSeconds JDBC query timeout, after which the database cancels the statement
+   * @return {@code [Status, Long]} rows for the statuses that have matches
+   */
+  List<Object[]> countSearchByStatus(TaskSearch search, int timeoutSeconds);
+
+  /**
+   * Returns the statuses of at most {@code limit} matches of {@code search}, in no particular
+   * order; a cheap stand-in for {@link #countSearchByStatus} over broad matches. The database
+   * cancels the read after {@code timeoutMillis}.
+   */
+  List<Status> sampleSearchStatuses(TaskSearch search, int limit, long timeoutMillis);
+
+  /**
+   * Streams every task matching {@code search} through {@code action}, as {@link
+   * #forEachMatching(Specification, Consumer)} does.
+   *
+   * @return number of rows visited
+   */
+  long forEachSearchMatch(TaskSearch search, Consumer<TaskEntity> action);
+
+  /**
+   * Streams the open tasks due before {@code now}, most overdue first, through {@code action}. Runs
+   * the same predicate and order as {@link TaskRepository#findOpenOverdue}, so it is served by the
+   * partial index {@code idx_task_open_due} in the same way.
+   *
+   * @return number of rows visited
+   */
+  long forEachOpenOverdue(LocalDateTime now, Consumer<TaskEntity> action);
+
+  /** Allocates the next value of the shared change-version sequence. */
+  long nextChangeVersion();
+
+  /**
+   * Marks the current transaction as a writer of change versions. Every write path calls this
+   * before its first allocation; repeated calls in one transaction are free. The transaction also
+   * bumps the {@code task_write_counter} row as it commits, so the counter rises in commit order.
+   *
+   * <p>On PostgreSQL it takes a shared, transaction-scoped advisory lock keyed by the next version
+   * the sequence will hand out. The lock is visible to every session in {@code pg_locks} until the
+   * transaction ends, which is what {@link #changeWatermark()} reads, so the watermark cannot pass
+   * it until then: register as late as the write allows.
+   *
+   * @throws IllegalStateException if no transaction is active
+   */
+  void registerChangeWriter();
+
+  /**
+   * Returns the lowest change version that may still become visible. Every version below it has
+   * been committed or rolled back, so a delta-sync position below it never skips a late commit.
+   *
+   * <p>On PostgreSQL it is the smaller of the next version the sequence will hand out and the
+   * lowest version held by a transaction still in flight. H2 has no advisory locks, so there it is
+   * one past the highest visible version.
+   */
+  long changeWatermark();
+
+  /** Allocates {@code count} ascending change versions in one round trip. */
+  long[] nextChangeVersions(int count);
+
+  /**
+   * Inserts new tasks through JDBC batches of {@link
+   * uk.gov.hmcts.reform.dev.constants.TaskConstants#INSERT_BATCH_SIZE}, flushing and clearing the
+   * persistence context between batches so memory stays flat for large imports.
+   */
+  void insertInBatches(List<TaskEntity> tasks);
+
+  /**
+   * Sets the given columns on one task in a single statement, stamping a fresh change version.
+   *
+   * <p>On PostgreSQL this is one {@code UPDATE ... RETURNING} that also yields the previous image;
+   * on H2 the version is allocated first and the previous image read from {@code OLD TABLE}.
+   *
+   * @param values new column values, at least one; {@code null} values clear the column
+   * @return before and after images, or empty when no task has that id
+   */
+  Optional<TaskRowChange> updateReturning(long id, Map<TaskColumn, ?> values);
+
+  /**
+   * Deletes one task and records its tombstone, returning the deleted row.
+   *
+   * @return the row as it was before deletion, or empty when no task has that id
+   */
+  Optional<TaskEntity> deleteReturning(long id);
+
+  /**
+   * Locks and returns, in ascending order, the next ids after {@code afterId} matching {@code
+   * spec}. Bulk operations walk the table in these id ranges so each chunk holds row locks only
+   * briefly.
+   */
+  List<Long> lockIdChunk(Specification<TaskEntity> spec, long afterId, int size);
+
+  /**
+   * Sets {@code status} on every row matching {@code spec} with an id in {@code [fromId, toId]} as
+   * one set-based UPDATE. All rows in the range share {@code changeVersion}.
+   *
+   * @return number of rows updated
+   */
+  int updateStatusInRange(
+      Specification<TaskEntity> spec, long fromId, long toId, Status status, long changeVersion);
+
+  /**
+   * Deletes the given rows as one set-based DELETE after writing a tombstone for each.
+   *
+   * @return number of rows deleted
+   */
+  int deleteWithTombstones(List<Long> ids);
+}
@@ -0,0 +1,663 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Implementation of {@link TaskRepositoryCustom}; picked up by Spring Data through the {@code Impl}
+ * naming convention and merged into {@link TaskRepository}.
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+  // Select list for one full row image; %1$s is the table qualifier, %2$s the alias prefix. Status
+  // is cast to text because PostgreSQL stores it as status_enum.
+  private static final String IMAGE =
+      "%1$sid AS %2$s_id, %1$stitle AS %2$s_title, %1$sdescription AS %2$s_description, "
+          + "CAST(%1$sstatus AS VARCHAR(32)) AS %2$s_status, %1$sduedate AS %2$s_duedate, "
+          + "%1$stasknum AS %2$s_tasknum, %1$schange_version AS %2$s_change_version, "
+          + "%1$supdated_at AS %2$s_updated_at";
+  private static final int IMAGE_WIDTH = 8;
+  // The next version task_change_seq will hand out; nextval never returns less.
+  private static final String NEXT_UNALLOCATED =
+      "CASE WHEN is_called THEN last_value + 1 ELSE last_value END";
+  // Writer locks live in their own key space: the top 16 bits hold a tag (0x7461, "ta") and the
+  // rest the version, so other advisory locks in the database never lower the watermark. Versions
+  // stay far below 2^48.
+  private static final long CHANGE_LOCK_TAG = 0x7461L;
+  private static final long CHANGE_LOCK_BASE = CHANGE_LOCK_TAG << 48;
+  private static final String HOLD_WATERMARK_SQL =
+      "SELECT pg_try_advisory_xact_lock_shared("
+          + CHANGE_LOCK_BASE
+          + " + "
+          + NEXT_UNALLOCATED
+          + ") FROM task_change_seq";
+  private static final String NEXT_UNALLOCATED_SQL =
+      "SELECT " + NEXT_UNALLOCATED + " FROM task_change_seq";
+  // A bigint advisory key shows up split across classid (high half) and objid, with objsubid 1.
+  private static final String LOWEST_HELD_SQL =
+      "SELECT MIN(((CAST(classid AS BIGINT) << 32) | CAST(objid AS BIGINT)) - "
+          + CHANGE_LOCK_BASE
+          + ") FROM pg_locks"
+          + " WHERE locktype = 'advisory' AND objsubid = 1"
+          + " AND CAST(classid AS BIGINT) >> 16 = "
+          + CHANGE_LOCK_TAG
+          + " AND database = (SELECT oid FROM pg_database WHERE datname = current_database())";
+  // Upserts so schemas Hibernate creates, which start without the row, count from the first write.
+  private static final String BUMP_WRITES_POSTGRES_SQL =
+      "INSERT INTO task_write_counter (id, writes) VALUES (1, 1)"
+          + " ON CONFLICT (id) DO UPDATE SET writes = task_write_counter.writes + 1";
+  private static final String BUMP_WRITES_H2_SQL =
+      "MERGE INTO task_write_counter (id, writes) KEY (id)"
+          + " SELECT 1, COALESCE(MAX(writes), 0) + 1 FROM task_write_counter";
+  // Transaction-local, and in milliseconds where a JDBC query timeout rounds up to whole seconds.
+  private static final String STATEMENT_TIMEOUT_SQL =
+      "SELECT set_config('statement_timeout', :timeout, true)";
+  private static final String HIGHEST_VISIBLE_SQL =
+      "SELECT GREATEST((SELECT COALESCE(MAX(change_version), 0) FROM task),"
+          + " (SELECT COALESCE(MAX(version), 0) FROM task_tombstone))";
+
+  private final EntityManager entityManager;
+  private final Map<Integer, String> updateSqlByMask = new ConcurrentHashMap<>();
+
+  public TaskRepositoryCustomImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Registers the search query of every {@link TaskSearch} shape, unordered, in default order, as a
+   * count and in the two status-facet forms, as named queries. Each is parsed and checked once
+   * here, so a broken template fails startup and searches only bind values. The plan cache is sized
+   * to hold all of them.
+   */
+  @PostConstruct
+  void registerSearchQueries() {
+    EntityManagerFactory factory = entityManager.getEntityManagerFactory();
+    EntityManager registrar = factory.createEntityManager();
+    try {
+      for (int shape = 0; shape < TaskSearch.SHAPES; shape++) {
+        factory.addNamedQuery(
+            TaskSearchQueries.SELECT + shape,
+            registrar.createQuery(TaskSearchQueries.select(shape), TaskEntity.class));
+        factory.addNamedQuery(
+            TaskSearchQueries.SELECT_ORDERED + shape,
+            registrar.createQuery(TaskSearchQueries.selectOrdered(shape), TaskEntity.class));
+        factory.addNamedQuery(
+            TaskSearchQueries.COUNT + shape,
+            registrar.createQuery(TaskSearchQueries.count(shape), Long.class));
+        factory.addNamedQuery(
+            TaskSearchQueries.COUNT_BY_STATUS + shape,
+            registrar.createQuery(TaskSearchQueries.countByStatus(shape), Object[].class));
+        factory.addNamedQuery(
+            TaskSearchQueries.STATUSES + shape,
+            registrar.createQuery(TaskSearchQueries.statuses(shape), Status.class));
+      }
+    } finally {
+      registrar.close();
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long forEachMatching(Specification<TaskEntity> spec, Consumer<TaskEntity> action) {
+    return forEach(entityManager.createQuery(select(spec, null)), action);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long forEachSearchMatch(TaskSearch search, Consumer<TaskEntity> action) {
+    return forEach(searchQuery(search, Sort.unsorted()), action);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long forEachOpenOverdue(LocalDateTime now, Consumer<TaskEntity> action) {
+    // The ordered open-only shape renders the same HQL as TaskRepository.findOpenOverdue.
+    return forEach(
+        searchQuery(new TaskSearch(null, null, null, now, true), TaskSearchQueries.DEFAULT_ORDER),
+        action);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<TaskEntity> search(TaskSearch search) {
+    return searchQuery(search, Sort.unsorted()).getResultList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Slice<TaskEntity> searchSlice(TaskSearch search, Pageable pageable) {
+    return slice(searchQuery(search, pageable.getSort()), pageable);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Page<TaskEntity> searchPage(TaskSearch search, Pageable pageable) {
+    List<TaskEntity> content =
+        searchQuery(search, pageable.getSort())
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+    return PageableExecutionUtils.getPage(content, pageable, () -> countSearch(search));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long countSearch(TaskSearch search) {
+    TypedQuery<Long> count =
+        entityManager.createNamedQuery(TaskSearchQueries.COUNT + search.shape(), Long.class);
+    TaskSearchQueries.bind(count, search);
+    return count.getSingleResult();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Object[]> countSearchByStatus(TaskSearch search, int timeoutSeconds) {
+    TypedQuery<Object[]> query =
+        entityManager
+            .createNamedQuery(TaskSearchQueries.COUNT_BY_STATUS + search.shape(), Object[].class)
+            .setHint(HibernateHints.HINT_TIMEOUT, timeoutSeconds);
+    TaskSearchQueries.bind(query, search);
+    return query.getResultList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Status> sampleSearchStatuses(TaskSearch search, int limit, long timeoutMillis) {
+    limitStatementTime(timeoutMillis);
+    TypedQuery<Status> query =
+        entityManager
+            .createNamedQuery(TaskSearchQueries.STATUSES + search.shape(), Status.class)
+            .setMaxResults(limit)
+            .setHint(SpecHints.HINT_SPEC_QUERY_TIMEOUT, (int) Math.max(1, timeoutMillis));
+    TaskSearchQueries.bind(query, search);
+    return query.getResultList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Slice<TaskEntity> findSlice(Specification<TaskEntity> spec, Pageable pageable) {
+    return slice(entityManager.createQuery(select(spec, pageable)), pageable);
+  }
+
+  @Override
+  public long nextChangeVersion() {
+    // Let the dialect render the sequence call so the same code runs on H2 and PostgreSQL.
+    String sql =
+        dialect()
+            .getSequenceSupport()
+            .getSequenceNextValString(TaskConstants.CHANGE_VERSION_SEQUENCE);
+    registerChangeWriter();
+    return queryLong(sql);
+  }
+
+  @Override
+  public void registerChangeWriter() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("Change versions can only be allocated in a transaction");
+    }
+    if (TransactionSynchronizationManager.getSynchronizations().stream()
+        .anyMatch(ChangeWriter.class::isInstance)) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new ChangeWriter());
+    if (dialect() instanceof PostgreSQLDialect) {
+      entityManager.createNativeQuery(HOLD_WATERMARK_SQL).getSingleResult();
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public long changeWatermark() {
+    if (!(dialect() instanceof PostgreSQLDialect)) {
+      return queryLong(HIGHEST_VISIBLE_SQL) + 1;
+    }
+    // Sequence first: a writer whose lock is not yet in pg_locks has not allocated anything below
+    // it, and one whose lock is gone has committed or rolled back before the next statement.
+    long nextUnallocated = queryLong(NEXT_UNALLOCATED_SQL);
+    Object lowestHeld = entityManager.createNativeQuery(LOWEST_HELD_SQL).getSingleResult();
+    return lowestHeld == null
+        ? nextUnallocated
+        : Math.min(nextUnallocated, ((Number) lowestHeld).longValue());
+  }
+
+  @Override
+  public long[] nextChangeVersions(int count) {
+    registerChangeWriter();
+    String range =
+        dialect() instanceof PostgreSQLDialect
+            ? "generate_series(1, :count)"
+            : "SYSTEM_RANGE(1, :count)";
+    List<?> values =
+        entityManager
+            .createNativeQuery(
+                "SELECT " + nextChangeVersionExpression() + " AS v FROM " + range + " ORDER BY v")
+            .setParameter("count", count)
+            .getResultList();
+    return values.stream().mapToLong(value -> ((Number) value).longValue()).toArray();
+  }
+
+  @Override
+  @Transactional
+  public void insertInBatches(List<TaskEntity> tasks) {
+    Session session = entityManager.unwrap(Session.class);
+    Integer previousBatchSize = session.getJdbcBatchSize();
+    session.setJdbcBatchSize(TaskConstants.INSERT_BATCH_SIZE);
+    try {
+      for (int i = 0; i < tasks.size(); i++) {
+        entityManager.persist(tasks.get(i));
+        if ((i + 1) % TaskConstants.INSERT_BATCH_SIZE == 0) {
+          entityManager.flush();
+          entityManager.clear();
+        }
+      }
+      entityManager.flush();
+      entityManager.clear();
+    } finally {
+      session.setJdbcBatchSize(previousBatchSize);
+    }
+  }
+
+  @Override
+  @Transactional
+  public List<Long> lockIdChunk(Specification<TaskEntity> spec, long afterId, int size) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+    Root<TaskEntity> root = query.from(TaskEntity.class);
+    Predicate after = criteriaBuilder.greaterThan(root.get("id"), afterId);
+    Predicate predicate = spec == null ? null : spec.toPredicate(root, query, criteriaBuilder);
+    query
+        .select(root.get("id"))
+        .where(predicate == null ? after : criteriaBuilder.and(after, predicate))
+        .orderBy(criteriaBuilder.asc(root.get("id")));
+    return entityManager
+        .createQuery(query)
+        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+        .setMaxResults(size)
+        .getResultList();
+  }
+
+  @Override
+  @Transactional
+  public int updateStatusInRange(
+      Specification<TaskEntity> spec, long fromId, long toId, Status status, long changeVersion) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaUpdate<TaskEntity> update = criteriaBuilder.createCriteriaUpdate(TaskEntity.class);
+    Root<TaskEntity> root = update.from(TaskEntity.class);
+    Predicate range = criteriaBuilder.between(root.get("id"), fromId, toId);
+    // Specifications only need the root and builder, so no CriteriaQuery is passed.
+    Predicate predicate = spec == null ? null : spec.toPredicate(root, null, criteriaBuilder);
+    update
+        .set(root.<Status>get("status"), status)
+        .set(root.<Long>get("changeVersion"), changeVersion)
+        .set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now())
+        .where(predicate == null ? range : criteriaBuilder.and(range, predicate));
+    return entityManager.createQuery(update).executeUpdate();
+  }
+
+  @Override
+  @Transactional
+  public int deleteWithTombstones(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    registerChangeWriter();
+    entityManager
+        .createNativeQuery(
+            "INSERT INTO task_tombstone (version, task_id, deleted_at) SELECT "
+                + nextChangeVersionExpression()
+                + ", id, :now FROM task WHERE id IN (:ids)")
+        .setParameter("now", LocalDateTime.now())
+        .setParameter("ids", ids)
+        .executeUpdate();
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaDelete<TaskEntity> delete = criteriaBuilder.createCriteriaDelete(TaskEntity.class);
+    Root<TaskEntity> root = delete.from(TaskEntity.class);
+    delete.where(root.get("id").in(ids));
+    return entityManager.createQuery(delete).executeUpdate();
+  }
+
+  @Override
+  @Transactional
+  public Optional<TaskRowChange> updateReturning(long id, Map<TaskColumn, ?> values) {
+    if (values.isEmpty()) {
+      throw new IllegalArgumentException("No columns to update");
+    }
+    LocalDateTime now = LocalDateTime.now();
+    String sql = updateSql(values.keySet());
+    registerChangeWriter();
+
+    if (dialect() instanceof PostgreSQLDialect) {
+      NativeQuery<Object[]> query = imageQuery(sql, "old", "new");
+      bind(query, values);
+      query.setParameter("id", id).setParameter("now", now, LocalDateTime.class);
+      return query.getResultList().stream()
+          .findFirst()
+          .map(row -> new TaskRowChange(readImage(row, 0), readImage(row, IMAGE_WIDTH)));
+    }
+
+    long version = nextChangeVersion();
+    NativeQuery<Object[]> query = imageQuery(sql, "old");
+    bind(query, values);
+    query
+        .setParameter("id", id)
+        .setParameter("version", version)
+        .setParameter("now", now, LocalDateTime.class);
+    return query.getResultList().stream()
+        .findFirst()
+        .map(
+            row -> {
+              TaskEntity after = readImage(row, 0);
+              values.forEach((column, value) -> apply(after, column, value));
+              after.setChangeVersion(version);
+              after.setUpdatedAt(now);
+              return new TaskRowChange(readImage(row, 0), after);
+            });
+  }
+
+  @Override
+  @Transactional
+  public Optional<TaskEntity> deleteReturning(long id) {
+    LocalDateTime now = LocalDateTime.now();
+    registerChangeWriter();
+    if (dialect() instanceof PostgreSQLDialect) {
+      String sql =
+          "WITH gone AS (DELETE FROM task WHERE id = :id RETURNING *),"
+              + " tomb AS (INSERT INTO task_tombstone (version, task_id, deleted_at)"
+              + " SELECT "
+              + nextChangeVersionExpression()
+              + ", id, :now FROM gone)"
+              + " SELECT "
+              + image("", "old")
+              + " FROM gone";
+      NativeQuery<Object[]> query = imageQuery(sql, "old");
+      query.setParameter("id", id).setParameter("now", now, LocalDateTime.class);
+      return query.getResultList().stream().findFirst().map(row -> readImage(row, 0));
+    }
+
+    NativeQuery<Object[]> query =
+        imageQuery(
+            "SELECT " + image("", "old") + " FROM OLD TABLE (DELETE FROM task WHERE id = :id)",
+            "old");
+    query.setParameter("id", id);
+    Optional<TaskEntity> deleted =
+        query.getResultList().stream().findFirst().map(row -> readImage(row, 0));
+    if (deleted.isPresent()) {
+      entityManager
+          .createNativeQuery(
+              "INSERT INTO task_tombstone (version, task_id, deleted_at) VALUES ("
+                  + nextChangeVersionExpression()
+                  + ", :id, :now)")
+          .setParameter("id", id)
+          .setParameter("now", now)
+          .executeUpdate();
+    }
+    return deleted;
+  }
+
+  /**
+   * Returns the UPDATE for one set of columns, rendering it on first use. Only the supplied columns
+   * are written, so a description-only patch leaves status and duedate, and their index entries,
+   * untouched. With four writable columns there are at most fifteen shapes, keyed by their ordinal
+   * bit mask.
+   */
+  private String updateSql(Set<TaskColumn> columns) {
+    int mask = 0;
+    for (TaskColumn column : columns) {
+      mask |= 1 << column.ordinal();
+    }
+    return updateSqlByMask.computeIfAbsent(mask, ignored -> renderUpdateSql(columns));
+  }
+
+  private String renderUpdateSql(Set<TaskColumn> columns) {
+    boolean postgres = dialect() instanceof PostgreSQLDialect;
+    String assignments =
+        columns.stream()
+            .sorted()
+            .map(column -> assignment(column, postgres))
+            .collect(Collectors.joining(", "));
+    if (postgres) {
+      // The locked sub-select supplies the previous image; the outer row supplies the new one.
+      return "UPDATE task t SET "
+          + assignments
+          + ", change_version = "
+          + nextChangeVersionExpression()
+          + ", updated_at = :now"
+          + " FROM (SELECT * FROM task WHERE id = :id FOR UPDATE) old"
+          + " WHERE t.id = old.id RETURNING "
+          + image("old.", "old")
+          + ", "
+          + image("t.", "new");
+    }
+    return "SELECT "
+        + image("", "old")
+        + " FROM OLD TABLE (UPDATE task SET "
+        + assignments
+        + ", change_version = :version, updated_at = :now WHERE id = :id)";
+  }
+
+  private String nextChangeVersionExpression() {
+    return dialect()
+        .getSequenceSupport()
+        .getSelectSequenceNextValString(TaskConstants.CHANGE_VERSION_SEQUENCE);
+  }
+
+  private static String assignment(TaskColumn column, boolean postgres) {
+    String parameter = ":" + parameterName(column);
+    if (column == TaskColumn.STATUS && postgres) {
+      parameter = "CAST(" + parameter + " AS status_enum)";
+    }
+    return column.getColumnName() + " = " + parameter;
+  }
+
+  private static String parameterName(TaskColumn column) {
+    return column.name().toLowerCase();
+  }
+
+  private static String image(String qualifier, String prefix) {
+    return String.format(IMAGE, qualifier, prefix);
+  }
+
+  @SuppressWarnings("unchecked")
+  private NativeQuery<Object[]> imageQuery(String sql, String... prefixes) {
+    NativeQuery<Object[]> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+    query.addSynchronizedEntityClass(TaskEntity.class);
+    for (String prefix : prefixes) {
+      query
+          .addScalar(prefix + "_id", Long.class)
+          .addScalar(prefix + "_title", String.class)
+          .addScalar(prefix + "_description", String.class)
+          .addScalar(prefix + "_status", String.class)
+          .addScalar(prefix + "_duedate", LocalDateTime.class)
+          .addScalar(prefix + "_tasknum", Integer.class)
+          .addScalar(prefix + "_change_version", Long.class)
+          .addScalar(prefix + "_updated_at", LocalDateTime.class);
+    }
+    return query;
+  }
+
+  // Typed binding so NULLs carry a JDBC type; PostgreSQL cannot infer one for a bare parameter.
+  private static void bind(NativeQuery<Object[]> query, Map<TaskColumn, ?> values) {
+    values.forEach(
+        (column, value) -> {
+          String name = parameterName(column);
+          switch (column) {
+            case STATUS ->
+                query.setParameter(
+                    name, value == null ? null : ((Status) value).name(), String.class);
+            case DUE_DATE -> query.setParameter(name, (LocalDateTime) value, LocalDateTime.class);
+            default -> query.setParameter(name, (String) value, String.class);
+          }
+        });
+  }
+
+  private static void apply(TaskEntity entity, TaskColumn column, Object value) {
+    switch (column) {
+      case TITLE -> entity.setTitle((String) value);
+      case DESCRIPTION -> entity.setDescription((String) value);
+      case STATUS -> entity.setStatus((Status) value);
+      case DUE_DATE -> entity.setDueDate((LocalDateTime) value);
+    }
+  }
+
+  private static TaskEntity readImage(Object[] row, int offset) {
+    String status = (String) row[offset + 3];
+    return TaskEntity.builder()
+        .id((Long) row[offset])
+        .title((String) row[offset + 1])
+        .description((String) row[offset + 2])
+        .status(status == null ? null : Status.valueOf(status))
+        .dueDate((LocalDateTime) row[offset + 4])
+        .tasknum((Integer) row[offset + 5])
+        .changeVersion((Long) row[offset + 6])
+        .updatedAt((LocalDateTime) row[offset + 7])
+        .build();
+  }
+
+  /** Caps the statements of the current transaction at {@code timeoutMillis} on PostgreSQL. */
+  private void limitStatementTime(long timeoutMillis) {
+    if (dialect() instanceof PostgreSQLDialect) {
+      entityManager
+          .createNativeQuery(STATEMENT_TIMEOUT_SQL)
+          .setParameter("timeout", Math.max(1, timeoutMillis) + "ms")
+          .getSingleResult();
+    }
+  }
+
+  private long queryLong(String sql) {
+    return ((Number) entityManager.createNativeQuery(sql).getSingleResult()).longValue();
+  }
+
+  private Dialect dialect() {
+    return entityManager
+        .getEntityManagerFactory()
+        .unwrap(SessionFactoryImplementor.class)
+        .getJdbcServices()
+        .getDialect();
+  }
+
+  /**
+   * The query for {@code search} in {@code sort} order. Unsorted and default-ordered searches use
+   * the named queries registered at startup; any other order from the sortable attributes renders
+   * its own text, which Hibernate then caches like any other.
+   */
+  private TypedQuery<TaskEntity> searchQuery(TaskSearch search, Sort sort) {
+    int shape = search.shape();
+    TypedQuery<TaskEntity> query;
+    if (sort.isUnsorted()) {
+      query = entityManager.createNamedQuery(TaskSearchQueries.SELECT + shape, TaskEntity.class);
+    } else if (sort.equals(TaskSearchQueries.DEFAULT_ORDER)) {
+      query =
+          entityManager.createNamedQuery(
+              TaskSearchQueries.SELECT_ORDERED + shape, TaskEntity.class);
+    } else {
+      query =
+          entityManager.createQuery(
+              TaskSearchQueries.select(shape) + TaskSearchQueries.orderBy(sort), TaskEntity.class);
+    }
+    TaskSearchQueries.bind(query, search);
+    return query;
+  }
+
+  private long forEach(TypedQuery<TaskEntity> query, Consumer<TaskEntity> action) {
+    long visited = 0;
+    // Fetch size makes the PostgreSQL driver use a cursor (the surrounding transaction disables
+    // autocommit); without it the driver buffers the whole result set client-side.
+    try (Stream<TaskEntity> rows =
+        query
+            .setHint(HibernateHints.HINT_FETCH_SIZE, TaskConstants.STREAM_FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()) {
+      Iterator<TaskEntity> iterator = rows.iterator();
+      while (iterator.hasNext()) {
+        TaskEntity entity = iterator.next();
+        action.accept(entity);
+        entityManager.detach(entity);
+        visited++;
+      }
+    }
+    return visited;
+  }
+
+  private static Slice<TaskEntity> slice(TypedQuery<TaskEntity> query, Pageable pageable) {
+    int pageSize = pageable.getPageSize();
+    List<TaskEntity> rows =
+        query
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageSize + 1)
+            .getResultList();
+    boolean hasNext = rows.size() > pageSize;
+    return new SliceImpl<>(hasNext ? rows.subList(0, pageSize) : rows, pageable, hasNext);
+  }
+
+  private CriteriaQuery<TaskEntity> select(Specification<TaskEntity> spec, Pageable pageable) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<TaskEntity> query = criteriaBuilder.createQuery(TaskEntity.class);
+    Root<TaskEntity> root = query.from(TaskEntity.class);
+    if (spec != null) {
+      Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+      if (predicate != null) {
+        query.where(predicate);
+      }
+    }
+    if (pageable != null && pageable.getSort().isSorted()) {
+      query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+    }
+    return query;
+  }
+
+  /**
+   * Marks a transaction that has registered as a change writer and bumps the write counter as it
+   * commits. Taking the counter's row lock this late keeps writers serialised only for the commit
+   * itself; the advisory lock ends with the transaction.
+   */
+  private final class ChangeWriter implements TransactionSynchronization {
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      entityManager
+          .createNativeQuery(
+              dialect() instanceof PostgreSQLDialect
+                  ? BUMP_WRITES_POSTGRES_SQL
+                  : BUMP_WRITES_H2_SQL)
+          .executeUpdate();
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+
+/**
+ * Before and after images of a row changed by a single-statement write. Both are detached
+ * snapshots; {@code after} is {@code null} for deletes.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskRowChange {
+  private final TaskEntity before;
+  private final TaskEntity after;
+}
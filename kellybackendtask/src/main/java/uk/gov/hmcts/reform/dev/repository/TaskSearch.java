@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Filter for the precompiled search queries. Due dates are matched as the half-open range {@code
+ * [dueFrom, dueTo)}, either end optional, and {@code openOnly} excludes completed and cancelled
+ * tasks. Which criteria are present selects one of {@link #SHAPES} query shapes; the values
+ * themselves are only ever bound. The title is matched case-insensitively, so it is kept trimmed
+ * and lower-cased and a blank one counts as absent; equal searches are then equal values, which
+ * lets them share cached results.
+ */
+@Getter
+@EqualsAndHashCode
+public final class TaskSearch {
+  static final int TITLE = 1;
+  static final int STATUS = 1 << 1;
+  static final int DUE_FROM = 1 << 2;
+  static final int DUE_TO = 1 << 3;
+  static final int OPEN_ONLY = 1 << 4;
+  static final int SHAPES = 1 << 5;
+
+  private final String title;
+  private final Status status;
+  private final LocalDateTime dueFrom;
+  private final LocalDateTime dueTo;
+  private final boolean openOnly;
+
+  public TaskSearch(
+      String title, Status status, LocalDateTime dueFrom, LocalDateTime dueTo, boolean openOnly) {
+    this.title = title == null || title.isBlank() ? null : title.strip().toLowerCase(Locale.ROOT);
+    this.status = status;
+    this.dueFrom = dueFrom;
+    this.dueTo = dueTo;
+    this.openOnly = openOnly;
+  }
+
+  /** Tasks due on {@code dueDate}, if given: {@code [midnight, next midnight)}. */
+  public TaskSearch(String title, Status status, LocalDate dueDate) {
+    this(
+        title,
+        status,
+        dueDate == null ? null : dueDate.atStartOfDay(),
+        dueDate == null ? null : dueDate.plusDays(1).atStartOfDay(),
+        false);
+  }
+
+  /** Whether nothing but, at most, a status is filtered on. */
+  public boolean isStatusOnly() {
+    return (shape() & ~STATUS) == 0;
+  }
+
+  /** Bit mask of the criteria present, from {@code 0} (no filter) to {@code SHAPES - 1}. */
+  int shape() {
+    return (title == null ? 0 : TITLE)
+        | (status == null ? 0 : STATUS)
+        | (dueFrom == null ? 0 : DUE_FROM)
+        | (dueTo == null ? 0 : DUE_TO)
+        | (openOnly ? OPEN_ONLY : 0);
+  }
+}
@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.Query;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Sort;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * HQL for each {@link TaskSearch} shape. The texts are fixed per shape, so Hibernate parses and
+ * plans each one once however many searches run; {@link TaskRepositoryCustomImpl} registers them
+ * as named queries at startup.
+ */
+final class TaskSearchQueries {
+  static final String SELECT = "Task.search.";
+  static final String SELECT_ORDERED = "Task.searchOrdered.";
+  static final String COUNT = "Task.searchCount.";
+  static final String COUNT_BY_STATUS = "Task.searchCountByStatus.";
+  static final String STATUSES = "Task.searchStatuses.";
+
+  /** Order of the ordered variant; matches the default page order of the search endpoint. */
+  static final Sort DEFAULT_ORDER = Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("id"));
+
+  private static final Set<String> SORTABLE = Set.of("dueDate", "title", "status", "id");
+
+  // Terminal statuses as enum literals rather than a bound list, so PostgreSQL can match the
+  // predicate of the partial index idx_task_open_due.
+  private static final String OPEN =
+      Arrays.stream(Status.values())
+          .filter(Status::isTerminal)
+          .map(status -> Status.class.getName() + "." + status.name())
+          .collect(Collectors.joining(", ", "t.status not in (", ")"));
+
+  private TaskSearchQueries() {}
+
+  static String select(int shape) {
+    return "select t from TaskEntity t" + where(shape);
+  }
+
+  static String selectOrdered(int shape) {
+    return select(shape) + orderBy(DEFAULT_ORDER);
+  }
+
+  static String count(int shape) {
+    return "select count(t) from TaskEntity t" + where(shape);
+  }
+
+  static String countByStatus(int shape) {
+    return "select t.status, count(t) from TaskEntity t" + where(shape) + " group by t.status";
+  }
+
+  static String statuses(int shape) {
+    return "select t.status from TaskEntity t" + where(shape);
+  }
+
+  /** Renders {@code sort} as an ORDER BY clause; only the sortable task attributes are accepted. */
+  static String orderBy(Sort sort) {
+    StringJoiner orderBy = new StringJoiner(", ", " order by ", "");
+    for (Sort.Order order : sort) {
+      if (!SORTABLE.contains(order.getProperty())) {
+        throw new IllegalArgumentException("Unsupported sort property " + order.getProperty());
+      }
+      orderBy.add("t." + order.getProperty() + (order.isAscending() ? " asc" : " desc"));
+    }
+    return orderBy.toString();
+  }
+
+  /**
+   * Binds the values of {@code search} to a query of its shape. The title predicate is {@code
+   * lower(title) LIKE '%term%'}, the expression of the {@code idx_task_title_trgm} index.
+   */
+  static void bind(Query query, TaskSearch search) {
+    if (search.getTitle() != null) {
+      query.setParameter(
+          "title",
+          "%" + TaskSpecifications.escapeLike(search.getTitle().toLowerCase(Locale.ROOT)) + "%");
+    }
+    if (search.getStatus() != null) {
+      query.setParameter("status", search.getStatus());
+    }
+    if (search.getDueFrom() != null) {
+      query.setParameter("dueFrom", search.getDueFrom());
+    }
+    if (search.getDueTo() != null) {
+      query.setParameter("dueTo", search.getDueTo());
+    }
+  }
+
+  private static String where(int shape) {
+    StringJoiner where = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+    if ((shape & TaskSearch.TITLE) != 0) {
+      where.add("lower(t.title) like :title escape '\\'");
+    }
+    if ((shape & TaskSearch.STATUS) != 0) {
+      where.add("t.status = :status");
+    }
+    if ((shape & TaskSearch.DUE_FROM) != 0) {
+      where.add("t.dueDate >= :dueFrom");
+    }
+    if ((shape & TaskSearch.DUE_TO) != 0) {
+      where.add("t.dueDate < :dueTo");
+    }
+    if ((shape & TaskSearch.OPEN_ONLY) != 0) {
+      where.add(OPEN);
+    }
+    return where.toString();
+  }
+}
@@ -1,10 +1,15 @@
 package uk.gov.hmcts.reform.dev.repository;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import org.springframework.data.jpa.domain.Specification;
 import uk.gov.hmcts.reform.dev.entity.TaskEntity;
 import uk.gov.hmcts.reform.dev.models.Status;
@@ -16,6 +21,9 @@ import uk.gov.hmcts.reform.dev.models.Status;
  * method returns a Specification that can be combined with others using and/or operations.
  */
 public class TaskSpecifications {
+  private static final char LIKE_ESCAPE = '\\';
+  private static final List<Status> TERMINAL_STATUSES =
+      Arrays.stream(Status.values()).filter(Status::isTerminal).toList();
 
   /**
    * Creates a specification for searching tasks by multiple optional criteria.
@@ -26,26 +34,41 @@ public class TaskSpecifications {
    * @return Specification that combines all provided criteria with AND logic
    */
   public static Specification<TaskEntity> search(String title, Status status, LocalDate dueDate) {
+    return matching(new TaskSearch(title, status, dueDate));
+  }
+
+  /**
+   * The predicate of the precompiled query for {@code search}, as a specification. Bulk operations
+   * need it to compose with id ranges; plain searches run the precompiled queries instead.
+   *
+   * @param search Filter to apply; absent criteria are skipped
+   * @return Specification that combines all present criteria with AND logic
+   */
+  public static Specification<TaskEntity> matching(TaskSearch search) {
     return (root, query, criteriaBuilder) -> {
       List<Predicate> predicates = new ArrayList<>();
 
       // Title filter - case-insensitive partial match
-      if (title != null && !title.isBlank()) {
-        predicates.add(
-            criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("title")), "%" + title.toLowerCase() + "%"));
+      if (search.getTitle() != null) {
+        predicates.add(titleLike(root, criteriaBuilder, search.getTitle()));
       }
 
       // Status filter - exact match
-      if (status != null) {
-        predicates.add(criteriaBuilder.equal(root.get("status"), status));
+      if (search.getStatus() != null) {
+        predicates.add(criteriaBuilder.equal(root.get("status"), search.getStatus()));
+      }
+
+      // Due date filter - half-open range [dueFrom, dueTo)
+      if (search.getDueFrom() != null) {
+        predicates.add(
+            criteriaBuilder.greaterThanOrEqualTo(root.get("dueDate"), search.getDueFrom()));
+      }
+      if (search.getDueTo() != null) {
+        predicates.add(criteriaBuilder.lessThan(root.get("dueDate"), search.getDueTo()));
       }
 
-      // Due date filter - match tasks with due date on the specified date
-      if (dueDate != null) {
-        LocalDateTime startOfDay = dueDate.atStartOfDay();
-        LocalDateTime endOfDay = dueDate.plusDays(1).atStartOfDay();
-        predicates.add(criteriaBuilder.between(root.get("dueDate"), startOfDay, endOfDay));
+      if (search.isOpenOnly()) {
+        predicates.add(criteriaBuilder.not(root.get("status").in(TERMINAL_STATUSES)));
       }
 
       return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
@@ -63,16 +86,6 @@ public class TaskSpecifications {
         status == null ? null : criteriaBuilder.equal(root.get("status"), status);
   }
 
-  /**
-   * Specification for finding overdue tasks.
-   *
-   * @param now Current date/time for comparison
-   * @return Specification for overdue tasks
-   */
-  public static Specification<TaskEntity> isOverdue(LocalDateTime now) {
-    return (root, query, criteriaBuilder) -> criteriaBuilder.lessThan(root.get("dueDate"), now);
-  }
-
   /**
    * Specification for finding tasks with title containing the search term.
    *
@@ -84,8 +97,7 @@ public class TaskSpecifications {
       if (searchTerm == null || searchTerm.isBlank()) {
         return null;
       }
-      return criteriaBuilder.like(
-          criteriaBuilder.lower(root.get("title")), "%" + searchTerm.toLowerCase() + "%");
+      return titleLike(root, criteriaBuilder, searchTerm);
     };
   }
 
@@ -98,6 +110,42 @@ public class TaskSpecifications {
    */
   public static Specification<TaskEntity> dueDateBetween(LocalDateTime start, LocalDateTime end) {
     return (root, query, criteriaBuilder) ->
-        criteriaBuilder.between(root.get("dueDate"), start, end);
+        criteriaBuilder.and(
+            criteriaBuilder.greaterThanOrEqualTo(root.get("dueDate"), start),
+            criteriaBuilder.lessThan(root.get("dueDate"), end));
+  }
+
+  /**
+   * Specification for an explicit set of task ids.
+   *
+   * @param ids Task ids to match
+   * @return Specification for id membership
+   */
+  public static Specification<TaskEntity> idIn(Collection<Long> ids) {
+    return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+  }
+
+  /**
+   * {@code lower(title) LIKE '%term%'}, the exact expression of the {@code idx_task_title_trgm}
+   * trigram index on PostgreSQL, so the planner can use it. Wildcards typed by the user are escaped
+   * and match literally. Terms under three characters yield no trigrams and still scan.
+   */
+  private static Predicate titleLike(
+      Root<TaskEntity> root, CriteriaBuilder criteriaBuilder, String term) {
+    return criteriaBuilder.like(
+        criteriaBuilder.lower(root.get("title")),
+        "%" + escapeLike(term.toLowerCase(Locale.ROOT)) + "%",
+        LIKE_ESCAPE);
+  }
+
+  static String escapeLike(String term) {
+    StringBuilder escaped = new StringBuilder(term.length());
+    for (char c : term.toCharArray()) {
+      if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+        escaped.append(LIKE_ESCAPE);
+      }
+      escaped.append(c);
+    }
+    return escaped.toString();
   }
 }
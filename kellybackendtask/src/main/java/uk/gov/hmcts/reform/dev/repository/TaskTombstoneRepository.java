@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.entity.TaskTombstoneEntity;
+
+/** Deleted-task markers consumed by the delta sync endpoint. */
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstoneEntity, Long> {
+
+  List<TaskTombstoneEntity> findByVersionGreaterThanAndVersionLessThanOrderByVersionAsc(
+      Long version, Long below, Pageable pageable);
+
+  @Modifying
+  @Transactional
+  @Query("delete from TaskTombstoneEntity t where t.deletedAt < :cutoff")
+  int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
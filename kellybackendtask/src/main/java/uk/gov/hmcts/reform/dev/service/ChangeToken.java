@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+
+/**
+ * Opaque delta-sync position: the last change version a client has seen, the last task id seen at
+ * that version, and the time the token was issued.
+ *
+ * <p>Bulk status changes stamp a whole chunk of rows with one version, so the id breaks ties and
+ * lets a batch limit fall in the middle of such a chunk. The issue time lets the server detect
+ * tokens older than the tombstone retention window, for which deletions may already have been
+ * pruned and the client must reload in full.
+ */
+public final class ChangeToken {
+  private static final String SEPARATOR = ":";
+
+  private final long version;
+  private final long lastId;
+  private final Instant issuedAt;
+
+  public ChangeToken(long version, long lastId, Instant issuedAt) {
+    this.version = version;
+    this.lastId = lastId;
+    this.issuedAt = issuedAt;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public long getLastId() {
+    return lastId;
+  }
+
+  public Instant getIssuedAt() {
+    return issuedAt;
+  }
+
+  public String encode() {
+    String raw = version + SEPARATOR + lastId + SEPARATOR + issuedAt.toEpochMilli();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parses a token previously produced by {@link #encode()}.
+   *
+   * @throws BadRequestException if the value was not issued by this service
+   */
+  public static ChangeToken decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split(SEPARATOR, 3);
+      if (parts.length != 3) {
+        throw new BadRequestException(TaskConstants.INVALID_CHANGE_TOKEN);
+      }
+      return new ChangeToken(
+          Long.parseLong(parts[0]),
+          Long.parseLong(parts[1]),
+          Instant.ofEpochMilli(Long.parseLong(parts[2])));
+    } catch (IllegalArgumentException ex) {
+      throw new BadRequestException(TaskConstants.INVALID_CHANGE_TOKEN, ex);
+    }
+  }
+}
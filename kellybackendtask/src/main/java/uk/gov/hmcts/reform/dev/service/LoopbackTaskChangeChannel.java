@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.event.TaskChangeNotice;
+
+/**
+ * In-JVM {@link TaskChangeChannel} for databases without LISTEN/NOTIFY (H2 in dev and tests),
+ * where there is only ever one node. Notices go straight to this JVM's subscribers, after commit
+ * when published inside a transaction, as NOTIFY would deliver them; rolled-back ones are dropped.
+ */
+public class LoopbackTaskChangeChannel implements TaskChangeChannel {
+  private final String nodeId;
+  private final List<Consumer<List<TaskChangeNotice>>> subscribers = new CopyOnWriteArrayList<>();
+
+  public LoopbackTaskChangeChannel(String nodeId) {
+    this.nodeId = nodeId;
+  }
+
+  @Override
+  public String nodeId() {
+    return nodeId;
+  }
+
+  @Override
+  public void publish(List<TaskChangeNotice> notices) {
+    if (notices.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      deliver(notices);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            deliver(notices);
+          }
+        });
+  }
+
+  @Override
+  public void subscribe(Consumer<List<TaskChangeNotice>> subscriber) {
+    subscribers.add(subscriber);
+  }
+
+  private void deliver(List<TaskChangeNotice> notices) {
+    for (Consumer<List<TaskChangeNotice>> subscriber : subscribers) {
+      subscriber.accept(notices);
+    }
+  }
+}
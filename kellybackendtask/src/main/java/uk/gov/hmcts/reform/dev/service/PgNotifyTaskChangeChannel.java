@@ -0,0 +1,215 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.event.TaskChangeNotice;
+
+/**
+ * {@link TaskChangeChannel} over PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * <p>Notices are sent with {@code pg_notify} on the caller's connection, so they join its
+ * transaction: PostgreSQL delivers them on commit, drops them on rollback, and collapses identical
+ * ones sent by one transaction. The notices of one {@link #publish} call are packed, one per line,
+ * into as few payloads as fit the NOTIFY size limit and all sent by a single statement. They are
+ * received on a dedicated connection opened outside the pool, by a listener thread started with
+ * the first subscription. Once a notice arrives the thread keeps collecting for {@code
+ * batchWindow}, up to {@link TaskConstants#CHANGE_BATCH_MAX}, and hands subscribers the lot, so a
+ * burst of writes costs one pass over the caches rather than one each.
+ *
+ * <p>Notices sent while the listener is disconnected are lost, so after every (re)connect
+ * subscribers receive a {@link TaskChangeNotice.Operation#BULK} notice from no node.
+ */
+public class PgNotifyTaskChangeChannel implements TaskChangeChannel {
+  private static final Logger log = LoggerFactory.getLogger(PgNotifyTaskChangeChannel.class);
+  private static final String NOTIFY = "SELECT pg_notify(?, payload) FROM unnest(?) AS payload";
+  // NOTIFY rejects payloads of 8000 bytes or more; encoded notices are plain ASCII.
+  private static final int PAYLOAD_MAX = 7_900;
+  private static final String NOTICE_SEPARATOR = "\n";
+  private static final int POLL_MILLIS = 1_000;
+
+  private final String nodeId = UUID.randomUUID().toString();
+  private final JdbcTemplate jdbcTemplate;
+  private final String url;
+  private final String username;
+  private final String password;
+  private final Duration batchWindow;
+  private final Duration reconnectDelay;
+  private final List<Consumer<List<TaskChangeNotice>>> subscribers = new CopyOnWriteArrayList<>();
+  private volatile boolean running = true;
+  private volatile Connection connection;
+  private Thread listener;
+
+  public PgNotifyTaskChangeChannel(
+      JdbcTemplate jdbcTemplate,
+      String url,
+      String username,
+      String password,
+      Duration batchWindow,
+      Duration reconnectDelay) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.url = url;
+    this.username = username;
+    this.password = password;
+    this.batchWindow = batchWindow;
+    this.reconnectDelay = reconnectDelay;
+  }
+
+  @Override
+  public String nodeId() {
+    return nodeId;
+  }
+
+  @Override
+  public void publish(List<TaskChangeNotice> notices) {
+    if (notices.isEmpty()) {
+      return;
+    }
+    String[] payloads = pack(notices);
+    jdbcTemplate.query(
+        NOTIFY,
+        statement -> {
+          statement.setString(1, TaskConstants.CHANGE_NOTIFY_CHANNEL);
+          statement.setArray(2, statement.getConnection().createArrayOf("text", payloads));
+        },
+        (ResultSetExtractor<Void>) results -> null);
+  }
+
+  private static String[] pack(List<TaskChangeNotice> notices) {
+    List<String> payloads = new ArrayList<>();
+    StringBuilder payload = new StringBuilder();
+    for (TaskChangeNotice notice : notices) {
+      String encoded = notice.encode();
+      if (!payload.isEmpty()
+          && payload.length() + NOTICE_SEPARATOR.length() + encoded.length() > PAYLOAD_MAX) {
+        payloads.add(payload.toString());
+        payload.setLength(0);
+      }
+      if (!payload.isEmpty()) {
+        payload.append(NOTICE_SEPARATOR);
+      }
+      payload.append(encoded);
+    }
+    payloads.add(payload.toString());
+    return payloads.toArray(String[]::new);
+  }
+
+  @Override
+  public synchronized void subscribe(Consumer<List<TaskChangeNotice>> subscriber) {
+    subscribers.add(subscriber);
+    if (listener == null && running) {
+      listener = new Thread(this::listen, "task-change-listener");
+      listener.setDaemon(true);
+      listener.start();
+    }
+  }
+
+  public synchronized void close() {
+    running = false;
+    closeQuietly(connection);
+    if (listener != null) {
+      listener.interrupt();
+    }
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection listening = DriverManager.getConnection(url, username, password)) {
+        connection = listening;
+        try (Statement statement = listening.createStatement()) {
+          statement.execute("LISTEN " + TaskConstants.CHANGE_NOTIFY_CHANNEL);
+        }
+        deliver(List.of(TaskChangeNotice.bulk("")));
+        PGConnection notifications = listening.unwrap(PGConnection.class);
+        while (running) {
+          List<TaskChangeNotice> batch = receive(notifications);
+          if (!batch.isEmpty()) {
+            deliver(batch);
+          }
+        }
+      } catch (SQLException exception) {
+        if (running) {
+          log.warn("Task change listener lost its connection; reconnecting", exception);
+          pause();
+        }
+      } catch (RuntimeException exception) {
+        log.error("Task change subscriber failed; reconnecting", exception);
+        pause();
+      }
+    }
+  }
+
+  private List<TaskChangeNotice> receive(PGConnection notifications) throws SQLException {
+    List<TaskChangeNotice> batch = new ArrayList<>();
+    collect(batch, notifications.getNotifications(POLL_MILLIS));
+    if (batch.isEmpty()) {
+      return batch;
+    }
+    long deadline = System.nanoTime() + batchWindow.toNanos();
+    long remaining;
+    while (batch.size() < TaskConstants.CHANGE_BATCH_MAX
+        && (remaining = deadline - System.nanoTime()) > 0) {
+      int waitMillis = (int) Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining));
+      collect(batch, notifications.getNotifications(waitMillis));
+    }
+    return batch;
+  }
+
+  // An unreadable notice still means some task changed, so it degrades to clearing everything.
+  private static void collect(List<TaskChangeNotice> batch, PGNotification[] received) {
+    if (received == null) {
+      return;
+    }
+    for (PGNotification notification : received) {
+      for (String encoded : notification.getParameter().split(NOTICE_SEPARATOR)) {
+        try {
+          batch.add(TaskChangeNotice.decode(encoded));
+        } catch (IllegalArgumentException exception) {
+          log.warn("Malformed task change notice {}", encoded);
+          batch.add(TaskChangeNotice.bulk(""));
+        }
+      }
+    }
+  }
+
+  private void deliver(List<TaskChangeNotice> batch) {
+    for (Consumer<List<TaskChangeNotice>> subscriber : subscribers) {
+      subscriber.accept(batch);
+    }
+  }
+
+  private void pause() {
+    try {
+      Thread.sleep(reconnectDelay.toMillis());
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+
+  private static void closeQuietly(Connection connection) {
+    if (connection == null) {
+      return;
+    }
+    try {
+      connection.close();
+    } catch (SQLException exception) {
+      log.debug("Closing the task change listener connection failed", exception);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+
+/**
+ * Count-based circuit breaker for database reads.
+ *
+ * <p>Closed, it lets every read through and records the last {@link TaskConstants#CIRCUIT_WINDOW}
+ * outcomes, opening once {@link TaskConstants#CIRCUIT_FAILURE_PERCENT} of them failed. Open, it
+ * refuses every read until {@code openDuration} has passed, then lets a single trial read through
+ * (half-open): success closes it with a clean window, failure opens it again.
+ */
+final class ReadCircuitBreaker {
+  private static final Logger log = LoggerFactory.getLogger(ReadCircuitBreaker.class);
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final long openNanos;
+  private final LongSupplier nanoClock;
+  private final boolean[] outcomes = new boolean[TaskConstants.CIRCUIT_WINDOW];
+  private int calls;
+  private int failures;
+  private int next;
+  private State state = State.CLOSED;
+  private long openUntil;
+  private boolean trialInFlight;
+
+  ReadCircuitBreaker(long openNanos, LongSupplier nanoClock) {
+    this.openNanos = openNanos;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Asks to run one read, returning the state it was admitted in, which {@link #record} needs
+   * back, or {@code null} if it must not run.
+   */
+  synchronized State tryAcquire() {
+    if (state == State.CLOSED) {
+      return State.CLOSED;
+    }
+    if (!isTrialDue()) {
+      return null;
+    }
+    state = State.HALF_OPEN;
+    trialInFlight = true;
+    return State.HALF_OPEN;
+  }
+
+  /** Like {@link #tryAcquire}, but admits reads only while closed, never as the trial. */
+  synchronized State tryAcquireClosed() {
+    return state == State.CLOSED ? State.CLOSED : null;
+  }
+
+  /** Records the outcome of a read admitted in state {@code admitted}. */
+  synchronized void record(State admitted, boolean failed) {
+    if (admitted == State.HALF_OPEN) {
+      trialInFlight = false;
+      if (failed) {
+        open();
+      } else {
+        close();
+      }
+      return;
+    }
+    // Reads admitted before the breaker opened say nothing about the trial.
+    if (state != State.CLOSED) {
+      return;
+    }
+    if (calls == outcomes.length) {
+      failures -= outcomes[next] ? 1 : 0;
+    } else {
+      calls++;
+    }
+    outcomes[next] = failed;
+    failures += failed ? 1 : 0;
+    next = (next + 1) % outcomes.length;
+    if (calls >= TaskConstants.CIRCUIT_MIN_CALLS
+        && failures * 100 >= calls * TaskConstants.CIRCUIT_FAILURE_PERCENT) {
+      open();
+    }
+  }
+
+  /** Whether the next read would be admitted as the half-open trial. */
+  synchronized boolean isTrialDue() {
+    return state == State.OPEN
+        ? nanoClock.getAsLong() - openUntil >= 0
+        : state == State.HALF_OPEN && !trialInFlight;
+  }
+
+  synchronized State state() {
+    return state;
+  }
+
+  private void open() {
+    if (state == State.CLOSED) {
+      log.warn("Database reads failing or slow ({} of {}); opening the circuit", failures, calls);
+    }
+    state = State.OPEN;
+    openUntil = nanoClock.getAsLong() + openNanos;
+  }
+
+  private void close() {
+    log.info("Database trial read succeeded; closing the circuit");
+    state = State.CLOSED;
+    calls = 0;
+    failures = 0;
+    next = 0;
+    Arrays.fill(outcomes, false);
+  }
+}
@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+/**
+ * Exports the task table as an Apache Arrow IPC stream for analytics tools.
+ *
+ * <p>Rows are read through a forward-only JDBC cursor and written as record batches of {@link
+ * TaskConstants#ARROW_BATCH_ROWS}, so memory holds one batch regardless of table size. Columns:
+ * {@code id} int64, {@code title} and {@code description} UTF-8, {@code status} dictionary-encoded
+ * (int8 indexes into the {@link Status} names, in declaration order), {@code dueDate} timestamp in
+ * microseconds without time zone, and {@code tasknum} int32.
+ */
+@Service
+public class TaskArrowService {
+  private static final String EXPORT_QUERY =
+      "SELECT id, title, description, CAST(status AS VARCHAR(32)) AS status, duedate, tasknum"
+          + " FROM task ORDER BY id";
+
+  private static final ArrowType.Int STATUS_INDEX_TYPE = new ArrowType.Int(8, true);
+  private static final DictionaryEncoding STATUS_ENCODING =
+      new DictionaryEncoding(0L, false, STATUS_INDEX_TYPE);
+
+  private static final Schema SCHEMA =
+      new Schema(
+          List.of(
+              new Field("id", FieldType.notNullable(new ArrowType.Int(64, true)), null),
+              new Field("title", FieldType.nullable(ArrowType.Utf8.INSTANCE), null),
+              new Field("description", FieldType.nullable(ArrowType.Utf8.INSTANCE), null),
+              new Field(
+                  "status", new FieldType(true, STATUS_INDEX_TYPE, STATUS_ENCODING), null),
+              new Field(
+                  "dueDate",
+                  FieldType.nullable(new ArrowType.Timestamp(TimeUnit.MICROSECOND, null)),
+                  null),
+              new Field("tasknum", FieldType.nullable(new ArrowType.Int(32, true)), null)));
+
+  private final JdbcTemplate jdbcTemplate;
+  private final BufferAllocator allocator = new RootAllocator();
+
+  public TaskArrowService(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @PreDestroy
+  void close() {
+    allocator.close();
+  }
+
+  /** Writes every task, in id order, as one Arrow stream; closes {@code out} when done. */
+  @Transactional(readOnly = true)
+  public void export(OutputStream out) {
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            connection -> {
+              try (BufferAllocator exportAllocator =
+                      allocator.newChildAllocator("task-export", 0, Long.MAX_VALUE);
+                  VarCharVector statusNames = statusDictionary(exportAllocator);
+                  VectorSchemaRoot root = VectorSchemaRoot.create(SCHEMA, exportAllocator);
+                  PreparedStatement statement =
+                      connection.prepareStatement(
+                          EXPORT_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                DictionaryProvider dictionaries =
+                    new DictionaryProvider.MapDictionaryProvider(
+                        new Dictionary(statusNames, STATUS_ENCODING));
+                statement.setFetchSize(TaskConstants.ARROW_BATCH_ROWS);
+                try (ResultSet rows = statement.executeQuery();
+                    ArrowStreamWriter writer =
+                        new ArrowStreamWriter(root, dictionaries, Channels.newChannel(out))) {
+                  writer.start();
+                  writeBatches(rows, root, writer);
+                  writer.end();
+                }
+              } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+              }
+              return null;
+            });
+  }
+
+  private static void writeBatches(ResultSet rows, VectorSchemaRoot root, ArrowStreamWriter writer)
+      throws SQLException, IOException {
+    BigIntVector id = (BigIntVector) root.getVector("id");
+    VarCharVector title = (VarCharVector) root.getVector("title");
+    VarCharVector description = (VarCharVector) root.getVector("description");
+    TinyIntVector status = (TinyIntVector) root.getVector("status");
+    TimeStampMicroVector dueDate = (TimeStampMicroVector) root.getVector("dueDate");
+    IntVector tasknum = (IntVector) root.getVector("tasknum");
+
+    root.allocateNew();
+    int count = 0;
+    while (rows.next()) {
+      id.setSafe(count, rows.getLong("id"));
+      setString(title, count, rows.getString("title"));
+      setString(description, count, rows.getString("description"));
+      String statusName = rows.getString("status");
+      if (statusName == null) {
+        status.setNull(count);
+      } else {
+        status.setSafe(count, Status.valueOf(statusName).ordinal());
+      }
+      Timestamp due = rows.getTimestamp("duedate");
+      if (due == null) {
+        dueDate.setNull(count);
+      } else {
+        Instant instant = due.toLocalDateTime().toInstant(ZoneOffset.UTC);
+        dueDate.setSafe(count, instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000);
+      }
+      int number = rows.getInt("tasknum");
+      if (rows.wasNull()) {
+        tasknum.setNull(count);
+      } else {
+        tasknum.setSafe(count, number);
+      }
+
+      if (++count == TaskConstants.ARROW_BATCH_ROWS) {
+        root.setRowCount(count);
+        writer.writeBatch();
+        root.allocateNew();
+        count = 0;
+      }
+    }
+    if (count > 0) {
+      root.setRowCount(count);
+      writer.writeBatch();
+    }
+  }
+
+  private static void setString(VarCharVector vector, int index, String value) {
+    if (value == null) {
+      vector.setNull(index);
+    } else {
+      vector.setSafe(index, value.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static VarCharVector statusDictionary(BufferAllocator allocator) {
+    VarCharVector names = new VarCharVector("status", allocator);
+    names.allocateNew();
+    for (Status status : Status.values()) {
+      names.setSafe(status.ordinal(), status.name().getBytes(StandardCharsets.UTF_8));
+    }
+    names.setValueCount(Status.values().length);
+    return names;
+  }
+}
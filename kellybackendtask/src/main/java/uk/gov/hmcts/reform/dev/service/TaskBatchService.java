@@ -0,0 +1,213 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.request.TaskBulkRequest;
+import uk.gov.hmcts.reform.dev.dto.request.TaskFilter;
+import uk.gov.hmcts.reform.dev.dto.request.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.response.TaskBatchItemResult;
+import uk.gov.hmcts.reform.dev.dto.response.TaskBatchResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskBulkResponse;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.exception.DatabaseWriteException;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSpecifications;
+
+/**
+ * Bulk task creation, status change and deletion.
+ *
+ * <p>For creation, every entry is validated first with the same constraints as single create;
+ * invalid entries are reported per index and skipped, and the valid ones are inserted together in
+ * one transaction through JDBC batches. Ids come from the pooled {@code task_id_seq} and change
+ * versions are allocated in one query, so a batch costs a handful of round trips rather than
+ * several per row.
+ */
+@Service
+public class TaskBatchService {
+  private static final Logger log = LoggerFactory.getLogger(TaskBatchService.class);
+
+  private final TaskRepository taskRepository;
+  private final TaskMapper taskMapper;
+  private final Validator validator;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final TaskSearchResolver taskSearchResolver;
+
+  public TaskBatchService(
+      TaskRepository taskRepository,
+      TaskMapper taskMapper,
+      Validator validator,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      TaskSearchResolver taskSearchResolver) {
+    this.taskRepository = taskRepository;
+    this.taskMapper = taskMapper;
+    this.validator = validator;
+    this.eventPublisher = eventPublisher;
+    this.taskSearchResolver = taskSearchResolver;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Transactional
+  public TaskBatchResponse createTasks(List<TaskRequest> requests) {
+    if (requests == null
+        || requests.isEmpty()
+        || requests.size() > TaskConstants.MAX_BATCH_CREATE) {
+      throw new BadRequestException(
+          String.format(TaskConstants.INVALID_BATCH_SIZE, TaskConstants.MAX_BATCH_CREATE));
+    }
+
+    TaskBatchItemResult[] results = new TaskBatchItemResult[requests.size()];
+    List<Integer> validIndexes = new ArrayList<>();
+    List<TaskEntity> entities = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      Map<String, String> errors = TaskRequestErrors.of(validator, requests.get(i));
+      if (errors.isEmpty()) {
+        validIndexes.add(i);
+        entities.add(taskMapper.toEntity(requests.get(i)));
+      } else {
+        results[i] = TaskBatchItemResult.builder().index(i).errors(errors).build();
+      }
+    }
+
+    if (!entities.isEmpty()) {
+      insert(entities);
+      for (int j = 0; j < entities.size(); j++) {
+        TaskEntity entity = entities.get(j);
+        int index = validIndexes.get(j);
+        results[index] =
+            TaskBatchItemResult.builder().index(index).created(true).id(entity.getId()).build();
+        eventPublisher.publishEvent(TaskChangedEvent.created(taskMapper.toResponse(entity)));
+      }
+    }
+
+    return TaskBatchResponse.builder()
+        .created(entities.size())
+        .rejected(requests.size() - entities.size())
+        .results(List.of(results))
+        .build();
+  }
+
+  /**
+   * Moves every targeted task to {@code request.status}. Rows already in that status are left
+   * alone. Runs as one set-based UPDATE per id-range chunk, each in its own transaction, so locks
+   * are held for one chunk at a time; a failure part-way leaves earlier chunks committed.
+   */
+  public TaskBulkResponse updateStatus(TaskBulkRequest request) {
+    Status status = request.getStatus();
+    if (status == null) {
+      throw new BadRequestException(TaskConstants.STATUS_REQUIRED);
+    }
+    Specification<TaskEntity> spec =
+        target(request)
+            .and(
+                (root, query, criteriaBuilder) ->
+                    criteriaBuilder.or(
+                        criteriaBuilder.isNull(root.get("status")),
+                        criteriaBuilder.notEqual(root.get("status"), status)));
+    long affected =
+        forEachChunk(
+            spec,
+            ids ->
+                taskRepository.updateStatusInRange(
+                    spec,
+                    ids.getFirst(),
+                    ids.getLast(),
+                    status,
+                    taskRepository.nextChangeVersion()));
+    eventPublisher.publishEvent(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.STATUS_CHANGED, affected));
+    return new TaskBulkResponse(affected);
+  }
+
+  /**
+   * Deletes every targeted task, one set-based DELETE per id-range chunk, writing tombstones so
+   * delta-sync clients see the removals.
+   */
+  public TaskBulkResponse delete(TaskBulkRequest request) {
+    long affected = forEachChunk(target(request), taskRepository::deleteWithTombstones);
+    eventPublisher.publishEvent(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.DELETED, affected));
+    return new TaskBulkResponse(affected);
+  }
+
+  private Specification<TaskEntity> target(TaskBulkRequest request) {
+    List<Long> ids = request.getIds();
+    TaskFilter filter = request.getFilter();
+    boolean validIds =
+        ids != null && !ids.isEmpty() && ids.size() <= TaskConstants.MAX_BULK_IDS;
+    boolean validFilter = filter != null && filter.hasCriteria();
+    // Exactly one target, and it must be usable: an empty filter would otherwise mean every task.
+    if ((ids == null) == (filter == null) || !(validIds || validFilter)) {
+      throw new BadRequestException(
+          String.format(TaskConstants.INVALID_BULK_TARGET, TaskConstants.MAX_BULK_IDS));
+    }
+    return validIds
+        ? TaskSpecifications.idIn(ids)
+        : TaskSpecifications.matching(taskSearchResolver.resolve(filter));
+  }
+
+  /**
+   * Walks the matching ids in ascending chunks of {@link TaskConstants#BULK_CHUNK_SIZE}, locking
+   * each chunk and applying {@code action} to it in a transaction of its own.
+   */
+  private long forEachChunk(Specification<TaskEntity> spec, ToIntFunction<List<Long>> action) {
+    long affected = 0;
+    long afterId = 0;
+    while (true) {
+      long from = afterId;
+      long[] chunk =
+          transactionTemplate.execute(
+              tx -> {
+                List<Long> ids =
+                    taskRepository.lockIdChunk(spec, from, TaskConstants.BULK_CHUNK_SIZE);
+                return ids.isEmpty()
+                    ? null
+                    : new long[] {ids.getLast(), action.applyAsInt(ids)};
+              });
+      if (chunk == null) {
+        return affected;
+      }
+      afterId = chunk[0];
+      affected += chunk[1];
+    }
+  }
+
+  private void insert(List<TaskEntity> entities) {
+    try {
+      long[] versions = taskRepository.nextChangeVersions(entities.size());
+      LocalDateTime now = LocalDateTime.now();
+      for (int j = 0; j < entities.size(); j++) {
+        entities.get(j).setChangeVersion(versions[j]);
+        entities.get(j).setUpdatedAt(now);
+      }
+      taskRepository.insertInBatches(entities);
+    } catch (DataAccessException exception) {
+      log.error(
+          "Database write failure while creating {} tasks: {}",
+          entities.size(),
+          exception.getMessage(),
+          exception);
+      throw new DatabaseWriteException(TaskConstants.DATABASE_WRITE_ERROR, exception);
+    }
+  }
+}
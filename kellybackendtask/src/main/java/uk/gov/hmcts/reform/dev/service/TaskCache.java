@@ -0,0 +1,121 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+
+/**
+ * Read-through cache of single tasks by id, so repeated detail reads skip the connection pool.
+ *
+ * <p>Bounded by {@code task.cache.max-size} (default 10,000) and expired {@code task.cache.ttl}
+ * (default one minute) after being written. The TTL bounds how long writes made by other nodes stay
+ * invisible. This node's writes arrive as {@link TaskChangedEvent}s after commit: creates and
+ * updates replace the entry with the new image unless the cached one has a higher version, and
+ * deletes drop it. Bulk status changes and deletes carry no images and clear the cache. Missing ids
+ * are not cached. Entries are shared and must not be modified.
+ *
+ * <p>Writes on other nodes are applied through {@link TaskCacheSync}, once their notices arrive.
+ */
+@Component
+public class TaskCache {
+  private final Cache<Long, TaskResponse> cache;
+  private final long maximumSize;
+
+  @Autowired
+  public TaskCache(
+      @Value("${task.cache.max-size:10000}") long maximumSize,
+      @Value("${task.cache.ttl:PT1M}") Duration ttl) {
+    this(maximumSize, ttl, Ticker.systemTicker());
+  }
+
+  TaskCache(long maximumSize, Duration ttl, Ticker ticker) {
+    this.maximumSize = maximumSize;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Returns the task with {@code id}, calling {@code loader} on a miss. Concurrent misses for one
+   * id share a single load; a {@code null} from the loader is returned and not cached.
+   */
+  public TaskResponse get(long id, LongFunction<TaskResponse> loader) {
+    return cache.get(id, key -> loader.apply(key));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    TaskResponse current = event.getCurrent();
+    if (current == null) {
+      cache.invalidate(event.getTaskId());
+      return;
+    }
+    // Waits for an in-flight load of the same id, so a read that began before the write cannot
+    // overwrite the newer image afterwards.
+    cache
+        .asMap()
+        .compute(current.getId(), (id, cached) -> isOlder(cached, current) ? current : cached);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+    if (event.getAffected() > 0
+        && event.getOperation() != TasksBulkChangedEvent.Operation.IMPORTED) {
+      cache.invalidateAll();
+    }
+  }
+
+  public void invalidate(long id) {
+    cache.invalidate(id);
+  }
+
+  /** Drops the entry for {@code id} unless it already reflects {@code version} or a later one. */
+  public void invalidateBefore(long id, long version) {
+    cache
+        .asMap()
+        .computeIfPresent(
+            id,
+            (key, cached) ->
+                cached.getVersion() != null && cached.getVersion() >= version ? cached : null);
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /** Hit, miss and eviction counts since startup, with the current and maximum size. */
+  public Map<String, Object> stats() {
+    CacheStats stats = cache.stats();
+    Map<String, Object> out = new LinkedHashMap<>();
+    out.put("size", cache.estimatedSize());
+    out.put("maxSize", maximumSize);
+    out.put("hits", stats.hitCount());
+    out.put("misses", stats.missCount());
+    out.put("hitRate", stats.hitRate());
+    out.put("evictions", stats.evictionCount());
+    return out;
+  }
+
+  private static boolean isOlder(TaskResponse cached, TaskResponse current) {
+    return cached == null
+        || cached.getVersion() == null
+        || current.getVersion() == null
+        || cached.getVersion() <= current.getVersion();
+  }
+}
@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.event.TaskChangeNotice;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+
+/**
+ * Keeps this node's caches, search index, suggestions and statistics in step with writes committed
+ * by the other nodes.
+ *
+ * <p>Every write records a {@link TaskChangeNotice}, and a transaction publishes all of its
+ * notices on the {@link TaskChangeChannel} together just before it commits, so they are sent
+ * exactly when the writes are and cost the writer one extra statement however many rows it
+ * touched. A transaction with more than {@link TaskConstants#CHANGE_BATCH_MAX} notices, or with a
+ * bulk change, sends a single bulk notice instead. Notices from other nodes then drop cached and
+ * last-good tasks older than the version they name, make stale only the cached searches of the
+ * statuses the write moved the task between, adjust the status counters, re-read the titles of the
+ * tasks named for suggestions and have the search index catch up by change version. A notice
+ * holding a bulk change makes every search stale, clears the task caches, reloads suggestions and
+ * reconciles the counters in the background; a batch of more than {@link
+ * TaskConstants#CHANGE_TARGETED_MAX} notices clears the task cache outright. This node's own
+ * notices are skipped; it applied the write from the event.
+ */
+@Component
+public class TaskCacheSync {
+  private final TaskChangeChannel channel;
+  private final TaskCache taskCache;
+  private final TaskSearchCache searchCache;
+  private final TaskReadGuard readGuard;
+  private final TaskStatsService statsService;
+  private final TaskFullTextService fullTextService;
+  private final TaskSuggestService suggestService;
+
+  public TaskCacheSync(
+      TaskChangeChannel channel,
+      TaskCache taskCache,
+      TaskSearchCache searchCache,
+      TaskReadGuard readGuard,
+      TaskStatsService statsService,
+      TaskFullTextService fullTextService,
+      TaskSuggestService suggestService) {
+    this.channel = channel;
+    this.taskCache = taskCache;
+    this.searchCache = searchCache;
+    this.readGuard = readGuard;
+    this.statsService = statsService;
+    this.fullTextService = fullTextService;
+    this.suggestService = suggestService;
+  }
+
+  @PostConstruct
+  void subscribe() {
+    channel.subscribe(this::apply);
+  }
+
+  @EventListener
+  public void onTaskChanged(TaskChangedEvent event) {
+    record(TaskChangeNotice.of(channel.nodeId(), event));
+  }
+
+  @EventListener
+  public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+    if (event.getAffected() > 0) {
+      record(TaskChangeNotice.bulk(channel.nodeId()));
+    }
+  }
+
+  private void record(TaskChangeNotice notice) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      channel.publish(List.of(notice));
+      return;
+    }
+    PendingNotices pending =
+        TransactionSynchronizationManager.getSynchronizations().stream()
+            .filter(PendingNotices.class::isInstance)
+            .map(PendingNotices.class::cast)
+            .findFirst()
+            .orElseGet(
+                () -> {
+                  PendingNotices created = new PendingNotices();
+                  TransactionSynchronizationManager.registerSynchronization(created);
+                  return created;
+                });
+    pending.add(notice);
+  }
+
+  void apply(List<TaskChangeNotice> notices) {
+    List<TaskChangeNotice> remote =
+        notices.stream().filter(notice -> !channel.nodeId().equals(notice.getOrigin())).toList();
+    if (remote.isEmpty()) {
+      return;
+    }
+    fullTextService.scheduleCatchUp();
+    if (remote.stream()
+        .anyMatch(notice -> notice.getOperation() == TaskChangeNotice.Operation.BULK)) {
+      searchCache.invalidateAll();
+      taskCache.invalidateAll();
+      readGuard.forgetTasks();
+      suggestService.reload();
+      statsService.reconcileLater();
+      return;
+    }
+    boolean targeted = remote.size() <= TaskConstants.CHANGE_TARGETED_MAX;
+    if (!targeted) {
+      taskCache.invalidateAll();
+    }
+    List<Long> ids = new ArrayList<>(remote.size());
+    for (TaskChangeNotice notice : remote) {
+      ids.add(notice.getTaskId());
+      searchCache.invalidate(notice.getPreviousStatus(), notice.getCurrentStatus());
+      statsService.apply(notice);
+      if (notice.getOperation() == TaskChangeNotice.Operation.DELETED) {
+        readGuard.forgetTask(notice.getTaskId());
+        if (targeted) {
+          taskCache.invalidate(notice.getTaskId());
+        }
+      } else {
+        readGuard.forgetTaskBefore(notice.getTaskId(), notice.getVersion());
+        if (targeted) {
+          taskCache.invalidateBefore(notice.getTaskId(), notice.getVersion());
+        }
+      }
+    }
+    suggestService.refresh(ids);
+  }
+
+  /** Collects the notices of one transaction and publishes them as it commits. */
+  private final class PendingNotices implements TransactionSynchronization {
+    private final List<TaskChangeNotice> notices = new ArrayList<>();
+    private boolean bulk;
+
+    void add(TaskChangeNotice notice) {
+      if (bulk) {
+        return;
+      }
+      if (notice.getOperation() == TaskChangeNotice.Operation.BULK
+          || notices.size() == TaskConstants.CHANGE_BATCH_MAX) {
+        bulk = true;
+        notices.clear();
+        notices.add(TaskChangeNotice.bulk(channel.nodeId()));
+        return;
+      }
+      notices.add(notice);
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      channel.publish(List.copyOf(notices));
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+import uk.gov.hmcts.reform.dev.event.TaskChangeNotice;
+
+/**
+ * Broadcasts {@link TaskChangeNotice}s to every node sharing the database, this one included.
+ *
+ * <p>Notices published inside a transaction are delivered only if and after that transaction
+ * commits; a transaction should publish all of its notices in one call. Subscribers receive
+ * notices in batches, in commit order, possibly on a thread of the channel's own; a batch is small
+ * unless writes arrive faster than they are applied.
+ */
+public interface TaskChangeChannel {
+
+  /** Identifies this node as the origin of the notices it publishes. */
+  String nodeId();
+
+  void publish(List<TaskChangeNotice> notices);
+
+  void subscribe(Consumer<List<TaskChangeNotice>> subscriber);
+}
@@ -0,0 +1,174 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskChangesResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.entity.TaskTombstoneEntity;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskTombstoneRepository;
+
+/**
+ * Delta sync over the shared change-version sequence.
+ *
+ * <p>Versions are drawn when a row is written but transactions commit in their own order, so a
+ * version can become visible after a higher one. Reads therefore stop below the repository's
+ * change watermark, the lowest version a transaction still in flight may hold; a change that
+ * commits late is returned by a later call rather than skipped. Live rows and tombstones below the
+ * watermark are merged in version order, so the returned token stays exact when the batch limit
+ * cuts the result short. Tombstones older than {@code task.changes.tombstone-retention} are pruned;
+ * tokens issued before that horizon are answered with {@code resyncRequired}. Each call reads
+ * through the {@link TaskReadGuard}, in one of its read-only transactions.
+ */
+@Service
+public class TaskChangesService {
+  private static final Logger log = LoggerFactory.getLogger(TaskChangesService.class);
+
+  private final TaskRepository taskRepository;
+  private final TaskTombstoneRepository tombstoneRepository;
+  private final TaskMapper taskMapper;
+  private final TaskReadGuard readGuard;
+  private final Duration tombstoneRetention;
+  private final Clock clock;
+
+  @Autowired
+  public TaskChangesService(
+      TaskRepository taskRepository,
+      TaskTombstoneRepository tombstoneRepository,
+      TaskMapper taskMapper,
+      TaskReadGuard readGuard,
+      @Value("${task.changes.tombstone-retention:P7D}") Duration tombstoneRetention) {
+    this(
+        taskRepository,
+        tombstoneRepository,
+        taskMapper,
+        readGuard,
+        tombstoneRetention,
+        Clock.systemUTC());
+  }
+
+  TaskChangesService(
+      TaskRepository taskRepository,
+      TaskTombstoneRepository tombstoneRepository,
+      TaskMapper taskMapper,
+      TaskReadGuard readGuard,
+      Duration tombstoneRetention,
+      Clock clock) {
+    this.taskRepository = taskRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.taskMapper = taskMapper;
+    this.readGuard = readGuard;
+    this.tombstoneRetention = tombstoneRetention;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the changes after {@code since}, or only a starting token when {@code since} is
+   * absent. Clients should fetch that token before their initial full load so no write falls
+   * between the two.
+   */
+  public TaskChangesResponse getChangesSince(String since, Integer limit) {
+    Instant now = clock.instant();
+    return readGuard.call(() -> changesSince(since, limit, now));
+  }
+
+  private TaskChangesResponse changesSince(String since, Integer limit, Instant now) {
+    // Read before any rows so everything below it is already committed or gone.
+    long watermark = taskRepository.changeWatermark();
+    if (since == null || since.isBlank()) {
+      return TaskChangesResponse.builder()
+          .changed(List.of())
+          .deleted(List.of())
+          .token(new ChangeToken(watermark - 1, Long.MAX_VALUE, now).encode())
+          .build();
+    }
+
+    ChangeToken token = ChangeToken.decode(since);
+    if (token.getIssuedAt().isBefore(now.minus(tombstoneRetention))) {
+      return TaskChangesResponse.builder()
+          .changed(List.of())
+          .deleted(List.of())
+          .token(new ChangeToken(watermark - 1, Long.MAX_VALUE, now).encode())
+          .resyncRequired(true)
+          .build();
+    }
+
+    int batchSize = resolveLimit(limit);
+    PageRequest window = PageRequest.ofSize(batchSize + 1);
+    List<TaskEntity> rows =
+        taskRepository.findChangedAfter(token.getVersion(), token.getLastId(), watermark, window);
+    List<TaskTombstoneEntity> tombstones =
+        tombstoneRepository.findByVersionGreaterThanAndVersionLessThanOrderByVersionAsc(
+            token.getVersion(), watermark, window);
+
+    // Merge both version-ordered lists and stop at the batch size so the token is exact.
+    List<TaskResponse> changed = new ArrayList<>();
+    List<Long> deleted = new ArrayList<>();
+    long lastVersion = token.getVersion();
+    long lastId = token.getLastId();
+    int r = 0;
+    int t = 0;
+    while (changed.size() + deleted.size() < batchSize
+        && (r < rows.size() || t < tombstones.size())) {
+      boolean takeRow =
+          t >= tombstones.size()
+              || (r < rows.size()
+                  && rows.get(r).getChangeVersion() < tombstones.get(t).getVersion());
+      if (takeRow) {
+        TaskEntity row = rows.get(r++);
+        changed.add(taskMapper.toResponse(row));
+        lastVersion = row.getChangeVersion();
+        lastId = row.getId();
+      } else {
+        TaskTombstoneEntity tombstone = tombstones.get(t++);
+        deleted.add(tombstone.getTaskId());
+        lastVersion = tombstone.getVersion();
+        // Tombstone versions are never shared with rows, so nothing else remains at this version.
+        lastId = Long.MAX_VALUE;
+      }
+    }
+
+    return TaskChangesResponse.builder()
+        .changed(changed)
+        .deleted(deleted)
+        .token(new ChangeToken(lastVersion, lastId, now).encode())
+        .hasMore(r < rows.size() || t < tombstones.size())
+        .build();
+  }
+
+  @Scheduled(
+      initialDelayString = "${task.changes.prune-interval:PT1H}",
+      fixedDelayString = "${task.changes.prune-interval:PT1H}")
+  public void pruneTombstones() {
+    LocalDateTime cutoff = LocalDateTime.now(clock).minus(tombstoneRetention);
+    int removed = tombstoneRepository.deleteOlderThan(cutoff);
+    if (removed > 0) {
+      log.info("Pruned {} task tombstones older than {}", removed, cutoff);
+    }
+  }
+
+  private static int resolveLimit(Integer limit) {
+    if (limit == null) {
+      return TaskConstants.MAX_PAGE_SIZE;
+    }
+    if (limit < 1) {
+      throw new BadRequestException(TaskConstants.INVALID_LIMIT);
+    }
+    return Math.min(limit, TaskConstants.MAX_PAGE_SIZE);
+  }
+}
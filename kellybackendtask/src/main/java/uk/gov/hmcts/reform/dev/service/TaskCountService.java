@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.dto.request.TaskFilter;
+import uk.gov.hmcts.reform.dev.dto.response.TaskCount;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+
+/**
+ * Totals for {@code HEAD} requests, which paginated clients send to size their pager.
+ *
+ * <p>An exact count of a broad filter reads every matching row, so unfiltered and status-only
+ * totals come from the {@link TaskStatsService} counters instead and are reported as estimates.
+ * Any other filter, or {@code exact}, runs the precompiled COUNT query for the search's shape,
+ * through the {@link TaskReadGuard} like any other read.
+ */
+@Service
+public class TaskCountService {
+  private final TaskRepository taskRepository;
+  private final TaskSearchResolver taskSearchResolver;
+  private final TaskStatsService taskStatsService;
+  private final TaskReadGuard readGuard;
+
+  public TaskCountService(
+      TaskRepository taskRepository,
+      TaskSearchResolver taskSearchResolver,
+      TaskStatsService taskStatsService,
+      TaskReadGuard readGuard) {
+    this.taskRepository = taskRepository;
+    this.taskSearchResolver = taskSearchResolver;
+    this.taskStatsService = taskStatsService;
+    this.readGuard = readGuard;
+  }
+
+  public TaskCount count(TaskFilter filter, boolean exact) {
+    TaskSearch search = taskSearchResolver.resolve(filter);
+    if (!exact && search.isStatusOnly()) {
+      return new TaskCount(taskStatsService.estimatedCount(search.getStatus()), false);
+    }
+    return new TaskCount(readGuard.call(() -> taskRepository.countSearch(search)), true);
+  }
+}
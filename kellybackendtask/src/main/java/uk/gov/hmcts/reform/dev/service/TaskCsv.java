@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV in the dialect of PostgreSQL {@code COPY ... WITH (FORMAT csv)}, so the H2 fallback reads and
+ * writes exactly what the COPY path does: an unquoted empty field is NULL, a quoted one is an empty
+ * string, and timestamps look like {@code 2025-01-31 09:30:00}.
+ */
+final class TaskCsv {
+  static final String HEADER = "id,title,description,status,duedate,tasknum";
+
+  static final DateTimeFormatter TIMESTAMP =
+      new DateTimeFormatterBuilder()
+          .appendPattern("yyyy-MM-dd HH:mm:ss")
+          .optionalStart()
+          .appendFraction(ChronoField.NANO_OF_SECOND, 0, 6, true)
+          .toFormatter();
+
+  private TaskCsv() {}
+
+  /** Reads one record, or returns {@code null} at end of input. Quoted fields may span lines. */
+  static List<String> readRecord(BufferedReader reader) throws IOException {
+    int c = reader.read();
+    if (c == -1) {
+      return null;
+    }
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    boolean inQuotes = false;
+    while (true) {
+      if (inQuotes) {
+        if (c == -1) {
+          throw new IOException("Unterminated quoted CSV field");
+        }
+        if (c == '"') {
+          reader.mark(1);
+          int next = reader.read();
+          if (next == '"') {
+            field.append('"');
+          } else {
+            inQuotes = false;
+            c = next;
+            continue;
+          }
+        } else {
+          field.append((char) c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+        inQuotes = true;
+      } else if (c == ',' || c == '\n' || c == '\r' || c == -1) {
+        fields.add(field.isEmpty() && !quoted ? null : field.toString());
+        field.setLength(0);
+        quoted = false;
+        if (c == '\r') {
+          reader.mark(1);
+          if (reader.read() != '\n') {
+            reader.reset();
+          }
+        }
+        if (c != ',') {
+          return fields;
+        }
+      } else {
+        field.append((char) c);
+      }
+      c = reader.read();
+    }
+  }
+
+  /** Writes one record followed by a newline; {@code null} values become empty unquoted fields. */
+  static void writeRecord(Writer writer, Object... values) throws IOException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      Object value = values[i];
+      if (value == null) {
+        continue;
+      }
+      String text =
+          value instanceof LocalDateTime timestamp ? TIMESTAMP.format(timestamp) : value.toString();
+      if (text.isEmpty() || text.chars().anyMatch(ch -> ch == ',' || ch == '"' || ch < ' ')) {
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+      } else {
+        writer.write(text);
+      }
+    }
+    writer.write('\n');
+  }
+
+  /** Parses a COPY-style timestamp; the ISO {@code T} separator is accepted too. */
+  static LocalDateTime parseTimestamp(String text) {
+    return LocalDateTime.parse(text.replace('T', ' '), TIMESTAMP);
+  }
+}
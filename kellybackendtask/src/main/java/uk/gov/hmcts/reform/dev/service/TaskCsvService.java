@@ -0,0 +1,243 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import org.postgresql.PGConnection;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskBulkResponse;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+/**
+ * CSV import and export of the whole task table.
+ *
+ * <p>On PostgreSQL both directions use {@code COPY} through the driver's {@link
+ * org.postgresql.copy.CopyManager}, piping bytes between the servlet stream and the connection
+ * without creating entities. Imports land in a temporary staging table first so the status can be
+ * cast to {@code status_enum} in SQL and required columns checked before anything reaches {@code
+ * task}. Other databases (H2 in dev and tests) fall back to batched inserts and a forward-only
+ * select that produce and accept the same CSV.
+ *
+ * <p>An import is all or nothing. Ids in the file are ignored; rows get new ids and change
+ * versions. Unlike single create, due dates in the past are accepted so history can be loaded.
+ * The transaction registers as a change writer, which holds back the change watermark until it
+ * commits, only once rows start reaching {@code task}: on PostgreSQL for the single insert from
+ * the staging table, so a slow upload never stalls change feeds, elsewhere from the first batch.
+ */
+@Service
+public class TaskCsvService {
+  private static final String EXPORT_QUERY =
+      "SELECT id, title, description, CAST(status AS VARCHAR(32)) AS status, duedate, tasknum"
+          + " FROM task ORDER BY id";
+  private static final String COPY_OUT =
+      "COPY (" + EXPORT_QUERY + ") TO STDOUT WITH (FORMAT csv, HEADER true)";
+  private static final String CREATE_STAGING =
+      "CREATE TEMPORARY TABLE task_import (id BIGINT, title TEXT, description TEXT, status TEXT,"
+          + " duedate TIMESTAMP(6), tasknum INTEGER) ON COMMIT DROP";
+  private static final String COPY_IN =
+      "COPY task_import FROM STDIN WITH (FORMAT csv, HEADER true)";
+  private static final String COUNT_INCOMPLETE =
+      "SELECT count(*) FROM task_import"
+          + " WHERE title IS NULL OR status IS NULL OR duedate IS NULL";
+  private static final String INSERT_FROM_STAGING =
+      "INSERT INTO task (title, description, status, duedate, tasknum)"
+          + " SELECT title, description, CAST(status AS status_enum), duedate, tasknum"
+          + " FROM task_import";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TaskRepository taskRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public TaskCsvService(
+      JdbcTemplate jdbcTemplate,
+      TaskRepository taskRepository,
+      ApplicationEventPublisher eventPublisher) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.taskRepository = taskRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /** Writes every task as CSV with a header row, in id order. */
+  @Transactional(readOnly = true)
+  public void exportCsv(OutputStream out) {
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            connection -> {
+              try {
+                if (connection.isWrapperFor(PGConnection.class)) {
+                  connection.unwrap(PGConnection.class).getCopyAPI().copyOut(COPY_OUT, out);
+                } else {
+                  writeRows(connection, out);
+                }
+              } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+              }
+              return null;
+            });
+  }
+
+  /** Loads tasks from CSV in the export layout and returns how many were inserted. */
+  @Transactional
+  public TaskBulkResponse importCsv(InputStream in) {
+    Long imported =
+        jdbcTemplate.execute(
+            (ConnectionCallback<Long>)
+                connection -> {
+                  try {
+                    return connection.isWrapperFor(PGConnection.class)
+                        ? copyIn(connection, in)
+                        : insertRows(in);
+                  } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                  }
+                });
+    long affected = imported == null ? 0 : imported;
+    eventPublisher.publishEvent(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.IMPORTED, affected));
+    return new TaskBulkResponse(affected);
+  }
+
+  private long copyIn(Connection connection, InputStream in)
+      throws SQLException, IOException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(CREATE_STAGING);
+      connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_IN, in);
+      try (ResultSet incomplete = statement.executeQuery(COUNT_INCOMPLETE)) {
+        incomplete.next();
+        if (incomplete.getLong(1) > 0) {
+          throw new BadRequestException(
+              String.format(
+                  TaskConstants.INVALID_CSV,
+                  incomplete.getLong(1) + " rows are missing title, status or duedate"));
+        }
+      }
+      // Inserted rows take their versions from the column default, so register before any are
+      // drawn; the upload itself has not held back the watermark.
+      taskRepository.registerChangeWriter();
+      return statement.executeUpdate(INSERT_FROM_STAGING);
+    } catch (SQLException exception) {
+      // Class 22 is bad data (unknown status, over-long title, unparseable date), 23 a constraint.
+      String state = exception.getSQLState();
+      if (state != null && (state.startsWith("22") || state.startsWith("23"))) {
+        throw new BadRequestException(
+            String.format(TaskConstants.INVALID_CSV, exception.getMessage()), exception);
+      }
+      throw exception;
+    }
+  }
+
+  private long insertRows(InputStream in) throws IOException {
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    if (TaskCsv.readRecord(reader) == null) {
+      return 0;
+    }
+    long imported = 0;
+    long recordNumber = 0;
+    List<TaskEntity> batch = new ArrayList<>(TaskConstants.INSERT_BATCH_SIZE);
+    List<String> fields;
+    while ((fields = TaskCsv.readRecord(reader)) != null) {
+      recordNumber++;
+      if (fields.size() == 1 && fields.get(0) == null) {
+        continue;
+      }
+      batch.add(toEntity(fields, recordNumber));
+      if (batch.size() == TaskConstants.INSERT_BATCH_SIZE) {
+        imported += insert(batch);
+        batch = new ArrayList<>(TaskConstants.INSERT_BATCH_SIZE);
+      }
+    }
+    return batch.isEmpty() ? imported : imported + insert(batch);
+  }
+
+  private int insert(List<TaskEntity> batch) {
+    long[] versions = taskRepository.nextChangeVersions(batch.size());
+    LocalDateTime now = LocalDateTime.now();
+    for (int j = 0; j < batch.size(); j++) {
+      batch.get(j).setChangeVersion(versions[j]);
+      batch.get(j).setUpdatedAt(now);
+    }
+    taskRepository.insertInBatches(batch);
+    return batch.size();
+  }
+
+  private static TaskEntity toEntity(List<String> fields, long recordNumber) {
+    try {
+      if (fields.size() != 6) {
+        throw new IllegalArgumentException("expected 6 fields but found " + fields.size());
+      }
+      String title = fields.get(1);
+      String description = fields.get(2);
+      if (title == null || fields.get(3) == null || fields.get(4) == null) {
+        throw new IllegalArgumentException("title, status and duedate are required");
+      }
+      if (title.length() > TaskConstants.MAX_TITLE_LENGTH
+          || (description != null
+              && description.length() > TaskConstants.MAX_DESCRIPTION_LENGTH)) {
+        throw new IllegalArgumentException("title or description is too long");
+      }
+      return TaskEntity.builder()
+          .title(title)
+          .description(description)
+          .status(Status.valueOf(fields.get(3)))
+          .dueDate(TaskCsv.parseTimestamp(fields.get(4)))
+          .tasknum(fields.get(5) == null ? null : Integer.valueOf(fields.get(5)))
+          .build();
+    } catch (IllegalArgumentException | DateTimeParseException exception) {
+      throw new BadRequestException(
+          String.format(TaskConstants.INVALID_CSV_RECORD, recordNumber, exception.getMessage()));
+    }
+  }
+
+  private static void writeRows(Connection connection, OutputStream out)
+      throws SQLException, IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    writer.write(TaskCsv.HEADER);
+    writer.write('\n');
+    try (PreparedStatement statement =
+        connection.prepareStatement(
+            EXPORT_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+      statement.setFetchSize(TaskConstants.STREAM_FETCH_SIZE);
+      try (ResultSet rows = statement.executeQuery()) {
+        while (rows.next()) {
+          Timestamp dueDate = rows.getTimestamp("duedate");
+          TaskCsv.writeRecord(
+              writer,
+              rows.getLong("id"),
+              rows.getString("title"),
+              rows.getString("description"),
+              rows.getString("status"),
+              dueDate == null ? null : dueDate.toLocalDateTime(),
+              rows.getObject("tasknum"));
+        }
+      }
+    }
+    writer.flush();
+  }
+}
@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+
+/**
+ * Opaque keyset position for paging through tasks ordered by {@code (dueDate, id)}.
+ *
+ * <p>Encoded as URL-safe Base64 of {@code <dueDate>|<id>}; an empty due date marks a position
+ * inside the trailing block of undated tasks. Clients must treat the value as opaque.
+ */
+public final class TaskCursor {
+  private static final String SEPARATOR = "|";
+
+  private final LocalDateTime dueDate;
+  private final Long id;
+
+  private TaskCursor(LocalDateTime dueDate, Long id) {
+    this.dueDate = dueDate;
+    this.id = id;
+  }
+
+  public LocalDateTime getDueDate() {
+    return dueDate;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  /** Builds the cursor that resumes immediately after the given row. */
+  public static String encode(TaskEntity last) {
+    String raw =
+        (last.getDueDate() == null ? "" : last.getDueDate().toString())
+            + SEPARATOR
+            + last.getId();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parses a cursor previously produced by {@link #encode(TaskEntity)}.
+   *
+   * @throws BadRequestException if the value was not issued by this service
+   */
+  public static TaskCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int idx = raw.lastIndexOf(SEPARATOR);
+      if (idx < 0) {
+        throw new BadRequestException(TaskConstants.INVALID_CURSOR);
+      }
+      String datePart = raw.substring(0, idx);
+      LocalDateTime dueDate = datePart.isEmpty() ? null : LocalDateTime.parse(datePart);
+      return new TaskCursor(dueDate, Long.valueOf(raw.substring(idx + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException ex) {
+      throw new BadRequestException(TaskConstants.INVALID_CURSOR, ex);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.ServiceUnavailableException;
+
+/**
+ * Strong ETags for task reads.
+ *
+ * <p>Validators must be cheap enough to check on every poll: a task's ETag is the {@code
+ * change_version} it was read with, so it costs no query, and a collection's ETag, a single-row
+ * lookup over plain JDBC, combines the committed write count with a hash of the request so
+ * different filters and representations never share a validator. The highest change version
+ * would not do for collections: a transaction that commits late with a lower version leaves it
+ * unchanged, while every write transaction bumps the counter row as it commits.
+ */
+@Service
+public class TaskEtagService {
+  private static final String TABLE_VERSION_SQL =
+      "SELECT COALESCE(MAX(writes), 0) FROM task_write_counter";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TaskReadGuard readGuard;
+
+  public TaskEtagService(JdbcTemplate jdbcTemplate, TaskReadGuard readGuard) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.readGuard = readGuard;
+  }
+
+  /** Returns the ETag of a task already read, or {@code null} when it carries no version. */
+  public static String taskEtag(TaskResponse task) {
+    return task.getVersion() == null ? null : versionEtag(task.getVersion());
+  }
+
+  /**
+   * Returns the ETag for a collection read, or {@code null} while the database is unavailable or
+   * the read breaker is not closed, so the read itself answers, from last-known-good results if
+   * need be; the lookup is never the breaker's trial read.
+   *
+   * @param requestKey everything that shapes the response: path, query string and representation
+   */
+  public String collectionEtag(String requestKey) {
+    Long tableVersion;
+    try {
+      tableVersion =
+          readGuard.callWhileClosed(
+              () -> jdbcTemplate.queryForObject(TABLE_VERSION_SQL, Long.class));
+    } catch (ServiceUnavailableException | DataAccessException exception) {
+      return null;
+    }
+    String hash = DigestUtils.md5DigestAsHex(requestKey.getBytes(StandardCharsets.UTF_8));
+    return "\"t" + tableVersion + "-" + hash.substring(0, 16) + "\"";
+  }
+
+  private static String versionEtag(long version) {
+    return "\"v" + version + "\"";
+  }
+}
@@ -0,0 +1,210 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskFacets;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+
+/**
+ * Per-status counts for a search, computed alongside its page within a time budget.
+ *
+ * <p>The exact GROUP BY starts on a small pool before the page query runs, so the two overlap.
+ * Whatever is left of {@code task.search.facet-budget} (default 200 ms), less the {@link
+ * TaskConstants#FACET_SAMPLE_BUDGET_PERCENT} share held back for a sample, is then spent waiting
+ * for it; if it has not finished, the statuses of at most {@link TaskConstants#FACET_SAMPLE_SIZE}
+ * matches are tallied instead, scaled to the page total when the caller has one, and the facets are
+ * marked approximate. The sample runs on the same pool with the rest of the budget as its statement
+ * timeout. Should it miss too, status-only searches fall back to the {@link TaskStatsService}
+ * counters and any other search reports unknown counts, so a request never waits much past its
+ * budget. The abandoned GROUP BY is cancelled
+ * by its JDBC timeout, the budget rounded up to whole seconds.
+ */
+@Service
+public class TaskFacetService {
+  private static final Logger log = LoggerFactory.getLogger(TaskFacetService.class);
+
+  private final TaskRepository taskRepository;
+  private final TaskStatsService taskStatsService;
+  private final Duration budget;
+  private final ExecutorService executor;
+
+  @Autowired
+  public TaskFacetService(
+      TaskRepository taskRepository,
+      TaskStatsService taskStatsService,
+      @Value("${task.search.facet-budget:PT0.2S}") Duration budget) {
+    this(
+        taskRepository,
+        taskStatsService,
+        budget,
+        Executors.newFixedThreadPool(
+            TaskConstants.FACET_THREADS, runnable -> new Thread(runnable, "task-facets")));
+  }
+
+  TaskFacetService(
+      TaskRepository taskRepository,
+      TaskStatsService taskStatsService,
+      Duration budget,
+      ExecutorService executor) {
+    this.taskRepository = taskRepository;
+    this.taskStatsService = taskStatsService;
+    this.budget = budget;
+    this.executor = executor;
+  }
+
+  /** Starts counting the matches of {@code search} per status; collect with {@link #await}. */
+  public PendingFacets countByStatus(TaskSearch search) {
+    long start = System.nanoTime();
+    long deadline = start + budget.toNanos();
+    long exactDeadline =
+        start + budget.toNanos() * (100 - TaskConstants.FACET_SAMPLE_BUDGET_PERCENT) / 100;
+    int timeoutSeconds = (int) Math.max(1, (budget.toMillis() + 999) / 1000);
+    Future<List<Object[]>> counting =
+        executor.submit(() -> taskRepository.countSearchByStatus(search, timeoutSeconds));
+    return new PendingFacets(search, counting, exactDeadline, deadline);
+  }
+
+  /**
+   * Waits out the rest of the budget for the exact counts, falling back to a sample.
+   *
+   * @param total how many tasks match the search, if the caller counted them; a sample is scaled
+   *     up to it
+   */
+  public TaskFacets await(PendingFacets pending, Long total) {
+    try {
+      long remaining = Math.max(0, pending.exactDeadline - System.nanoTime());
+      return exact(pending.counting.get(remaining, TimeUnit.NANOSECONDS));
+    } catch (TimeoutException exception) {
+      pending.counting.cancel(true);
+      log.debug("Status facets missed the {} budget; sampling instead", budget);
+      return sample(pending, total);
+    } catch (ExecutionException exception) {
+      throw exception.getCause() instanceof RuntimeException cause
+          ? cause
+          : new IllegalStateException(exception.getCause());
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      pending.counting.cancel(true);
+      throw new IllegalStateException("Interrupted while counting status facets", exception);
+    }
+  }
+
+  @PreDestroy
+  void close() {
+    executor.shutdownNow();
+  }
+
+  private static TaskFacets exact(List<Object[]> rows) {
+    Map<Status, Long> counts = emptyCounts();
+    for (Object[] row : rows) {
+      if (row[0] != null) {
+        counts.put((Status) row[0], ((Number) row[1]).longValue());
+      }
+    }
+    return new TaskFacets(counts, false, null);
+  }
+
+  // A sample shorter than its limit held every match, so its tally is exact after all.
+  private TaskFacets sample(PendingFacets pending, Long total) {
+    long remaining = Math.max(0, pending.deadline - System.nanoTime());
+    long timeoutMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining));
+    Future<List<Status>> sampling =
+        executor.submit(
+            () ->
+                taskRepository.sampleSearchStatuses(
+                    pending.search, TaskConstants.FACET_SAMPLE_SIZE, timeoutMillis));
+    List<Status> statuses;
+    try {
+      statuses = sampling.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException exception) {
+      sampling.cancel(true);
+      log.debug("Status facet sample missed the {} budget; estimating instead", budget);
+      return estimate(pending.search);
+    } catch (ExecutionException exception) {
+      if (exception.getCause() instanceof DataAccessException) {
+        log.debug("Status facet sample was cancelled; estimating instead", exception.getCause());
+        return estimate(pending.search);
+      }
+      throw exception.getCause() instanceof RuntimeException cause
+          ? cause
+          : new IllegalStateException(exception.getCause());
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      sampling.cancel(true);
+      throw new IllegalStateException("Interrupted while sampling status facets", exception);
+    }
+    Map<Status, Long> counts = emptyCounts();
+    for (Status status : statuses) {
+      if (status != null) {
+        counts.merge(status, 1L, Long::sum);
+      }
+    }
+    int sampled = statuses.size();
+    if (sampled < TaskConstants.FACET_SAMPLE_SIZE) {
+      return new TaskFacets(counts, false, null);
+    }
+    if (total != null) {
+      counts.replaceAll((status, count) -> Math.round((double) count * total / sampled));
+    }
+    return new TaskFacets(counts, true, sampled);
+  }
+
+  /**
+   * Counts from the in-memory statistics when the search filters on status alone; otherwise no
+   * match has been seen, so the counts are unknown.
+   */
+  private TaskFacets estimate(TaskSearch search) {
+    if (!search.isStatusOnly()) {
+      return new TaskFacets(null, true, null);
+    }
+    Map<Status, Long> counts = emptyCounts();
+    for (Status status : Status.values()) {
+      if (search.getStatus() == null || search.getStatus() == status) {
+        counts.put(status, taskStatsService.estimatedCount(status));
+      }
+    }
+    return new TaskFacets(counts, true, null);
+  }
+
+  private static Map<Status, Long> emptyCounts() {
+    Map<Status, Long> counts = new EnumMap<>(Status.class);
+    for (Status status : Status.values()) {
+      counts.put(status, 0L);
+    }
+    return counts;
+  }
+
+  /** An exact count in flight, with the deadlines its budget allows it and a fallback sample. */
+  public static final class PendingFacets {
+    private final TaskSearch search;
+    private final Future<List<Object[]>> counting;
+    private final long exactDeadline;
+    private final long deadline;
+
+    private PendingFacets(
+        TaskSearch search, Future<List<Object[]>> counting, long exactDeadline, long deadline) {
+      this.search = search;
+      this.counting = counting;
+      this.exactDeadline = exactDeadline;
+      this.deadline = deadline;
+    }
+  }
+}
@@ -0,0 +1,404 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.entity.TaskTombstoneEntity;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskTombstoneRepository;
+
+/**
+ * Relevance-ranked free-text search over task title and description, served from an embedded
+ * Lucene index so text queries never reach the database.
+ *
+ * <p>The index lives in {@code task.search.index-dir} (in memory when blank) and follows every
+ * {@link TaskChangedEvent} after commit; new readers are opened every {@code
+ * task.search.refresh-interval}, so results lag writes by about a second. Bulk operations carry no
+ * row images, so the index catches up by change version instead: rows written and tombstones left
+ * since the last catch-up are reindexed by id, below the repository's change watermark. The same
+ * catch-up runs at startup from the version stored with the last index commit, and before every
+ * commit. The index is only ever updated in place, one document per id, and every change is
+ * applied on a single thread in the order it arrives, so readers never see it empty or doubled.
+ * Each query term must match title or description, exactly or within one or two edits depending on
+ * its length; title matches weigh more. Only the ids of the top hits are read from the index and
+ * the tasks are then loaded in one query, guarded by {@link TaskReadGuard} like every other search:
+ * while the database is unavailable a query answered before gets its last good results.
+ */
+@Service
+public class TaskFullTextService {
+  private static final Logger log = LoggerFactory.getLogger(TaskFullTextService.class);
+
+  private static final String ID = "id";
+  private static final String TITLE = "title";
+  private static final String DESCRIPTION = "description";
+  private static final String STATUS = "status";
+  private static final String DUE_DAY = "dueDay";
+  private static final float TITLE_BOOST = 3f;
+
+  /** Commit data key: every change below this version is in the committed index. */
+  private static final String INDEXED_BELOW = "indexedBelow";
+
+  private final TaskRepository taskRepository;
+  private final TaskTombstoneRepository tombstoneRepository;
+  private final TaskMapper taskMapper;
+  private final TaskReadGuard readGuard;
+  private final Analyzer analyzer = new StandardAnalyzer();
+  private final Directory directory;
+  private final IndexWriter writer;
+  private final SearcherManager searcherManager;
+  private final ExecutorService indexExecutor;
+  private final AtomicBoolean catchUpPending = new AtomicBoolean();
+  private final AtomicLong indexedBelow = new AtomicLong();
+
+  @Autowired
+  public TaskFullTextService(
+      TaskRepository taskRepository,
+      TaskTombstoneRepository tombstoneRepository,
+      TaskMapper taskMapper,
+      TaskReadGuard readGuard,
+      @Value("${task.search.index-dir:data/task-index}") String indexDir)
+      throws IOException {
+    this(
+        taskRepository,
+        tombstoneRepository,
+        taskMapper,
+        readGuard,
+        indexDir,
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "task-index")));
+  }
+
+  TaskFullTextService(
+      TaskRepository taskRepository,
+      TaskTombstoneRepository tombstoneRepository,
+      TaskMapper taskMapper,
+      TaskReadGuard readGuard,
+      String indexDir,
+      ExecutorService indexExecutor)
+      throws IOException {
+    this.taskRepository = taskRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.taskMapper = taskMapper;
+    this.readGuard = readGuard;
+    this.indexExecutor = indexExecutor;
+    this.directory =
+        indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+    this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+    this.searcherManager = new SearcherManager(writer, null);
+    // An existing index resumes from its last commit; a new one starts from the first version.
+    Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+    if (commitData != null) {
+      for (Map.Entry<String, String> entry : commitData) {
+        if (INDEXED_BELOW.equals(entry.getKey())) {
+          indexedBelow.set(Long.parseLong(entry.getValue()));
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns up to {@code limit} tasks matching {@code q}, best first, optionally narrowed to a
+   * status and a due date.
+   */
+  public List<TaskResponse> search(String q, Status status, LocalDate dueDate, Integer limit) {
+    int size = limit == null ? TaskConstants.DEFAULT_PAGE_SIZE : limit;
+    if (size < 1) {
+      throw new BadRequestException(TaskConstants.INVALID_LIMIT);
+    }
+    Query query = toQuery(q, status, dueDate);
+    if (query == null) {
+      return List.of();
+    }
+    return readGuard.read(
+        "fullText", Arrays.asList(q, status, dueDate, size), () -> search(query, size));
+  }
+
+  private List<TaskResponse> search(Query query, int size) {
+    List<Long> ids = new ArrayList<>();
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        StoredFields storedFields = searcher.storedFields();
+        for (ScoreDoc hit :
+            searcher.search(query, Math.min(size, TaskConstants.MAX_PAGE_SIZE)).scoreDocs) {
+          ids.add(Long.valueOf(storedFields.document(hit.doc).get(ID)));
+        }
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    // A hit whose row has since gone is skipped rather than returned stale.
+    Map<Long, TaskEntity> byId =
+        readGuard.call(() -> taskRepository.findAllById(ids)).stream()
+            .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+    List<TaskResponse> results = new ArrayList<>(byId.size());
+    for (Long id : ids) {
+      TaskEntity entity = byId.get(id);
+      if (entity != null) {
+        results.add(taskMapper.toResponse(entity));
+      }
+    }
+    return results;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    TaskResponse current = event.getCurrent();
+    indexExecutor.execute(
+        () -> {
+          try {
+            if (current == null) {
+              writer.deleteDocuments(idTerm(event.getTaskId()));
+            } else {
+              writer.updateDocument(idTerm(current.getId()), toDocument(current));
+            }
+          } catch (IOException | RuntimeException exception) {
+            log.error("Task search index update for task {} failed", event.getTaskId(), exception);
+          }
+        });
+  }
+
+  /** Bulk operations carry no row images, so the rows they changed are found by version. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+    if (event.getAffected() > 0) {
+      scheduleCatchUp();
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void catchUpOnStartup() {
+    scheduleCatchUp();
+  }
+
+  @Scheduled(fixedDelayString = "${task.search.refresh-interval:PT1S}")
+  public void refresh() throws IOException {
+    searcherManager.maybeRefresh();
+  }
+
+  /** Catches up, then commits with the version the index is now complete below. */
+  @Scheduled(fixedDelayString = "${task.search.commit-interval:PT30S}")
+  public void commit() {
+    indexExecutor.execute(
+        () -> {
+          try {
+            catchUp();
+            if (writer.hasUncommittedChanges()) {
+              writer.setLiveCommitData(
+                  Map.of(INDEXED_BELOW, String.valueOf(indexedBelow.get())).entrySet());
+              writer.commit();
+            }
+          } catch (IOException | RuntimeException exception) {
+            log.error("Task search index commit failed", exception);
+          }
+        });
+  }
+
+  /**
+   * Queues a catch-up unless one is already waiting; requests arriving meanwhile coalesce. Also how
+   * writes made by other nodes reach the index, as their notices carry no text.
+   */
+  public void scheduleCatchUp() {
+    if (catchUpPending.compareAndSet(false, true)) {
+      indexExecutor.execute(
+          () -> {
+            try {
+              catchUp();
+            } catch (IOException | RuntimeException exception) {
+              log.error("Task search index catch-up failed", exception);
+            }
+          });
+    }
+  }
+
+  /**
+   * Reindexes every task written, and drops every task deleted, at or above the version the index
+   * is complete below and below the current change watermark. Rows are read as they are now, so a
+   * task changed twice is indexed once at its latest state. Runs on the index thread only.
+   */
+  void catchUp() throws IOException {
+    catchUpPending.set(false);
+    // Read before any rows so everything below it is already committed or gone.
+    long watermark = taskRepository.changeWatermark();
+    long from = indexedBelow.get();
+    if (watermark <= from) {
+      return;
+    }
+    PageRequest window = PageRequest.ofSize(TaskConstants.BULK_CHUNK_SIZE);
+    long version = from - 1;
+    long lastId = Long.MAX_VALUE;
+    long reindexed = 0;
+    List<TaskEntity> rows;
+    do {
+      rows = taskRepository.findChangedAfter(version, lastId, watermark, window);
+      for (TaskEntity row : rows) {
+        writer.updateDocument(idTerm(row.getId()), toDocument(taskMapper.toResponse(row)));
+        version = row.getChangeVersion();
+        lastId = row.getId();
+      }
+      reindexed += rows.size();
+    } while (rows.size() == window.getPageSize());
+
+    version = from - 1;
+    long removed = 0;
+    List<TaskTombstoneEntity> tombstones;
+    do {
+      tombstones =
+          tombstoneRepository.findByVersionGreaterThanAndVersionLessThanOrderByVersionAsc(
+              version, watermark, window);
+      for (TaskTombstoneEntity tombstone : tombstones) {
+        writer.deleteDocuments(idTerm(tombstone.getTaskId()));
+        version = tombstone.getVersion();
+      }
+      removed += tombstones.size();
+    } while (tombstones.size() == window.getPageSize());
+
+    indexedBelow.set(watermark);
+    searcherManager.maybeRefresh();
+    if (reindexed > 0 || removed > 0) {
+      log.info(
+          "Task search index caught up to version {}: {} reindexed, {} removed",
+          watermark,
+          reindexed,
+          removed);
+    }
+  }
+
+  @PreDestroy
+  void close() throws IOException {
+    indexExecutor.shutdownNow();
+    searcherManager.close();
+    writer.close();
+    directory.close();
+  }
+
+  private static Term idTerm(Long id) {
+    return new Term(ID, String.valueOf(id));
+  }
+
+  private Document toDocument(TaskResponse task) {
+    Document document = new Document();
+    document.add(new StringField(ID, String.valueOf(task.getId()), Field.Store.YES));
+    if (task.getTitle() != null) {
+      document.add(new TextField(TITLE, task.getTitle(), Field.Store.NO));
+    }
+    if (task.getDescription() != null) {
+      document.add(new TextField(DESCRIPTION, task.getDescription(), Field.Store.NO));
+    }
+    if (task.getStatus() != null) {
+      document.add(new StringField(STATUS, task.getStatus().name(), Field.Store.NO));
+    }
+    if (task.getDueDate() != null) {
+      document.add(new LongPoint(DUE_DAY, task.getDueDate().toLocalDate().toEpochDay()));
+    }
+    return document;
+  }
+
+  private Query toQuery(String q, Status status, LocalDate dueDate) {
+    BooleanQuery.Builder query = new BooleanQuery.Builder();
+    List<String> terms = analyze(q);
+    if (terms.isEmpty()) {
+      return null;
+    }
+    for (String term : terms) {
+      query.add(termQuery(term), BooleanClause.Occur.MUST);
+    }
+    if (status != null) {
+      query.add(new TermQuery(new Term(STATUS, status.name())), BooleanClause.Occur.FILTER);
+    }
+    if (dueDate != null) {
+      query.add(LongPoint.newExactQuery(DUE_DAY, dueDate.toEpochDay()), BooleanClause.Occur.FILTER);
+    }
+    return query.build();
+  }
+
+  /** One analysed term against both fields, exact or fuzzy; exact and title hits rank higher. */
+  private static Query termQuery(String term) {
+    int maxEdits = term.length() >= 8 ? 2 : term.length() >= 4 ? 1 : 0;
+    BooleanQuery.Builder either = new BooleanQuery.Builder();
+    for (String field : List.of(TITLE, DESCRIPTION)) {
+      float boost = TITLE.equals(field) ? TITLE_BOOST : 1f;
+      either.add(
+          new BoostQuery(new TermQuery(new Term(field, term)), 2 * boost),
+          BooleanClause.Occur.SHOULD);
+      if (maxEdits > 0) {
+        either.add(
+            new BoostQuery(new FuzzyQuery(new Term(field, term), maxEdits, 1), boost),
+            BooleanClause.Occur.SHOULD);
+      }
+    }
+    return either.build();
+  }
+
+  private List<String> analyze(String q) {
+    List<String> terms = new ArrayList<>();
+    try (TokenStream tokens = analyzer.tokenStream(TITLE, q)) {
+      CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+      tokens.reset();
+      while (tokens.incrementToken()) {
+        terms.add(term.toString());
+      }
+      tokens.end();
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    return terms;
+  }
+}
@@ -0,0 +1,370 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.request.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.response.TaskImportError;
+import uk.gov.hmcts.reform.dev.dto.response.TaskImportResponse;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+/**
+ * Imports tasks from a request body of any size.
+ *
+ * <p>The body is read record by record with the Jackson streaming parser, either as one JSON array
+ * or as newline-delimited objects. Each record is validated like single create; valid ones are
+ * grouped into chunks of {@code task.import.chunk-size} and handed to {@code task.import.workers}
+ * writer threads over a queue of {@code task.import.queue-capacity} chunks. When the writers fall
+ * behind the queue fills and parsing blocks, so memory stays bounded by the queue rather than the
+ * payload. Every chunk commits on its own: a failed chunk is reported and the rest carry on.
+ *
+ * <p>Writers run on one pool of {@code task.import.max-writers} threads shared by all imports, so
+ * concurrent imports queue for writers rather than each starting its own. A reader waiting on a
+ * full queue checks its writers as it waits and stops the import if none is left.
+ */
+@Service
+public class TaskImportService {
+  private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+
+  /** Tells a writer there is nothing more to take. */
+  private static final Chunk END = new Chunk(List.of(), List.of(), List.of());
+
+  private final TaskRepository taskRepository;
+  private final TaskMapper taskMapper;
+  private final Validator validator;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int queueCapacity;
+  private final int workers;
+  private final ExecutorService writerPool;
+
+  @Autowired
+  public TaskImportService(
+      TaskRepository taskRepository,
+      TaskMapper taskMapper,
+      Validator validator,
+      ObjectMapper objectMapper,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${task.import.chunk-size:1000}") int chunkSize,
+      @Value("${task.import.queue-capacity:4}") int queueCapacity,
+      @Value("${task.import.workers:2}") int workers,
+      @Value("${task.import.max-writers:4}") int maxWriters) {
+    this(
+        taskRepository,
+        taskMapper,
+        validator,
+        objectMapper,
+        eventPublisher,
+        transactionManager,
+        chunkSize,
+        queueCapacity,
+        workers,
+        Executors.newFixedThreadPool(
+            Math.max(1, maxWriters), runnable -> new Thread(runnable, "task-import")));
+  }
+
+  TaskImportService(
+      TaskRepository taskRepository,
+      TaskMapper taskMapper,
+      Validator validator,
+      ObjectMapper objectMapper,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      int chunkSize,
+      int queueCapacity,
+      int workers,
+      ExecutorService writerPool) {
+    this.taskRepository = taskRepository;
+    this.taskMapper = taskMapper;
+    this.validator = validator;
+    this.objectMapper = objectMapper;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = Math.max(1, chunkSize);
+    this.queueCapacity = Math.max(1, queueCapacity);
+    this.workers = Math.max(1, workers);
+    this.writerPool = writerPool;
+  }
+
+  public TaskImportResponse importTasks(InputStream body) throws IOException {
+    Progress progress = new Progress();
+    BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(queueCapacity);
+    List<Future<?>> writers = new ArrayList<>();
+    for (int i = 0; i < workers; i++) {
+      writers.add(writerPool.submit(() -> write(queue, progress)));
+    }
+
+    boolean completed = true;
+    try (JsonParser parser = objectMapper.createParser(body)) {
+      completed = read(parser, queue, writers, progress);
+    } catch (JsonProcessingException exception) {
+      // Syntax errors leave the parser with no reliable place to resume from.
+      completed = false;
+      progress.error(
+          progress.received.get(),
+          exception.getLocation() == null ? 0 : exception.getLocation().getLineNr(),
+          "json",
+          String.format(TaskConstants.IMPORT_ABORTED, exception.getOriginalMessage()));
+    } finally {
+      for (int i = 0; i < workers; i++) {
+        if (!put(queue, END, writers)) {
+          break;
+        }
+      }
+      awaitWriters(writers);
+      // Writers that stopped early leave chunks behind; those records were never stored.
+      for (Chunk chunk : queue) {
+        if (chunk != END) {
+          failChunk(chunk, progress);
+        }
+      }
+    }
+
+    long imported = progress.imported.get();
+    log.info(
+        "Task import finished: {} received, {} imported, {} rejected, {} failed",
+        progress.received.get(),
+        imported,
+        progress.rejected.get(),
+        progress.failed.get());
+    eventPublisher.publishEvent(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.IMPORTED, imported));
+    return progress.toResponse(completed);
+  }
+
+  @PreDestroy
+  void close() {
+    writerPool.shutdownNow();
+  }
+
+  /** Reads every record into chunks; returns {@code false} when no writer is left to store them. */
+  private boolean read(
+      JsonParser parser, BlockingQueue<Chunk> queue, List<Future<?>> writers, Progress progress)
+      throws IOException {
+    JsonToken token = parser.nextToken();
+    if (token == JsonToken.START_ARRAY) {
+      token = parser.nextToken();
+    }
+    List<TaskEntity> tasks = new ArrayList<>(chunkSize);
+    List<Long> indexes = new ArrayList<>(chunkSize);
+    List<Integer> lines = new ArrayList<>(chunkSize);
+    while (token != null && token != JsonToken.END_ARRAY) {
+      long index = progress.received.get();
+      int line = parser.currentTokenLocation().getLineNr();
+      JsonNode node = objectMapper.readTree(parser);
+      progress.received.incrementAndGet();
+      TaskEntity task = toTask(node, index, line, progress);
+      if (task != null) {
+        tasks.add(task);
+        indexes.add(index);
+        lines.add(line);
+        if (tasks.size() == chunkSize) {
+          if (!put(queue, new Chunk(tasks, indexes, lines), writers)) {
+            return writersStopped(progress, line);
+          }
+          tasks = new ArrayList<>(chunkSize);
+          indexes = new ArrayList<>(chunkSize);
+          lines = new ArrayList<>(chunkSize);
+        }
+      }
+      token = parser.nextToken();
+    }
+    if (!tasks.isEmpty() && !put(queue, new Chunk(tasks, indexes, lines), writers)) {
+      return writersStopped(progress, lines.getLast());
+    }
+    return true;
+  }
+
+  private static boolean writersStopped(Progress progress, int line) {
+    log.error("Task import stopped at line {}: every writer has stopped", line);
+    progress.error(progress.received.get(), line, "import", TaskConstants.IMPORT_WRITERS_STOPPED);
+    return false;
+  }
+
+  private TaskEntity toTask(JsonNode node, long index, int line, Progress progress) {
+    Map<String, String> errors;
+    if (node == null || !node.isObject()) {
+      errors = Map.of("task", TaskConstants.INVALID_BATCH_ENTRY);
+    } else {
+      try {
+        TaskRequest request = objectMapper.treeToValue(node, TaskRequest.class);
+        errors = TaskRequestErrors.of(validator, request);
+        if (errors.isEmpty()) {
+          return taskMapper.toEntity(request);
+        }
+      } catch (JsonProcessingException exception) {
+        errors =
+            Map.of(
+                "task",
+                String.format(
+                    TaskConstants.INVALID_IMPORT_RECORD, exception.getOriginalMessage()));
+      }
+    }
+    progress.rejected.incrementAndGet();
+    progress.error(index, line, errors);
+    return null;
+  }
+
+  private void write(BlockingQueue<Chunk> queue, Progress progress) {
+    while (true) {
+      Chunk chunk;
+      try {
+        chunk = queue.take();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (chunk == END) {
+        return;
+      }
+      try {
+        transactionTemplate.executeWithoutResult(tx -> insert(chunk.tasks));
+        long imported = progress.imported.addAndGet(chunk.tasks.size());
+        log.debug(
+            "Task import progress: {} imported up to line {}", imported, chunk.lines.getLast());
+      } catch (RuntimeException exception) {
+        // Anything a chunk throws, not only database errors, fails that chunk alone; a writer
+        // that died here would leave the reader with nobody to take its chunks.
+        log.error(
+            "Task import chunk of {} records failed: {}",
+            chunk.tasks.size(),
+            exception.getMessage(),
+            exception);
+        failChunk(chunk, progress);
+      }
+    }
+  }
+
+  private static void failChunk(Chunk chunk, Progress progress) {
+    progress.failed.addAndGet(chunk.tasks.size());
+    for (int i = 0; i < chunk.indexes.size(); i++) {
+      progress.error(
+          chunk.indexes.get(i), chunk.lines.get(i), "database", TaskConstants.DATABASE_WRITE_ERROR);
+    }
+  }
+
+  private void insert(List<TaskEntity> tasks) {
+    long[] versions = taskRepository.nextChangeVersions(tasks.size());
+    LocalDateTime now = LocalDateTime.now();
+    for (int j = 0; j < tasks.size(); j++) {
+      tasks.get(j).setChangeVersion(versions[j]);
+      tasks.get(j).setUpdatedAt(now);
+    }
+    taskRepository.insertInBatches(tasks);
+  }
+
+  /**
+   * Queues {@code chunk}, waiting while the queue is full as long as any writer is still running.
+   *
+   * @return {@code false} if every writer has stopped, so the chunk can never be taken
+   */
+  private static boolean put(BlockingQueue<Chunk> queue, Chunk chunk, List<Future<?>> writers)
+      throws IOException {
+    try {
+      while (!queue.offer(chunk, TaskConstants.IMPORT_QUEUE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+        if (writers.stream().allMatch(Future::isDone)) {
+          return false;
+        }
+      }
+      return true;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Task import interrupted", exception);
+    }
+  }
+
+  private static void awaitWriters(List<Future<?>> writers) {
+    for (Future<?> writer : writers) {
+      try {
+        writer.get();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (ExecutionException exception) {
+        log.error("Task import writer stopped unexpectedly", exception.getCause());
+      }
+    }
+  }
+
+  /** Valid records ready to insert, with their body indexes and lines for error reporting. */
+  private static final class Chunk {
+    private final List<TaskEntity> tasks;
+    private final List<Long> indexes;
+    private final List<Integer> lines;
+
+    private Chunk(List<TaskEntity> tasks, List<Long> indexes, List<Integer> lines) {
+      this.tasks = tasks;
+      this.indexes = indexes;
+      this.lines = lines;
+    }
+  }
+
+  /** Counters shared by the reader and writers; error details are capped, counts are not. */
+  private static final class Progress {
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<TaskImportError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    private void error(long index, int line, String field, String message) {
+      error(index, line, Map.of(field, message));
+    }
+
+    private synchronized void error(long index, int line, Map<String, String> fieldErrors) {
+      if (errors.size() < TaskConstants.MAX_IMPORT_ERRORS) {
+        errors.add(TaskImportError.builder().index(index).line(line).errors(fieldErrors).build());
+      } else {
+        errorsTruncated = true;
+      }
+    }
+
+    private synchronized TaskImportResponse toResponse(boolean completed) {
+      errors.sort(Comparator.comparingLong(TaskImportError::getIndex));
+      return TaskImportResponse.builder()
+          .received(received.get())
+          .imported(imported.get())
+          .rejected(rejected.get())
+          .failed(failed.get())
+          .completed(completed)
+          .errors(List.copyOf(errors))
+          .errorsTruncated(errorsTruncated)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskColumn;
+
+/**
+ * Translates an RFC 7396 JSON Merge Patch into the task columns it changes.
+ *
+ * <p>Only members present in the patch are returned, so the resulting UPDATE writes nothing else.
+ * An explicit {@code null} clears a column, which is only allowed for {@code description}; the
+ * remaining fields keep the same rules {@code TaskRequest} enforces on create and replace.
+ */
+final class TaskMergePatch {
+
+  private TaskMergePatch() {}
+
+  static Map<TaskColumn, Object> toColumns(JsonNode patch, LocalDateTime now) {
+    if (patch == null || !patch.isObject()) {
+      throw new BadRequestException(TaskConstants.INVALID_PATCH);
+    }
+    Map<TaskColumn, Object> values = new EnumMap<>(TaskColumn.class);
+    Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      JsonNode value = field.getValue();
+      switch (field.getKey()) {
+        case "title" -> values.put(TaskColumn.TITLE, title(value));
+        case "description" -> values.put(TaskColumn.DESCRIPTION, description(value));
+        case "status" -> values.put(TaskColumn.STATUS, status(value));
+        case "dueDate" -> values.put(TaskColumn.DUE_DATE, dueDate(value, now));
+        default ->
+            throw new BadRequestException(
+                String.format(TaskConstants.INVALID_PATCH_FIELD, field.getKey()));
+      }
+    }
+    return values;
+  }
+
+  private static String title(JsonNode value) {
+    if (!value.isTextual() || value.asText().isBlank()) {
+      throw new BadRequestException(TaskConstants.TITLE_REQUIRED);
+    }
+    return withinLength("title", value.asText(), TaskConstants.MAX_TITLE_LENGTH);
+  }
+
+  private static String description(JsonNode value) {
+    if (value.isNull()) {
+      return null;
+    }
+    if (!value.isTextual()) {
+      throw new BadRequestException(
+          String.format(TaskConstants.INVALID_PATCH_VALUE, "description"));
+    }
+    return withinLength("description", value.asText(), TaskConstants.MAX_DESCRIPTION_LENGTH);
+  }
+
+  private static Status status(JsonNode value) {
+    if (value.isNull()) {
+      throw new BadRequestException(TaskConstants.STATUS_REQUIRED);
+    }
+    try {
+      return Status.valueOf(value.asText());
+    } catch (IllegalArgumentException ex) {
+      throw new BadRequestException(String.format(TaskConstants.INVALID_PATCH_VALUE, "status"), ex);
+    }
+  }
+
+  private static LocalDateTime dueDate(JsonNode value, LocalDateTime now) {
+    if (value.isNull()) {
+      throw new BadRequestException(TaskConstants.DUE_DATE_REQUIRED);
+    }
+    LocalDateTime dueDate;
+    try {
+      dueDate = LocalDateTime.parse(value.asText());
+    } catch (DateTimeParseException ex) {
+      throw new BadRequestException(
+          String.format(TaskConstants.INVALID_PATCH_VALUE, "dueDate"), ex);
+    }
+    if (!dueDate.isAfter(now)) {
+      throw new BadRequestException(TaskConstants.DUE_DATE_FUTURE);
+    }
+    return dueDate;
+  }
+
+  private static String withinLength(String field, String value, int maxLength) {
+    if (value.length() > maxLength) {
+      throw new BadRequestException(String.format(TaskConstants.FIELD_TOO_LONG, field, maxLength));
+    }
+    return value;
+  }
+}
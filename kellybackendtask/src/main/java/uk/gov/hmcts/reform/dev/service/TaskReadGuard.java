@@ -0,0 +1,324 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskPageResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.ServiceUnavailableException;
+
+/**
+ * Keeps reads answering while the database is failing or slow, instead of letting every request
+ * wait out the pool's connection timeout.
+ *
+ * <p>{@link #call} wraps each database read. It admits at most {@code
+ * task.read-guard.max-concurrent} (default 32) at once and runs them through a {@link
+ * ReadCircuitBreaker}, which counts errors and reads slower than {@code task.read-guard.slow-call}
+ * (default 2 s) as failures and, once open, refuses reads for {@code task.read-guard.open-duration}
+ * (default 10 s). Refused reads fail at once with a {@link ServiceUnavailableException}, so threads
+ * do not pile up behind a struggling database. Each read runs in a read-only transaction timing out
+ * after {@code slow-call}, rounded up to whole seconds, so a hung query is cancelled by the driver
+ * rather than holding its connection; a read inside a caller's transaction joins it instead.
+ *
+ * <p>{@link #read} wraps a whole service read, caches included, and remembers its last good result
+ * for {@code task.read-guard.stale-ttl} (default one hour, bounded to {@code
+ * task.read-guard.stale-max-tasks} tasks). When the read fails for want of the database, that
+ * result is returned instead and the request is marked stale for {@code StaleResponseAdvice}. Once
+ * the breaker is due a trial, a read with a remembered result returns it at once and repeats
+ * itself in the background as the trial, so the database is probed without holding up a request
+ * and the result is fresh again as soon as it recovers.
+ */
+@Service
+public class TaskReadGuard {
+  /** Kind of {@link #read} for single tasks by id; kept current by this node's writes. */
+  public static final String TASK = "task";
+
+  private static final Logger log = LoggerFactory.getLogger(TaskReadGuard.class);
+
+  private final TransactionOperations readTransactions;
+  private final ReadCircuitBreaker breaker;
+  private final Semaphore permits;
+  private final long slowNanos;
+  private final long retryAfterSeconds;
+  private final Ticker ticker;
+  private final Cache<Key, Result> lastGood;
+  private final ExecutorService revalidator;
+  private final AtomicBoolean revalidating = new AtomicBoolean();
+  private final LongAdder refused = new LongAdder();
+  private final LongAdder staleServed = new LongAdder();
+
+  @Autowired
+  public TaskReadGuard(
+      PlatformTransactionManager transactionManager,
+      @Value("${task.read-guard.slow-call:PT2S}") Duration slowCall,
+      @Value("${task.read-guard.open-duration:PT10S}") Duration openDuration,
+      @Value("${task.read-guard.max-concurrent:32}") int maxConcurrent,
+      @Value("${task.read-guard.stale-max-tasks:100000}") long staleMaxTasks,
+      @Value("${task.read-guard.stale-ttl:PT1H}") Duration staleTtl) {
+    this(
+        readTransactions(transactionManager, slowCall),
+        slowCall,
+        openDuration,
+        maxConcurrent,
+        staleMaxTasks,
+        staleTtl,
+        Ticker.systemTicker(),
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "task-revalidate");
+              thread.setDaemon(true);
+              return thread;
+            }));
+  }
+
+  TaskReadGuard(
+      TransactionOperations readTransactions,
+      Duration slowCall,
+      Duration openDuration,
+      int maxConcurrent,
+      long staleMaxTasks,
+      Duration staleTtl,
+      Ticker ticker,
+      ExecutorService revalidator) {
+    this.readTransactions = readTransactions;
+    this.breaker = new ReadCircuitBreaker(openDuration.toNanos(), ticker::read);
+    this.permits = new Semaphore(maxConcurrent);
+    this.slowNanos = slowCall.toNanos();
+    this.retryAfterSeconds = Math.max(1, openDuration.toSeconds());
+    this.ticker = ticker;
+    this.revalidator = revalidator;
+    this.lastGood =
+        Caffeine.newBuilder()
+            .maximumWeight(staleMaxTasks)
+            .<Key, Result>weigher((key, result) -> weigh(result.value()))
+            .expireAfterWrite(staleTtl)
+            .ticker(ticker)
+            .build();
+  }
+
+  /**
+   * Runs one database read, or refuses it while the breaker is open or too many reads are already
+   * waiting on the database.
+   *
+   * @throws ServiceUnavailableException if refused
+   */
+  public <T> T call(Supplier<T> read) {
+    return call(read, true);
+  }
+
+  /**
+   * Runs one database read only while the breaker is closed: refused while it is open or due a
+   * trial, and never admitted as the half-open trial itself. For lookups such as validators that
+   * the request can do without, which should neither probe a recovering database nor wait on it.
+   *
+   * @throws ServiceUnavailableException if refused
+   */
+  public <T> T callWhileClosed(Supplier<T> read) {
+    return call(read, false);
+  }
+
+  private <T> T call(Supplier<T> read, boolean mayTrial) {
+    if (!permits.tryAcquire()) {
+      throw refuse();
+    }
+    try {
+      ReadCircuitBreaker.State admitted =
+          mayTrial ? breaker.tryAcquire() : breaker.tryAcquireClosed();
+      if (admitted == null) {
+        throw refuse();
+      }
+      long start = ticker.read();
+      boolean failed = false;
+      try {
+        return readTransactions.execute(status -> read.get());
+      } catch (DataAccessException | TransactionException exception) {
+        failed = true;
+        throw exception;
+      } finally {
+        breaker.record(admitted, failed || ticker.read() - start > slowNanos);
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Runs a service read and remembers its result under {@code kind} and {@code argument}; if the
+   * database is unavailable, returns the result last remembered there instead.
+   *
+   * @param argument what, besides {@code kind}, determines the result; may be {@code null}
+   * @throws ServiceUnavailableException if refused with nothing remembered
+   */
+  public <T> T read(String kind, Object argument, Supplier<T> read) {
+    Key key = new Key(kind, argument);
+    // Leave the trial to the background rather than have this request wait on it.
+    if (breaker.isTrialDue()) {
+      Result result = lastGood.getIfPresent(key);
+      if (result != null) {
+        revalidate(key, read);
+        return serveStale(result);
+      }
+    }
+    try {
+      T value = read.get();
+      remember(key, value);
+      return value;
+    } catch (ServiceUnavailableException | DataAccessException | TransactionException exception) {
+      Result result = lastGood.getIfPresent(key);
+      if (result == null) {
+        throw exception;
+      }
+      return serveStale(result);
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    Key key = new Key(TASK, event.getTaskId());
+    TaskResponse current = event.getCurrent();
+    if (current == null) {
+      lastGood.invalidate(key);
+    } else {
+      lastGood.asMap().computeIfPresent(key, (id, result) -> new Result(current, ticker.read()));
+    }
+  }
+
+  /** Forgets the task last read under {@link #TASK} with {@code id}, deleted by another node. */
+  public void forgetTask(long id) {
+    lastGood.invalidate(new Key(TASK, id));
+  }
+
+  /**
+   * Forgets the task last read under {@link #TASK} with {@code id} unless it already reflects
+   * {@code version} or a later one, so a write by another node is never undone by a stale answer.
+   */
+  public void forgetTaskBefore(long id, long version) {
+    lastGood
+        .asMap()
+        .computeIfPresent(
+            new Key(TASK, id),
+            (key, result) ->
+                result.value() instanceof TaskResponse task
+                        && task.getVersion() != null
+                        && task.getVersion() >= version
+                    ? result
+                    : null);
+  }
+
+  /** Forgets every task last read under {@link #TASK}, for changes that name no task. */
+  public void forgetTasks() {
+    lastGood.asMap().keySet().removeIf(key -> TASK.equals(key.kind()));
+  }
+
+  /** Breaker state and how many reads were refused or answered stale since startup. */
+  public Map<String, Object> stats() {
+    Map<String, Object> out = new LinkedHashMap<>();
+    out.put("circuit", breaker.state().name());
+    out.put("refused", refused.sum());
+    out.put("staleServed", staleServed.sum());
+    out.put("lastGoodSize", lastGood.estimatedSize());
+    return out;
+  }
+
+  @PreDestroy
+  void close() {
+    revalidator.shutdownNow();
+  }
+
+  private static TransactionOperations readTransactions(
+      PlatformTransactionManager transactionManager, Duration slowCall) {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setReadOnly(true);
+    template.setTimeout((int) Math.max(1, (slowCall.toMillis() + 999) / 1000));
+    return template;
+  }
+
+  // Roughly the tasks a result holds, so the bound is on tasks rather than on results.
+  private static int weigh(Object value) {
+    if (value instanceof Collection<?> tasks) {
+      return tasks.size() + 1;
+    }
+    if (value instanceof TaskPageResponse page && page.getContent() != null) {
+      return page.getContent().size() + 1;
+    }
+    return 1;
+  }
+
+  private ServiceUnavailableException refuse() {
+    refused.increment();
+    return new ServiceUnavailableException(
+        String.format(TaskConstants.DATABASE_UNAVAILABLE, retryAfterSeconds), retryAfterSeconds);
+  }
+
+  private void remember(Key key, Object value) {
+    if (value != null) {
+      lastGood.put(key, new Result(value, ticker.read()));
+    }
+  }
+
+  // Marks the request stale, keeping the oldest age when it serves several stale results.
+  private <T> T serveStale(Result result) {
+    staleServed.increment();
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      long age = TimeUnit.NANOSECONDS.toSeconds(ticker.read() - result.storedAt());
+      Object marked =
+          attributes.getAttribute(
+              TaskConstants.STALE_AGE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+      if (!(marked instanceof Long older) || older < age) {
+        attributes.setAttribute(
+            TaskConstants.STALE_AGE_ATTRIBUTE, age, RequestAttributes.SCOPE_REQUEST);
+      }
+    }
+    @SuppressWarnings("unchecked")
+    T value = (T) result.value();
+    return value;
+  }
+
+  private void revalidate(Key key, Supplier<?> read) {
+    if (!breaker.isTrialDue() || !revalidating.compareAndSet(false, true)) {
+      return;
+    }
+    revalidator.execute(
+        () -> {
+          try {
+            remember(key, read.get());
+          } catch (RuntimeException exception) {
+            log.debug("Background revalidation of {} failed", key, exception);
+          } finally {
+            revalidating.set(false);
+          }
+        });
+  }
+
+  private record Key(String kind, Object argument) {}
+
+  private record Result(Object value, long storedAt) {}
+}
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Map;
+import java.util.TreeMap;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.request.TaskRequest;
+
+/** Field errors for one task request in the shape single create reports them. */
+final class TaskRequestErrors {
+
+  private TaskRequestErrors() {}
+
+  /** Property path to message, sorted by path; empty when the request is valid. */
+  static Map<String, String> of(Validator validator, TaskRequest request) {
+    Map<String, String> errors = new TreeMap<>();
+    if (request == null) {
+      errors.put("task", TaskConstants.INVALID_BATCH_ENTRY);
+      return errors;
+    }
+    for (ConstraintViolation<TaskRequest> violation : validator.validate(request)) {
+      errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+    }
+    return errors;
+  }
+}
@@ -0,0 +1,157 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+
+/**
+ * Cache of whole search results, keyed by the query and its normalized {@link TaskSearch}, so the
+ * few searches clients repeat all day are not recomputed on every request.
+ *
+ * <p>Entries are invalidated by write epochs rather than by finding the results a write affects.
+ * Every committed write bumps a global epoch and the epochs of the statuses it moved tasks out of
+ * or into; bulk changes bump them all. A search with a status depends only on tasks in that status,
+ * so it is tagged with that status's epoch, and any other search with the global one. A cached
+ * result is served only while its tag still equals the current epoch, which is read before the
+ * query runs so a write committed mid-query leaves the result already stale.
+ *
+ * <p>Bounded by the number of tasks held, {@code task.search-cache.max-tasks} (default 100,000),
+ * and expired {@code task.search-cache.ttl} (default one minute) after being written, which also
+ * bounds how long other nodes' writes stay invisible. Caffeine admits a new result over the one it
+ * would evict only if it has been asked for more often, so one-off searches do not displace the
+ * common ones. Results are shared and unmodifiable.
+ */
+@Component
+public class TaskSearchCache {
+  private final Cache<Key, Entry> cache;
+  private final long maximumTasks;
+  private final AtomicLong globalEpoch = new AtomicLong();
+  private final AtomicLongArray statusEpochs = new AtomicLongArray(Status.values().length);
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder stale = new LongAdder();
+
+  @Autowired
+  public TaskSearchCache(
+      @Value("${task.search-cache.max-tasks:100000}") long maximumTasks,
+      @Value("${task.search-cache.ttl:PT1M}") Duration ttl) {
+    this(maximumTasks, ttl, Ticker.systemTicker());
+  }
+
+  TaskSearchCache(long maximumTasks, Duration ttl, Ticker ticker) {
+    this.maximumTasks = maximumTasks;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maximumTasks)
+            .<Key, Entry>weigher((key, entry) -> entry.tasks().size() + 1)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * Returns the cached result of {@code query} for {@code search}, or runs {@code loader} and
+   * caches its result when there is none or writes have made it stale.
+   *
+   * @param query names the repository query, as different queries may take equal searches
+   */
+  public List<TaskResponse> get(
+      String query, TaskSearch search, Supplier<List<TaskResponse>> loader) {
+    Key key = new Key(query, search);
+    long epoch = epoch(search.getStatus());
+    Entry cached = cache.getIfPresent(key);
+    if (cached != null && cached.epoch() == epoch) {
+      hits.increment();
+      return cached.tasks();
+    }
+    (cached == null ? misses : stale).increment();
+    List<TaskResponse> tasks = List.copyOf(loader.get());
+    // A slower load that started before a write must not replace a result loaded after it.
+    cache
+        .asMap()
+        .merge(
+            key,
+            new Entry(epoch, tasks),
+            (previous, loaded) -> previous.epoch() > loaded.epoch() ? previous : loaded);
+    return tasks;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    invalidate(status(event.getPrevious()), status(event.getCurrent()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+    if (event.getAffected() > 0) {
+      invalidateAll();
+    }
+  }
+
+  /**
+   * Makes stale the results a write moving a task from {@code previous} to {@code current} may
+   * have changed; either is {@code null} when the task did not exist on that side of the write.
+   */
+  public void invalidate(Status previous, Status current) {
+    if (previous != null) {
+      statusEpochs.incrementAndGet(previous.ordinal());
+    }
+    if (current != null && current != previous) {
+      statusEpochs.incrementAndGet(current.ordinal());
+    }
+    globalEpoch.incrementAndGet();
+  }
+
+  /** Makes every cached result stale, for changes whose statuses are unknown. */
+  public void invalidateAll() {
+    for (int i = 0; i < statusEpochs.length(); i++) {
+      statusEpochs.incrementAndGet(i);
+    }
+    globalEpoch.incrementAndGet();
+  }
+
+  /** Hit, miss and eviction counts since startup, with the current and maximum tasks held. */
+  public Map<String, Object> stats() {
+    long hitCount = hits.sum();
+    long lookups = hitCount + misses.sum() + stale.sum();
+    Map<String, Object> out = new LinkedHashMap<>();
+    out.put("size", cache.estimatedSize());
+    out.put("maxTasks", maximumTasks);
+    out.put("hits", hitCount);
+    out.put("misses", misses.sum());
+    out.put("stale", stale.sum());
+    out.put("hitRate", lookups == 0 ? 1.0 : (double) hitCount / lookups);
+    out.put("evictions", cache.stats().evictionCount());
+    return out;
+  }
+
+  private long epoch(Status status) {
+    return status == null ? globalEpoch.get() : statusEpochs.get(status.ordinal());
+  }
+
+  private static Status status(TaskResponse image) {
+    return image == null ? null : image.getStatus();
+  }
+
+  private record Key(String query, TaskSearch search) {}
+
+  private record Entry(long epoch, List<TaskResponse> tasks) {}
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.request.TaskFilter;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+
+/**
+ * Validates a {@link TaskFilter} and turns it into a {@link TaskSearch}, resolving named due-date
+ * ranges against the shared task clock, which runs in {@code task.search.time-zone}.
+ *
+ * <p>Every due-date criterion becomes a half-open range on {@code duedate}, which a B-tree index
+ * answers with one range scan: {@code today} is {@code [today, tomorrow)}, {@code this_week} the
+ * ISO week {@code [Monday, next Monday)}, and {@code overdue} is {@code [-, now)} over open tasks
+ * only, with {@code now} truncated to the second so repeated searches resolve to the same bounds
+ * and can share cached results. Combinations that would otherwise be ambiguous are rejected
+ * rather than silently ignored.
+ */
+@Component
+public class TaskSearchResolver {
+  private final Clock clock;
+
+  public TaskSearchResolver(Clock clock) {
+    this.clock = clock;
+  }
+
+  public TaskSearch resolve(TaskFilter filter) {
+    String title = filter.getTitle();
+    if (title != null && title.length() > TaskConstants.MAX_TITLE_LENGTH) {
+      // Longer than any stored title, so it cannot match.
+      throw new BadRequestException(
+          String.format(TaskConstants.FIELD_TOO_LONG, "title", TaskConstants.MAX_TITLE_LENGTH));
+    }
+    boolean hasRange = filter.getDueRange() != null && !filter.getDueRange().isBlank();
+    boolean hasBounds = filter.getDueFrom() != null || filter.getDueTo() != null;
+    int dueCriteria =
+        (filter.getDueDate() == null ? 0 : 1) + (hasRange ? 1 : 0) + (hasBounds ? 1 : 0);
+    if (dueCriteria > 1
+        || (filter.getDueFrom() != null
+            && filter.getDueTo() != null
+            && !filter.getDueFrom().isBefore(filter.getDueTo()))) {
+      throw new BadRequestException(TaskConstants.INVALID_DUE_FILTER);
+    }
+
+    if (hasRange) {
+      return namedRange(title, filter);
+    }
+    if (filter.getDueDate() != null) {
+      return new TaskSearch(title, filter.getStatus(), filter.getDueDate());
+    }
+    return new TaskSearch(
+        title, filter.getStatus(), filter.getDueFrom(), filter.getDueTo(), false);
+  }
+
+  private TaskSearch namedRange(String title, TaskFilter filter) {
+    LocalDate today = LocalDate.now(clock);
+    return switch (filter.getDueRange().trim().toLowerCase(Locale.ROOT)) {
+      case "today" -> new TaskSearch(title, filter.getStatus(), today);
+      case "this_week" -> {
+        LocalDate monday = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        yield new TaskSearch(
+            title,
+            filter.getStatus(),
+            monday.atStartOfDay(),
+            monday.plusWeeks(1).atStartOfDay(),
+            false);
+      }
+      case "overdue" ->
+          new TaskSearch(
+              title,
+              filter.getStatus(),
+              null,
+              LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS),
+              true);
+      default ->
+          throw new BadRequestException(
+              String.format(TaskConstants.INVALID_DUE_RANGE, filter.getDueRange()));
+    };
+  }
+}
@@ -1,19 +1,39 @@
 package uk.gov.hmcts.reform.dev.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.request.TaskFilter;
 import uk.gov.hmcts.reform.dev.dto.request.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.response.TaskPageResponse;
 import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponseStream;
 import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
 import uk.gov.hmcts.reform.dev.exception.DatabaseWriteException;
 import uk.gov.hmcts.reform.dev.exception.ResourceNotFoundException;
 import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.repository.TaskColumn;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRowChange;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
 import uk.gov.hmcts.reform.dev.repository.TaskSpecifications;
 
 /**
@@ -26,33 +46,66 @@ import uk.gov.hmcts.reform.dev.repository.TaskSpecifications;
 public class TaskService {
   private final TaskRepository taskRepository;
   private final TaskMapper taskMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TaskSearchResolver taskSearchResolver;
+  private final TaskFacetService taskFacetService;
+  private final TaskCache taskCache;
+  private final TaskSearchCache taskSearchCache;
+  private final TaskReadGuard readGuard;
   private static final Logger log = LoggerFactory.getLogger(TaskService.class);
 
-  public TaskService(TaskRepository taskRepository, TaskMapper taskMapper) {
+  public TaskService(
+      TaskRepository taskRepository,
+      TaskMapper taskMapper,
+      ApplicationEventPublisher eventPublisher,
+      TaskSearchResolver taskSearchResolver,
+      TaskFacetService taskFacetService,
+      TaskCache taskCache,
+      TaskSearchCache taskSearchCache,
+      TaskReadGuard readGuard) {
     this.taskRepository = taskRepository;
     this.taskMapper = taskMapper;
+    this.eventPublisher = eventPublisher;
+    this.taskSearchResolver = taskSearchResolver;
+    this.taskFacetService = taskFacetService;
+    this.taskCache = taskCache;
+    this.taskSearchCache = taskSearchCache;
+    this.readGuard = readGuard;
+  }
+
+  private static ResourceNotFoundException notFound(Long id) {
+    return new ResourceNotFoundException(String.format(TaskConstants.TASK_NOT_FOUND, id));
   }
 
   /**
-   * Helper method to find a task by ID or throw ResourceNotFoundException.
-   *
-   * @param id the task ID to find
-   * @return the found TaskEntity
-   * @throws ResourceNotFoundException if task with given ID doesn't exist
+   * Applies column updates as one conditional UPDATE; an unmatched id is the 404 rather than a
+   * separate lookup.
    */
-  private TaskEntity findTaskOrThrow(Long id) throws ResourceNotFoundException {
-    return taskRepository
-        .findById(id)
-        .orElseThrow(
-            () -> new ResourceNotFoundException(String.format(TaskConstants.TASK_NOT_FOUND, id)));
+  private TaskResponse applyUpdate(Long id, Map<TaskColumn, Object> values)
+      throws ResourceNotFoundException {
+    TaskRowChange change =
+        taskRepository.updateReturning(id, values).orElseThrow(() -> notFound(id));
+    TaskResponse updated = taskMapper.toResponse(change.getAfter());
+    eventPublisher.publishEvent(
+        TaskChangedEvent.updated(taskMapper.toResponse(change.getBefore()), updated));
+    return updated;
+  }
+
+  /** Assigns a fresh change version so delta-sync clients pick up the write. */
+  private void stamp(TaskEntity entity) {
+    entity.setChangeVersion(taskRepository.nextChangeVersion());
+    entity.setUpdatedAt(LocalDateTime.now());
   }
 
   // Create Task
+  @Transactional
   public TaskResponse createTask(TaskRequest taskRequest) {
+    TaskResponse created;
     try {
       TaskEntity taskEntity = taskMapper.toEntity(taskRequest);
+      stamp(taskEntity);
       TaskEntity savedTask = taskRepository.save(taskEntity);
-      return taskMapper.toResponse(savedTask);
+      created = taskMapper.toResponse(savedTask);
     } catch (DataAccessException exception) {
       // Provide underlying cause details in logs for diagnostics while keeping client
       // message stable
@@ -60,66 +113,283 @@ public class TaskService {
           "Database write failure while creating task: {}", exception.getMessage(), exception);
       throw new DatabaseWriteException(TaskConstants.DATABASE_WRITE_ERROR, exception);
     }
+    eventPublisher.publishEvent(TaskChangedEvent.created(created));
+    return created;
   }
 
-  // Get Task by Id
+  // Get Task by Id, from the cache when this node has read or written it recently
   public TaskResponse getTaskById(Long id) throws ResourceNotFoundException {
-    TaskEntity entity = findTaskOrThrow(id);
-    return taskMapper.toResponse(entity);
+    TaskResponse task =
+        readGuard.read(
+            TaskReadGuard.TASK,
+            id,
+            () ->
+                taskCache.get(
+                    id,
+                    key ->
+                        readGuard
+                            .call(() -> taskRepository.findById(key))
+                            .map(taskMapper::toResponse)
+                            .orElse(null)));
+    if (task == null) {
+      throw notFound(id);
+    }
+    return task;
   }
 
+  @Transactional
   public TaskResponse updateTask(Long id, TaskRequest taskRequest)
       throws ResourceNotFoundException {
-    TaskEntity existing = findTaskOrThrow(id);
-
-    // Map updates from request to the entity
-    existing.setTitle(taskRequest.getTitle());
-    existing.setDescription(taskRequest.getDescription());
-    existing.setStatus(taskRequest.getStatus());
-    existing.setDueDate(taskRequest.getDueDate());
+    // Map updates from request to the row
+    Map<TaskColumn, Object> values = new EnumMap<>(TaskColumn.class);
+    values.put(TaskColumn.TITLE, taskRequest.getTitle());
+    values.put(TaskColumn.DESCRIPTION, taskRequest.getDescription());
+    values.put(TaskColumn.STATUS, taskRequest.getStatus());
+    values.put(TaskColumn.DUE_DATE, taskRequest.getDueDate());
+    return applyUpdate(id, values);
+  }
 
-    TaskEntity saved = taskRepository.save(existing);
-    return taskMapper.toResponse(saved);
+  /**
+   * Applies a JSON Merge Patch, writing only the columns it names. An empty patch changes nothing
+   * and returns the current task.
+   */
+  @Transactional
+  public TaskResponse patchTask(Long id, JsonNode patch) throws ResourceNotFoundException {
+    Map<TaskColumn, Object> values = TaskMergePatch.toColumns(patch, LocalDateTime.now());
+    if (values.isEmpty()) {
+      return getTaskById(id);
+    }
+    return applyUpdate(id, values);
   }
 
+  @Transactional
   public void deleteTask(Long id) throws ResourceNotFoundException {
-    TaskEntity task = findTaskOrThrow(id);
-    taskRepository.delete(task);
+    TaskEntity deleted = taskRepository.deleteReturning(id).orElseThrow(() -> notFound(id));
+    eventPublisher.publishEvent(TaskChangedEvent.deleted(taskMapper.toResponse(deleted)));
   }
 
   public List<TaskResponse> getAllTasks() {
-    List<TaskEntity> tasks = taskRepository.findAll();
-    return tasks.stream().map(taskMapper::toResponse).collect(Collectors.toList());
+    return readGuard.read("all", null, () -> toResponses(readGuard.call(taskRepository::findAll)));
+  }
+
+  /**
+   * Returns one keyset page of tasks ordered by dueDate then id.
+   *
+   * <p>Fetches {@code limit + 1} rows so the presence of a further page is known without a COUNT
+   * query. Undated tasks follow all dated ones, so an exhausted dated range is topped up from the
+   * undated tail within the same page.
+   *
+   * @param limit requested page size; defaults to {@link TaskConstants#DEFAULT_PAGE_SIZE} and is
+   *     capped at {@link TaskConstants#MAX_PAGE_SIZE}
+   * @param after opaque cursor from a previous page, or {@code null} for the first page
+   */
+  public TaskPageResponse getTasksPage(Integer limit, String after) {
+    int pageSize = resolvePageSize(limit);
+    TaskCursor cursor = (after == null || after.isBlank()) ? null : TaskCursor.decode(after);
+    return readGuard.read(
+        "page",
+        pageSize + "|" + (cursor == null ? "" : after),
+        () -> keysetPage(pageSize, cursor));
+  }
+
+  private TaskPageResponse keysetPage(int pageSize, TaskCursor cursor) {
+    List<TaskEntity> rows = readGuard.call(() -> keysetRows(pageSize, cursor));
+    boolean hasNext = rows.size() > pageSize;
+    List<TaskEntity> page = hasNext ? rows.subList(0, pageSize) : rows;
+    return TaskPageResponse.builder()
+        .content(page.stream().map(taskMapper::toResponse).collect(Collectors.toList()))
+        .limit(pageSize)
+        .hasNext(hasNext)
+        .nextCursor(hasNext ? TaskCursor.encode(page.get(page.size() - 1)) : null)
+        .build();
+  }
+
+  private List<TaskEntity> keysetRows(int pageSize, TaskCursor cursor) {
+    PageRequest window = PageRequest.ofSize(pageSize + 1);
+
+    List<TaskEntity> rows;
+    if (cursor == null) {
+      rows = new ArrayList<>(taskRepository.findFirstKeysetPage(window));
+    } else if (cursor.getDueDate() == null) {
+      rows = new ArrayList<>(taskRepository.findUndatedKeysetPageAfter(cursor.getId(), window));
+    } else {
+      rows =
+          new ArrayList<>(
+              taskRepository.findKeysetPageAfter(cursor.getDueDate(), cursor.getId(), window));
+    }
+    boolean inDatedRange = cursor == null || cursor.getDueDate() != null;
+    if (inDatedRange && rows.size() <= pageSize) {
+      rows.addAll(
+          taskRepository.findUndatedKeysetPageAfter(
+              0L, PageRequest.ofSize(pageSize + 1 - rows.size())));
+    }
+    return rows;
+  }
+
+  /**
+   * Paged, server-sorted search. Filtering, ordering and the page window are all pushed down to
+   * the database through the precompiled search query for the filter's shape.
+   *
+   * @param page zero-based page number (defaults to 0)
+   * @param size page size, defaulted and capped like {@link #getTasksPage(Integer, String)}
+   * @param sort {@code property[,asc|desc]} entries; see {@link TaskSort}
+   * @param includeTotal whether to run the extra COUNT(*) query for {@code totalElements}
+   * @param statusFacets whether to count all matches per status, within the budget of {@link
+   *     TaskFacetService}, while the page is read
+   */
+  public TaskPageResponse searchTasksPage(
+      TaskFilter filter,
+      Integer page,
+      Integer size,
+      List<String> sort,
+      boolean includeTotal,
+      boolean statusFacets) {
+    int pageNumber = page == null ? 0 : page;
+    if (pageNumber < 0) {
+      throw new BadRequestException(TaskConstants.INVALID_PAGE);
+    }
+    PageRequest pageable = PageRequest.of(pageNumber, resolvePageSize(size), TaskSort.parse(sort));
+    TaskSearch search = taskSearchResolver.resolve(filter);
+    return readGuard.read(
+        "searchPage",
+        List.of(search, pageable, includeTotal, statusFacets),
+        () -> searchPage(search, pageable, includeTotal, statusFacets));
+  }
+
+  private TaskPageResponse searchPage(
+      TaskSearch search, PageRequest pageable, boolean includeTotal, boolean statusFacets) {
+    TaskFacetService.PendingFacets facets =
+        statusFacets ? taskFacetService.countByStatus(search) : null;
+
+    Slice<TaskEntity> result;
+    Long total = null;
+    if (includeTotal) {
+      Page<TaskEntity> counted = readGuard.call(() -> taskRepository.searchPage(search, pageable));
+      total = counted.getTotalElements();
+      result = counted;
+    } else {
+      result = readGuard.call(() -> taskRepository.searchSlice(search, pageable));
+    }
+    return TaskPageResponse.builder()
+        .content(result.map(taskMapper::toResponse).getContent())
+        .limit(pageable.getPageSize())
+        .hasNext(result.hasNext())
+        .page(pageable.getPageNumber())
+        .totalElements(total)
+        .facets(facets == null ? null : taskFacetService.await(facets, total))
+        .build();
+  }
+
+  private static int resolvePageSize(Integer limit) {
+    if (limit == null) {
+      return TaskConstants.DEFAULT_PAGE_SIZE;
+    }
+    if (limit < 1) {
+      throw new BadRequestException(TaskConstants.INVALID_LIMIT);
+    }
+    return Math.min(limit, TaskConstants.MAX_PAGE_SIZE);
   }
 
   // Update only the status
+  @Transactional
   public TaskResponse updateTaskStatus(Long id, uk.gov.hmcts.reform.dev.models.Status status)
       throws ResourceNotFoundException {
-    TaskEntity entity = findTaskOrThrow(id);
-    entity.setStatus(status);
-    TaskEntity saved = taskRepository.save(entity);
-    return taskMapper.toResponse(saved);
+    Map<TaskColumn, Object> values = new EnumMap<>(TaskColumn.class);
+    values.put(TaskColumn.STATUS, status);
+    return applyUpdate(id, values);
   }
 
-  // Filter by status
+  // Filter by status, soonest due first; results are cached until a write touches the status
   public List<TaskResponse> getTasksByStatus(uk.gov.hmcts.reform.dev.models.Status status) {
-    return taskRepository.findByStatus(status).stream()
-        .map(taskMapper::toResponse)
-        .collect(Collectors.toList());
+    return readGuard.read(
+        "status",
+        status,
+        () ->
+            taskSearchCache.get(
+                "status",
+                new TaskSearch(null, status, null, null, false),
+                () ->
+                    toResponses(
+                        readGuard.call(
+                            () -> taskRepository.findByStatusOrderByDueDateAscIdAsc(status)))));
   }
 
-  // Overdue tasks
+  /**
+   * Overdue tasks: past due and not yet completed or cancelled, most overdue first. The cached read
+   * runs up to the end of the {@link TaskConstants#OVERDUE_WINDOW_SECONDS} window holding {@code
+   * now}, so every request in the window shares it, and each request keeps the prefix already due
+   * by its own {@code now}: the list is exact, not up to a window stale. While the database is
+   * unavailable the last list read stands in, whatever its cutoff.
+   */
   public List<TaskResponse> getOverdueTasks(java.time.LocalDateTime now) {
-    return taskRepository.findByDueDateBefore(now).stream()
-        .map(taskMapper::toResponse)
+    LocalDateTime windowEnd = overdueWindowEnd(now);
+    List<TaskResponse> dueByWindowEnd =
+        readGuard.read(
+            "overdue",
+            null,
+            () ->
+                taskSearchCache.get(
+                    "overdue",
+                    new TaskSearch(null, null, null, windowEnd, true),
+                    () ->
+                        toResponses(
+                            readGuard.call(() -> taskRepository.findOpenOverdue(windowEnd)))));
+    // Sorted by due date, so the tasks overdue by now are a prefix.
+    return dueByWindowEnd.stream()
+        .takeWhile(task -> task.getDueDate() != null && task.getDueDate().isBefore(now))
         .collect(Collectors.toList());
   }
 
-  // Search using JPA Specifications for efficient database-level filtering
-  public List<TaskResponse> searchTasks(
-      String title, uk.gov.hmcts.reform.dev.models.Status status, java.time.LocalDate dueDate) {
-    return taskRepository.findAll(TaskSpecifications.search(title, status, dueDate)).stream()
-        .map(taskMapper::toResponse)
-        .collect(Collectors.toList());
+  private static LocalDateTime overdueWindowEnd(LocalDateTime now) {
+    long second = now.toEpochSecond(ZoneOffset.UTC);
+    long windowStart = second - Math.floorMod(second, TaskConstants.OVERDUE_WINDOW_SECONDS);
+    return LocalDateTime.ofEpochSecond(
+        windowStart + TaskConstants.OVERDUE_WINDOW_SECONDS, 0, ZoneOffset.UTC);
+  }
+
+  // Search through the precompiled query for the filter's shape, cached by the resolved search
+  public List<TaskResponse> searchTasks(TaskFilter filter) {
+    TaskSearch search = taskSearchResolver.resolve(filter);
+    return readGuard.read(
+        "search",
+        search,
+        () ->
+            taskSearchCache.get(
+                "search",
+                search,
+                () -> toResponses(readGuard.call(() -> taskRepository.search(search)))));
+  }
+
+  private List<TaskResponse> toResponses(List<TaskEntity> tasks) {
+    return tasks.stream().map(taskMapper::toResponse).collect(Collectors.toList());
+  }
+
+  // ---- Streaming variants (NDJSON) ----
+  // Each returns a lazy stream; the query runs only when the response body is written.
+
+  public TaskResponseStream streamAllTasks() {
+    return streamMatching(null);
+  }
+
+  public TaskResponseStream streamTasksByStatus(uk.gov.hmcts.reform.dev.models.Status status) {
+    return streamMatching(TaskSpecifications.hasStatus(status));
+  }
+
+  public TaskResponseStream streamOverdueTasks(java.time.LocalDateTime now) {
+    return sink ->
+        taskRepository.forEachOpenOverdue(
+            now, entity -> sink.accept(taskMapper.toResponse(entity)));
+  }
+
+  public TaskResponseStream streamSearchTasks(TaskFilter filter) {
+    TaskSearch search = taskSearchResolver.resolve(filter);
+    return sink ->
+        taskRepository.forEachSearchMatch(
+            search, entity -> sink.accept(taskMapper.toResponse(entity)));
+  }
+
+  private TaskResponseStream streamMatching(Specification<TaskEntity> spec) {
+    return sink ->
+        taskRepository.forEachMatching(spec, entity -> sink.accept(taskMapper.toResponse(entity)));
   }
 }
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+
+/**
+ * Parses {@code sort} request parameters into a whitelisted, deterministic {@link Sort}.
+ *
+ * <p>Accepts the Spring Data style {@code sort=dueDate,asc&sort=title,desc}. Spring splits a single
+ * comma-separated value into separate list elements, so tokens are re-paired here: a direction
+ * token applies to the property before it. {@code id} is always appended as the final key so that
+ * offsets over tied rows are stable.
+ */
+public final class TaskSort {
+  private static final Set<String> SORTABLE = Set.of("dueDate", "title", "status", "id");
+  private static final String ID = "id";
+
+  static final Sort DEFAULT = Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc(ID));
+
+  private TaskSort() {
+    // Prevent instantiation
+  }
+
+  public static Sort parse(List<String> params) {
+    if (params == null || params.isEmpty()) {
+      return DEFAULT;
+    }
+    List<Sort.Order> orders = new ArrayList<>();
+    for (String param : params) {
+      for (String raw : param.split(",")) {
+        String token = raw.trim();
+        if (token.isEmpty()) {
+          continue;
+        }
+        String lower = token.toLowerCase(Locale.ROOT);
+        if (("asc".equals(lower) || "desc".equals(lower)) && !orders.isEmpty()) {
+          Sort.Order last = orders.remove(orders.size() - 1);
+          orders.add(last.with(Sort.Direction.fromString(lower)));
+        } else if (SORTABLE.contains(token)) {
+          orders.add(Sort.Order.asc(token));
+        } else {
+          throw new BadRequestException(String.format(TaskConstants.INVALID_SORT, token));
+        }
+      }
+    }
+    if (orders.isEmpty()) {
+      return DEFAULT;
+    }
+    if (orders.stream().noneMatch(order -> ID.equals(order.getProperty()))) {
+      orders.add(Sort.Order.asc(ID));
+    }
+    return Sort.by(orders);
+  }
+}
@@ -0,0 +1,224 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskStatsResponse;
+import uk.gov.hmcts.reform.dev.event.TaskChangeNotice;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+/**
+ * Serves dashboard statistics from in-memory counters instead of scanning the task table.
+ *
+ * <p>Counters are adjusted by the before/after image of every {@link TaskChangedEvent}, and by the
+ * statuses and due days of every {@link TaskChangeNotice} from another node, and are periodically
+ * rebuilt from GROUP BY queries, which corrects drift from writes made directly in the database.
+ * Reads are independent of table size: per-status totals are single counters and due-date counts
+ * are kept per calendar day for open tasks only.
+ */
+@Service
+public class TaskStatsService {
+  private static final Logger log = LoggerFactory.getLogger(TaskStatsService.class);
+
+  private final TaskRepository taskRepository;
+  private final Clock clock;
+  private final ExecutorService reconcileExecutor;
+  private final AtomicBoolean reconcilePending = new AtomicBoolean();
+  private volatile Counters counters = new Counters();
+  private volatile LocalDateTime reconciledAt;
+
+  @Autowired
+  public TaskStatsService(TaskRepository taskRepository, Clock clock) {
+    this(
+        taskRepository,
+        clock,
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "task-stats")));
+  }
+
+  TaskStatsService(TaskRepository taskRepository, Clock clock, ExecutorService reconcileExecutor) {
+    this.taskRepository = taskRepository;
+    this.clock = clock;
+    this.reconcileExecutor = reconcileExecutor;
+  }
+
+  public TaskStatsResponse getStats() {
+    Counters snapshot = counters;
+    LocalDate today = LocalDate.now(clock);
+
+    Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+    long total = 0;
+    for (Map.Entry<Status, LongAdder> entry : snapshot.byStatus.entrySet()) {
+      long count = entry.getValue().sum();
+      byStatus.put(entry.getKey(), count);
+      total += count;
+    }
+    long overdue = 0;
+    for (LongAdder day : snapshot.openByDueDay.headMap(today).values()) {
+      overdue += day.sum();
+    }
+    LongAdder todayBucket = snapshot.openByDueDay.get(today);
+
+    return TaskStatsResponse.builder()
+        .total(total)
+        .byStatus(byStatus)
+        .overdue(overdue)
+        .dueToday(todayBucket == null ? 0 : todayBucket.sum())
+        .generatedAt(LocalDateTime.now(clock))
+        .reconciledAt(reconciledAt)
+        .build();
+  }
+
+  /**
+   * Number of tasks with {@code status}, or of all tasks when it is {@code null}, from the
+   * counters. Exact for this node's writes; others' are picked up at the next reconcile.
+   */
+  public long estimatedCount(Status status) {
+    Counters snapshot = counters;
+    if (status != null) {
+      return snapshot.byStatus.get(status).sum();
+    }
+    long total = 0;
+    for (LongAdder count : snapshot.byStatus.values()) {
+      total += count.sum();
+    }
+    return total;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    Counters target = counters;
+    if (event.getPrevious() != null) {
+      target.apply(event.getPrevious(), -1);
+    }
+    if (event.getCurrent() != null) {
+      target.apply(event.getCurrent(), 1);
+    }
+  }
+
+  /** Applies a single-task write made by another node, from the images its notice carries. */
+  public void apply(TaskChangeNotice notice) {
+    Counters target = counters;
+    target.apply(notice.getPreviousStatus(), notice.getPreviousDueDay(), -1);
+    target.apply(notice.getCurrentStatus(), notice.getCurrentDueDay(), 1);
+  }
+
+  /** Queues a {@link #reconcile} unless one is already waiting; requests meanwhile coalesce. */
+  public void reconcileLater() {
+    if (reconcilePending.compareAndSet(false, true)) {
+      reconcileExecutor.execute(
+          () -> {
+            reconcilePending.set(false);
+            try {
+              reconcile();
+            } catch (RuntimeException exception) {
+              log.error("Task statistics reconcile failed", exception);
+            }
+          });
+    }
+  }
+
+  /** Bulk operations carry no row images, so the counters are rebuilt from the database. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+    if (event.getAffected() > 0) {
+      reconcile();
+    }
+  }
+
+  /**
+   * Rebuilds all counters from the database. Runs once the application is ready and then on a
+   * fixed delay ({@code task.stats.reconcile-interval}, default five minutes).
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${task.stats.reconcile-interval:PT5M}",
+      fixedDelayString = "${task.stats.reconcile-interval:PT5M}")
+  public void reconcile() {
+    Counters fresh = new Counters();
+    for (Object[] row : taskRepository.countByStatus()) {
+      if (row[0] != null) {
+        fresh.byStatus.get((Status) row[0]).add(((Number) row[1]).longValue());
+      }
+    }
+    for (Object[] row : taskRepository.countOpenByDueDay()) {
+      LocalDate day = toLocalDate(row[0]);
+      if (day != null) {
+        fresh.dayBucket(day).add(((Number) row[1]).longValue());
+      }
+    }
+    // Writes landing between the queries above and this swap are picked up by the next run.
+    counters = fresh;
+    reconciledAt = LocalDateTime.now(clock);
+    log.debug("Task statistics reconciled at {}", reconciledAt);
+  }
+
+  @PreDestroy
+  void close() {
+    reconcileExecutor.shutdownNow();
+  }
+
+  private static LocalDate toLocalDate(Object value) {
+    if (value instanceof LocalDate localDate) {
+      return localDate;
+    }
+    if (value instanceof Date sqlDate) {
+      return sqlDate.toLocalDate();
+    }
+    return null;
+  }
+
+  private static final class Counters {
+    private final Map<Status, LongAdder> byStatus = new EnumMap<>(Status.class);
+    private final ConcurrentSkipListMap<LocalDate, LongAdder> openByDueDay =
+        new ConcurrentSkipListMap<>();
+
+    private Counters() {
+      // Pre-populated so concurrent readers never observe a structural modification.
+      for (Status status : Status.values()) {
+        byStatus.put(status, new LongAdder());
+      }
+    }
+
+    private LongAdder dayBucket(LocalDate day) {
+      return openByDueDay.computeIfAbsent(day, d -> new LongAdder());
+    }
+
+    private void apply(TaskResponse task, int delta) {
+      apply(
+          task.getStatus(),
+          task.getDueDate() == null ? null : task.getDueDate().toLocalDate(),
+          delta);
+    }
+
+    private void apply(Status status, LocalDate dueDay, int delta) {
+      if (status == null) {
+        return;
+      }
+      byStatus.get(status).add(delta);
+      if (!status.isTerminal() && dueDay != null) {
+        dayBucket(dueDay).add(delta);
+      }
+    }
+  }
+}
@@ -0,0 +1,374 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongPredicate;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskSuggestion;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+/**
+ * As-you-type title suggestions served from memory, without touching the database.
+ *
+ * <p>Titles are normalised (accents stripped, lower case, punctuation collapsed to single spaces)
+ * and every suffix that starts at a word is kept in an immutable suffix array: one packed {@code
+ * long} per word, sorted by the text from that word on, so "rep" finds both "Report draft" and
+ * "Weekly report". A lookup is a binary search and an ordered scan that stops after {@code limit}
+ * distinct tasks.
+ *
+ * <p>{@link TaskChangedEvent}s go to a small map of edits that overrides the array and is folded
+ * into a new array once it holds {@link TaskConstants#SUGGEST_MAX_EDITS} entries. The array is
+ * reloaded from the database in the background at startup, after bulk deletes and imports, and
+ * every {@code task.suggest.reload-interval}; edits made while a load runs are kept and still
+ * override the loaded titles after the swap.
+ */
+@Service
+public class TaskSuggestService {
+  private static final Logger log = LoggerFactory.getLogger(TaskSuggestService.class);
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private final TaskRepository taskRepository;
+  private final ExecutorService rebuildExecutor;
+  private final AtomicBoolean reloadPending = new AtomicBoolean();
+  private final AtomicBoolean foldPending = new AtomicBoolean();
+
+  /** Titles changed since the array was built, by task id; a {@code null} title is a removal. */
+  private final Map<Long, Edit> edits = new ConcurrentHashMap<>();
+
+  private long editSequence;
+  private volatile SuffixArray index = new SuffixArray(Map.of());
+
+  @Autowired
+  public TaskSuggestService(TaskRepository taskRepository) {
+    this(
+        taskRepository,
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "task-suggest")));
+  }
+
+  TaskSuggestService(TaskRepository taskRepository, ExecutorService rebuildExecutor) {
+    this.taskRepository = taskRepository;
+    this.rebuildExecutor = rebuildExecutor;
+  }
+
+  public List<TaskSuggestion> suggest(String prefix, Integer limit) {
+    int size = limit == null ? TaskConstants.DEFAULT_SUGGEST_LIMIT : limit;
+    if (size < 1) {
+      throw new BadRequestException(TaskConstants.INVALID_LIMIT);
+    }
+    String key = prefix == null ? "" : normalise(prefix);
+    if (key.isEmpty()) {
+      return List.of();
+    }
+    return lookup(key, Math.min(size, TaskConstants.MAX_SUGGEST_LIMIT));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    TaskResponse current = event.getCurrent();
+    record(event.getTaskId(), current == null ? null : current.getTitle());
+    foldIfFull();
+  }
+
+  /**
+   * Queues a read of the current titles of {@code ids}, written or deleted by another node, whose
+   * notices carry no titles. A task this node edits before the read is applied keeps that edit.
+   */
+  public void refresh(Collection<Long> ids) {
+    List<Long> changed = List.copyOf(ids);
+    rebuildExecutor.execute(() -> reread(changed));
+  }
+
+  /** Bulk deletes and imports carry no row images, so the index is reloaded. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+    if (event.getAffected() > 0
+        && event.getOperation() != TasksBulkChangedEvent.Operation.STATUS_CHANGED) {
+      reload();
+    }
+  }
+
+  /**
+   * Queues a reload of the index from the database. Runs once the application is ready and then
+   * on a fixed delay ({@code task.suggest.reload-interval}, default ten minutes) to pick up writes
+   * made by other nodes; requests arriving while one is queued coalesce.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${task.suggest.reload-interval:PT10M}",
+      fixedDelayString = "${task.suggest.reload-interval:PT10M}")
+  public void reload() {
+    if (reloadPending.compareAndSet(false, true)) {
+      rebuildExecutor.execute(this::load);
+    }
+  }
+
+  @PreDestroy
+  void close() {
+    rebuildExecutor.shutdownNow();
+  }
+
+  static String normalise(String text) {
+    String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("");
+    return SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+  }
+
+  private synchronized void record(long id, String title) {
+    edits.put(id, new Edit(title, title == null ? "" : normalise(title), ++editSequence));
+  }
+
+  private synchronized void recordUnlessEditedSince(long id, String title, long since) {
+    Edit edit = edits.get(id);
+    if (edit == null || edit.sequence() <= since) {
+      record(id, title);
+    }
+  }
+
+  private synchronized long lastEditSequence() {
+    return editSequence;
+  }
+
+  private void foldIfFull() {
+    if (edits.size() >= TaskConstants.SUGGEST_MAX_EDITS
+        && foldPending.compareAndSet(false, true)) {
+      rebuildExecutor.execute(this::fold);
+    }
+  }
+
+  // Runs on the rebuild thread, so never alongside a load; a missing row is a removal.
+  private void reread(List<Long> ids) {
+    try {
+      long since = lastEditSequence();
+      Map<Long, String> titles = new HashMap<>();
+      taskRepository
+          .findAllById(ids)
+          .forEach(entity -> titles.put(entity.getId(), entity.getTitle()));
+      for (Long id : ids) {
+        recordUnlessEditedSince(id, titles.get(id), since);
+      }
+      foldIfFull();
+    } catch (RuntimeException exception) {
+      log.error("Task suggestion refresh of {} tasks failed", ids.size(), exception);
+    }
+  }
+
+  /** Builds the array from the table; edits recorded after the load began survive the swap. */
+  private void load() {
+    reloadPending.set(false);
+    try {
+      long since = lastEditSequence();
+      Map<Long, String> titles = new HashMap<>();
+      long loaded =
+          taskRepository.forEachMatching(
+              null, entity -> titles.put(entity.getId(), entity.getTitle()));
+      swap(new SuffixArray(titles), since);
+      log.debug("Task suggestion index loaded with {} titles", loaded);
+    } catch (RuntimeException exception) {
+      log.error("Task suggestion index reload failed", exception);
+    }
+  }
+
+  /** Applies the pending edits to a copy of the array's titles, without reading the table. */
+  private void fold() {
+    foldPending.set(false);
+    long since;
+    Map<Long, Edit> folded;
+    synchronized (this) {
+      since = editSequence;
+      folded = new HashMap<>(edits);
+    }
+    Map<Long, String> titles = index.titles();
+    folded.forEach((id, edit) -> titles.put(id, edit.title()));
+    swap(new SuffixArray(titles), since);
+  }
+
+  private void swap(SuffixArray fresh, long since) {
+    index = fresh;
+    // Only edits the new array already reflects are dropped; later ones keep overriding it.
+    edits.values().removeIf(edit -> edit.sequence() <= since);
+  }
+
+  private List<TaskSuggestion> lookup(String prefix, int limit) {
+    List<Match> matches = new ArrayList<>();
+    edits.forEach(
+        (id, edit) -> {
+          String suffix = firstSuffix(edit.normalised(), prefix);
+          if (suffix != null) {
+            matches.add(new Match(id, edit.title(), suffix));
+          }
+        });
+    index.scan(prefix, limit, id -> !edits.containsKey(id), matches);
+    matches.sort(Comparator.comparing(Match::suffix).thenComparingLong(Match::id));
+
+    List<TaskSuggestion> suggestions = new ArrayList<>(Math.min(limit, matches.size()));
+    for (Match match : matches) {
+      if (suggestions.size() == limit) {
+        break;
+      }
+      suggestions.add(new TaskSuggestion(match.id(), match.title()));
+    }
+    return suggestions;
+  }
+
+  /** The lowest suffix of {@code normalised} that starts at a word and with {@code prefix}. */
+  private static String firstSuffix(String normalised, String prefix) {
+    String first = null;
+    for (int offset : wordStarts(normalised)) {
+      if (normalised.startsWith(prefix, offset)) {
+        String suffix = normalised.substring(offset);
+        if (first == null || suffix.compareTo(first) < 0) {
+          first = suffix;
+        }
+      }
+    }
+    return first;
+  }
+
+  private static int[] wordStarts(String normalised) {
+    if (normalised.isEmpty()) {
+      return new int[0];
+    }
+    int count = 1;
+    for (int i = 0; i < normalised.length(); i++) {
+      if (normalised.charAt(i) == ' ') {
+        count++;
+      }
+    }
+    int[] starts = new int[count];
+    for (int i = 0, w = 1; i < normalised.length(); i++) {
+      if (normalised.charAt(i) == ' ') {
+        starts[w++] = i + 1;
+      }
+    }
+    return starts;
+  }
+
+  private record Edit(String title, String normalised, long sequence) {}
+
+  private record Match(long id, String title, String suffix) {}
+
+  /**
+   * Immutable suffix array over normalised titles. Tasks sit in id order in parallel arrays, and
+   * each entry of {@code suffixes} packs a task slot (high 32 bits) with the offset of a word in
+   * its normalised title (low 32 bits), sorted by the text from that offset on.
+   */
+  private static final class SuffixArray {
+    private final long[] ids;
+    private final String[] titles;
+    private final String[] normalised;
+    private final long[] suffixes;
+
+    private SuffixArray(Map<Long, String> byId) {
+      long[] sortedIds =
+          byId.entrySet().stream()
+              .filter(entry -> entry.getValue() != null && !normalise(entry.getValue()).isEmpty())
+              .mapToLong(Map.Entry::getKey)
+              .sorted()
+              .toArray();
+      this.ids = sortedIds;
+      this.titles = new String[sortedIds.length];
+      this.normalised = new String[sortedIds.length];
+      List<Long> packed = new ArrayList<>();
+      for (int slot = 0; slot < sortedIds.length; slot++) {
+        titles[slot] = byId.get(sortedIds[slot]);
+        normalised[slot] = normalise(titles[slot]);
+        for (int offset : wordStarts(normalised[slot])) {
+          packed.add(((long) slot << 32) | offset);
+        }
+      }
+      packed.sort(this::compare);
+      this.suffixes = packed.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private Map<Long, String> titles() {
+      Map<Long, String> copy = new HashMap<>(ids.length * 2);
+      for (int slot = 0; slot < ids.length; slot++) {
+        copy.put(ids[slot], titles[slot]);
+      }
+      return copy;
+    }
+
+    /**
+     * Adds the first {@code limit} distinct tasks {@code include} accepts whose suffixes start with
+     * {@code prefix}, in suffix order.
+     */
+    private void scan(
+        String prefix, int limit, LongPredicate include, List<Match> matches) {
+      int low = 0;
+      int high = suffixes.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (compareTo(suffixes[mid], prefix) < 0) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      Set<Long> seen = new HashSet<>();
+      for (int i = low; i < suffixes.length && seen.size() < limit; i++) {
+        int slot = (int) (suffixes[i] >>> 32);
+        int offset = (int) suffixes[i];
+        if (!normalised[slot].startsWith(prefix, offset)) {
+          break;
+        }
+        if (include.test(ids[slot]) && seen.add(ids[slot])) {
+          matches.add(new Match(ids[slot], titles[slot], normalised[slot].substring(offset)));
+        }
+      }
+    }
+
+    private int compare(long left, long right) {
+      String a = normalised[(int) (left >>> 32)];
+      String b = normalised[(int) (right >>> 32)];
+      int i = (int) left;
+      int j = (int) right;
+      while (i < a.length() && j < b.length()) {
+        int diff = a.charAt(i++) - b.charAt(j++);
+        if (diff != 0) {
+          return diff;
+        }
+      }
+      int lengths = (a.length() - i) - (b.length() - j);
+      return lengths != 0 ? lengths : Long.compare(left, right);
+    }
+
+    private int compareTo(long suffix, String prefix) {
+      String text = normalised[(int) (suffix >>> 32)];
+      int offset = (int) suffix;
+      int length = Math.min(text.length() - offset, prefix.length());
+      for (int k = 0; k < length; k++) {
+        int diff = text.charAt(offset + k) - prefix.charAt(k);
+        if (diff != 0) {
+          return diff;
+        }
+      }
+      return (text.length() - offset) - prefix.length();
+    }
+  }
+}
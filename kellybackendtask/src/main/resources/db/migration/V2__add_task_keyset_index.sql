@@ -0,0 +1,6 @@
+-- Flyway V2: composite index backing keyset pagination on GET /api/tasks
+-- Serves ORDER BY duedate, id with a seek predicate instead of OFFSET scans.
+CREATE INDEX idx_task_due_id ON public.task(duedate, id);
+
+-- Superseded: every lookup on duedate alone can use the leading column of idx_task_due_id.
+DROP INDEX IF EXISTS public.idx_task_due;
@@ -0,0 +1,17 @@
+-- Flyway V3: change tracking for delta sync (GET /api/tasks/changes)
+-- One sequence versions both live rows and tombstones so a single token orders every change.
+CREATE SEQUENCE public.task_change_seq;
+
+ALTER TABLE public.task
+  ADD COLUMN change_version BIGINT NOT NULL DEFAULT nextval('public.task_change_seq'),
+  ADD COLUMN updated_at TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL DEFAULT now();
+
+CREATE INDEX idx_task_change_version ON public.task(change_version);
+
+CREATE TABLE public.task_tombstone (
+  version BIGINT PRIMARY KEY,
+  task_id BIGINT NOT NULL,
+  deleted_at TIMESTAMP(6) WITHOUT TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_task_tombstone_deleted_at ON public.task_tombstone(deleted_at);
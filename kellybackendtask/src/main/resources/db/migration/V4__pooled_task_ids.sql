@@ -0,0 +1,5 @@
+-- Flyway V4: pooled id allocation so Hibernate can batch task inserts
+-- TaskEntity now draws ids from task_id_seq (the BIGSERIAL sequence from V1) with a pooled
+-- optimizer of allocation size 50; the sequence increment must match. The column default keeps
+-- working for raw SQL inserts: each nextval simply reserves a block no Hibernate node will use.
+ALTER SEQUENCE public.task_id_seq INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- Flyway V5: delta sync pages by (change_version, id) because bulk status updates stamp a whole
+-- chunk of rows with one version
+DROP INDEX IF EXISTS public.idx_task_change_version;
+CREATE INDEX idx_task_change_version ON public.task(change_version, id);
@@ -0,0 +1,4 @@
+-- Flyway V6: title search is lower(title) LIKE '%term%', which no B-tree can serve. A trigram GIN
+-- index on the same expression lets the planner answer it with a bitmap index scan.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_task_title_trgm ON public.task USING gin (lower(title) gin_trgm_ops);
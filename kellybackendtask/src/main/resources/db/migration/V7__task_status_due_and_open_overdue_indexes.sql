@@ -0,0 +1,13 @@
+-- Flyway V7: indexes shaped to the status and overdue queries.
+-- GET /status/{status} filters on status and returns soonest due first; with duedate and id after
+-- status the rows come back in index order and no sort is needed.
+CREATE INDEX idx_task_status_due_id ON public.task(status, duedate, id);
+
+-- Superseded: status lookups use the leading column of idx_task_status_due_id.
+DROP INDEX IF EXISTS public.idx_task_status;
+
+-- GET /overdue only wants open tasks. Closed tasks are most of the table and never leave that
+-- state, so a partial index over the open ones stays small. Queries must repeat this predicate
+-- with literal values for the planner to use it.
+CREATE INDEX idx_task_open_due ON public.task(duedate, id)
+  WHERE status NOT IN ('COMPLETED', 'CANCELLED');
@@ -0,0 +1,10 @@
+-- Flyway V8: commit-ordered write counter behind collection ETags.
+-- Every write transaction bumps the single row just before it commits. The row lock is held only
+-- from that bump to the commit, so committed values rise in commit order and a late commit still
+-- moves the counter, which MAX(change_version) cannot promise.
+CREATE TABLE public.task_write_counter (
+  id INTEGER PRIMARY KEY,
+  writes BIGINT NOT NULL
+);
+
+INSERT INTO public.task_write_counter (id, writes) VALUES (1, 0);
@@ -9,13 +9,33 @@ CREATE DOMAIN IF NOT EXISTS status_enum AS VARCHAR(32) CHECK (
     'CANCELLED'
   )
 );
+CREATE SEQUENCE IF NOT EXISTS task_change_seq;
+CREATE SEQUENCE IF NOT EXISTS task_id_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE IF NOT EXISTS task (
-  id INTEGER GENERATED BY DEFAULT AS IDENTITY,
+  id BIGINT DEFAULT NEXT VALUE FOR task_id_seq NOT NULL,
   title VARCHAR(100),
   description VARCHAR(200),
   status status_enum,
   duedate TIMESTAMP(6) WITHOUT TIME ZONE,
   tasknum INTEGER,
+  change_version BIGINT DEFAULT NEXT VALUE FOR task_change_seq NOT NULL,
+  updated_at TIMESTAMP(6) WITHOUT TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
   CONSTRAINT tbtask_pkey PRIMARY KEY (id)
 );
-CREATE INDEX IF NOT EXISTS idx_task_status ON task(status);
\ No newline at end of file
+-- H2 has no partial indexes; overdue queries use idx_task_due_id instead of idx_task_open_due.
+CREATE INDEX IF NOT EXISTS idx_task_status_due_id ON task(status, duedate, id);
+CREATE INDEX IF NOT EXISTS idx_task_due_id ON task(duedate, id);
+CREATE INDEX IF NOT EXISTS idx_task_change_version ON task(change_version, id);
+CREATE TABLE IF NOT EXISTS task_tombstone (
+  version BIGINT NOT NULL,
+  task_id BIGINT NOT NULL,
+  deleted_at TIMESTAMP(6) WITHOUT TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  CONSTRAINT task_tombstone_pkey PRIMARY KEY (version)
+);
+CREATE INDEX IF NOT EXISTS idx_task_tombstone_deleted_at ON task_tombstone(deleted_at);
+CREATE TABLE IF NOT EXISTS task_write_counter (
+  id INTEGER NOT NULL,
+  writes BIGINT NOT NULL,
+  CONSTRAINT task_write_counter_pkey PRIMARY KEY (id)
+);
+MERGE INTO task_write_counter (id, writes) KEY (id) VALUES (1, 0);
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.when;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.time.Duration;
 import java.util.Map;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.service.TaskCache;
+import uk.gov.hmcts.reform.dev.service.TaskReadGuard;
+import uk.gov.hmcts.reform.dev.service.TaskSearchCache;
 
 class InfoControllerTest {
 
@@ -55,7 +60,23 @@ class InfoControllerTest {
             return ds;
           }
         };
-    InfoController controller = new InfoController(env, provider);
+    TaskCache taskCache = new TaskCache(100, Duration.ofMinutes(1));
+    TaskSearchCache searchCache = new TaskSearchCache(1000, Duration.ofMinutes(1));
+    TaskReadGuard readGuard =
+        new TaskReadGuard(
+            Mockito.mock(PlatformTransactionManager.class),
+            Duration.ofSeconds(2),
+            Duration.ofSeconds(10),
+            4,
+            1000,
+            Duration.ofHours(1));
+    InfoController controller =
+        new InfoController(
+            env,
+            provider,
+            beanProvider(taskCache),
+            beanProvider(searchCache),
+            beanProvider(readGuard));
     // inject app name via reflection since @Value is not processed here
     var appNameField = InfoController.class.getDeclaredField("appName");
     appNameField.setAccessible(true);
@@ -63,7 +84,15 @@ class InfoControllerTest {
 
     Map<String, Object> info = controller.info();
 
-    assertThat(info).containsKeys("application", "activeProfiles", "defaultProfiles", "database");
+    assertThat(info)
+        .containsKeys(
+            "application",
+            "activeProfiles",
+            "defaultProfiles",
+            "database",
+            "taskCache",
+            "searchCache",
+            "readGuard");
     assertThat(info.get("application")).isEqualTo("test-backend");
     assertThat((String[]) info.get("activeProfiles")).containsExactly("test");
     assertThat((String[]) info.get("defaultProfiles")).containsExactly("default");
@@ -74,6 +103,16 @@ class InfoControllerTest {
     assertThat(db.get("version")).isEqualTo("16.3");
     assertThat(db.get("url"))
         .isEqualTo("jdbc:postgresql://localhost:5432/appdb"); // credentials + params stripped
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> cacheStats = (Map<String, Object>) info.get("taskCache");
+    assertThat(cacheStats).containsEntry("maxSize", 100L).containsEntry("hits", 0L);
+    @SuppressWarnings("unchecked")
+    Map<String, Object> searchStats = (Map<String, Object>) info.get("searchCache");
+    assertThat(searchStats).containsEntry("maxTasks", 1000L).containsEntry("stale", 0L);
+    @SuppressWarnings("unchecked")
+    Map<String, Object> guardStats = (Map<String, Object>) info.get("readGuard");
+    assertThat(guardStats).containsEntry("circuit", "CLOSED").containsEntry("staleServed", 0L);
   }
 
   @Test
@@ -103,7 +142,9 @@ class InfoControllerTest {
             return ds;
           }
         };
-    InfoController controller = new InfoController(env, provider);
+    InfoController controller =
+        new InfoController(
+            env, provider, beanProvider(null), beanProvider(null), beanProvider(null));
     var appNameField = InfoController.class.getDeclaredField("appName");
     appNameField.setAccessible(true);
     appNameField.set(controller, "app");
@@ -119,4 +160,11 @@ class InfoControllerTest {
     assertThat(sanitizeMethod.invoke(controller, "jdbc:postgresql://host/db"))
         .isEqualTo("jdbc:postgresql://host/db");
   }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ObjectProvider<T> beanProvider(T bean) {
+    ObjectProvider<T> provider = Mockito.mock(ObjectProvider.class);
+    when(provider.getIfAvailable()).thenReturn(bean);
+    return provider;
+  }
 }
@@ -1,37 +1,79 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import uk.gov.hmcts.reform.dev.config.TaskClockConfig;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.request.TaskFilter;
 import uk.gov.hmcts.reform.dev.dto.request.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.response.TaskCount;
+import uk.gov.hmcts.reform.dev.dto.response.TaskFacets;
+import uk.gov.hmcts.reform.dev.dto.response.TaskPageResponse;
 import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponseStream;
 import uk.gov.hmcts.reform.dev.exception.ResourceNotFoundException;
 import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+import uk.gov.hmcts.reform.dev.service.TaskCountService;
+import uk.gov.hmcts.reform.dev.service.TaskEtagService;
+import uk.gov.hmcts.reform.dev.service.TaskFullTextService;
+import uk.gov.hmcts.reform.dev.service.TaskSearchResolver;
 import uk.gov.hmcts.reform.dev.service.TaskService;
 
 @WebMvcTest(TaskController.class)
+@Import(TaskClockConfig.class)
 class TaskControllerUnitTest {
 
   @Autowired private MockMvc mockMvc;
 
   @MockitoBean private TaskService taskService;
 
+  @MockitoBean private TaskEtagService taskEtagService;
+
+  @MockitoBean private TaskFullTextService taskFullTextService;
+
+  @MockitoBean private TaskCountService taskCountService;
+
+  @MockitoBean private TaskSearchResolver taskSearchResolver;
+
   @Autowired private ObjectMapper objectMapper;
 
   private TaskRequest validRequest;
@@ -45,6 +87,8 @@ class TaskControllerUnitTest {
             .status(Status.PENDING)
             .dueDate(LocalDateTime.now().plusDays(1))
             .build();
+    when(taskSearchResolver.resolve(any(TaskFilter.class)))
+        .thenReturn(new TaskSearch(null, null, LocalDate.of(2030, 3, 1)));
   }
 
   @Test
@@ -121,4 +165,298 @@ class TaskControllerUnitTest {
         .andExpect(status().isOk())
         .andExpect(content().string("Task deleted successfully."));
   }
+
+  @Test
+  void getAllTasks_returnsKeysetPage_whenLimitSupplied() throws Exception {
+    TaskResponse task = TaskResponse.builder().id(7L).title("Paged").status(Status.NEW).build();
+    when(taskService.getTasksPage(eq(1), isNull()))
+        .thenReturn(
+            TaskPageResponse.builder()
+                .content(List.of(task))
+                .limit(1)
+                .hasNext(true)
+                .nextCursor("abc")
+                .build());
+
+    mockMvc
+        .perform(get("/api/tasks").param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].id").value(7L))
+        .andExpect(jsonPath("$.nextCursor").value("abc"));
+  }
+
+  @Test
+  void getAllTasks_returnsLegacyArray_whenNoPagingParams() throws Exception {
+    when(taskService.getAllTasks())
+        .thenReturn(List.of(TaskResponse.builder().id(3L).title("All").build()));
+
+    mockMvc
+        .perform(get("/api/tasks"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].id").value(3L));
+  }
+
+  @Test
+  void searchTasks_streamsNdjson_whenRequested() throws Exception {
+    TaskResponseStream stream =
+        sink -> {
+          sink.accept(TaskResponse.builder().id(1L).title("One").build());
+          sink.accept(TaskResponse.builder().id(2L).title("Two").build());
+        };
+    when(taskService.streamSearchTasks(argThat(filter -> "o".equals(filter.getTitle()))))
+        .thenReturn(stream);
+
+    MvcResult result =
+        mockMvc
+            .perform(
+                get("/api/tasks/search").param("title", "o").accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn();
+
+    String[] lines = result.getResponse().getContentAsString().split("\n");
+    assertEquals(2, lines.length);
+    assertEquals(2L, objectMapper.readTree(lines[1]).get("id").asLong());
+    verify(taskService, never()).searchTasks(any());
+  }
+
+  @Test
+  void searchTasks_returnsServerSortedPage_whenPagingParamsSupplied() throws Exception {
+    TaskPageResponse page =
+        TaskPageResponse.builder()
+            .content(List.of(TaskResponse.builder().id(4L).title("Sorted").build()))
+            .limit(10)
+            .hasNext(false)
+            .page(0)
+            .build();
+    when(taskService.searchTasksPage(
+            argThat(filter -> filter.getStatus() == Status.NEW && filter.getTitle() == null),
+            eq(0),
+            eq(10),
+            eq(List.of("title", "desc")),
+            eq(false),
+            eq(false)))
+        .thenReturn(page);
+
+    mockMvc
+        .perform(
+            get("/api/tasks/search")
+                .param("status", "NEW")
+                .param("page", "0")
+                .param("size", "10")
+                .param("sort", "title,desc"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].id").value(4L))
+        .andExpect(jsonPath("$.page").value(0))
+        .andExpect(jsonPath("$.totalElements").doesNotExist());
+  }
+
+  @Test
+  void searchTasks_returnsPageWithStatusFacets_whenFacetsRequested() throws Exception {
+    Map<Status, Long> counts = new EnumMap<>(Status.class);
+    counts.put(Status.NEW, 7L);
+    TaskPageResponse page =
+        TaskPageResponse.builder()
+            .content(List.of(TaskResponse.builder().id(4L).title("Report").build()))
+            .limit(50)
+            .page(0)
+            .facets(new TaskFacets(counts, true, TaskConstants.FACET_SAMPLE_SIZE))
+            .build();
+    when(taskService.searchTasksPage(
+            argThat(filter -> "report".equals(filter.getTitle())),
+            isNull(),
+            isNull(),
+            isNull(),
+            eq(false),
+            eq(true)))
+        .thenReturn(page);
+
+    mockMvc
+        .perform(get("/api/tasks/search").param("title", "report").param("facets", "status"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].id").value(4L))
+        .andExpect(jsonPath("$.facets.status.NEW").value(7))
+        .andExpect(jsonPath("$.facets.approximate").value(true))
+        .andExpect(jsonPath("$.facets.sampled").value(TaskConstants.FACET_SAMPLE_SIZE));
+    verify(taskService, never()).searchTasks(any());
+  }
+
+  @Test
+  void searchTasks_returns400_whenFacetUnsupported() throws Exception {
+    mockMvc
+        .perform(get("/api/tasks/search").param("facets", "dueDate"))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(get("/api/tasks/search").param("q", "report").param("facets", "status"))
+        .andExpect(status().isBadRequest());
+    verify(taskFullTextService, never()).search(any(), any(), any(), any());
+  }
+
+  @Test
+  void headTasks_returnsEstimatedTotalInHeaders() throws Exception {
+    when(taskCountService.count(argThat(filter -> !filter.hasCriteria()), eq(false)))
+        .thenReturn(new TaskCount(1_234L, false));
+
+    mockMvc
+        .perform(head("/api/tasks"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("X-Total-Count", "1234"))
+        .andExpect(header().string("X-Total-Count-Exact", "false"))
+        .andExpect(content().string(""));
+    verify(taskService, never()).getAllTasks();
+  }
+
+  @Test
+  void headSearch_countsFilterExactlyWhenAsked() throws Exception {
+    when(taskCountService.count(
+            argThat(
+                filter -> filter.getStatus() == Status.NEW && "report".equals(filter.getTitle())),
+            eq(true)))
+        .thenReturn(new TaskCount(3L, true));
+
+    mockMvc
+        .perform(
+            head("/api/tasks/search")
+                .param("title", "report")
+                .param("status", "NEW")
+                .param("exact", "true"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("X-Total-Count", "3"))
+        .andExpect(header().string("X-Total-Count-Exact", "true"));
+    mockMvc
+        .perform(head("/api/tasks/search").param("q", "report"))
+        .andExpect(status().isBadRequest());
+    verify(taskService, never()).searchTasks(any());
+  }
+
+  @Test
+  void searchTasks_returnsRankedResults_whenQuerySupplied() throws Exception {
+    when(taskFullTextService.search(eq("reprt"), eq(Status.NEW), isNull(), eq(5)))
+        .thenReturn(List.of(TaskResponse.builder().id(9L).title("Weekly report").build()));
+
+    mockMvc
+        .perform(
+            get("/api/tasks/search")
+                .param("q", "reprt")
+                .param("status", "NEW")
+                .param("size", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].id").value(9L))
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    verify(taskService, never()).searchTasks(any());
+    verify(taskEtagService, never()).collectionEtag(anyString());
+  }
+
+  @Test
+  void searchTasks_keysCollectionEtagOnResolvedDueRange() throws Exception {
+    when(taskSearchResolver.resolve(any(TaskFilter.class)))
+        .thenReturn(new TaskSearch(null, null, LocalDate.of(2030, 3, 1)))
+        .thenReturn(new TaskSearch(null, null, LocalDate.of(2030, 3, 2)));
+
+    // The same query string on two days must not share a validator.
+    mockMvc.perform(get("/api/tasks/search").param("dueRange", "today")).andExpect(status().isOk());
+    mockMvc.perform(get("/api/tasks/search").param("dueRange", "today")).andExpect(status().isOk());
+
+    ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+    verify(taskEtagService, times(2)).collectionEtag(keys.capture());
+    assertNotEquals(keys.getAllValues().get(0), keys.getAllValues().get(1));
+  }
+
+  @Test
+  void searchTasks_returns400_whenDueDateUnparseable() throws Exception {
+    mockMvc
+        .perform(get("/api/tasks/search").param("dueDate", "31/12/2025"))
+        .andExpect(status().isBadRequest());
+    verify(taskService, never()).searchTasks(any());
+  }
+
+  @Test
+  void searchTasks_returns400_whenQueryCombinedWithTitle() throws Exception {
+    mockMvc
+        .perform(get("/api/tasks/search").param("q", "report").param("title", "weekly"))
+        .andExpect(status().isBadRequest());
+    verify(taskFullTextService, never()).search(any(), any(), any(), any());
+  }
+
+  @Test
+  void searchTasks_passesDueRangeAndBoundsToService() throws Exception {
+    when(taskService.searchTasks(any(TaskFilter.class)))
+        .thenReturn(List.of(TaskResponse.builder().id(6L).title("Due").build()));
+
+    mockMvc
+        .perform(get("/api/tasks/search").param("dueRange", "this_week"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].id").value(6L));
+    mockMvc
+        .perform(
+            get("/api/tasks/search")
+                .param("dueFrom", "2025-03-01")
+                .param("dueTo", "2025-03-08T12:00"))
+        .andExpect(status().isOk());
+
+    verify(taskService).searchTasks(argThat(filter -> "this_week".equals(filter.getDueRange())));
+    verify(taskService)
+        .searchTasks(
+            argThat(
+                filter ->
+                    LocalDateTime.of(2025, 3, 1, 0, 0).equals(filter.getDueFrom())
+                        && LocalDateTime.of(2025, 3, 8, 12, 0).equals(filter.getDueTo())));
+  }
+
+  @Test
+  void searchTasks_returns400_whenDueBoundUnparseable() throws Exception {
+    mockMvc
+        .perform(get("/api/tasks/search").param("dueFrom", "next tuesday"))
+        .andExpect(status().isBadRequest());
+    verify(taskService, never()).searchTasks(any());
+  }
+
+  @Test
+  void getTask_returns304_whenEtagMatches() throws Exception {
+    when(taskService.getTaskById(5L))
+        .thenReturn(TaskResponse.builder().id(5L).title("Cached").version(12L).build());
+
+    mockMvc
+        .perform(get("/api/tasks/{id}", 5L).header(HttpHeaders.IF_NONE_MATCH, "\"v12\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"v12\""));
+    // The validator comes from the (cached) task, not a version query.
+    verifyNoInteractions(taskEtagService);
+  }
+
+  @Test
+  void getTask_returnsEtag_whenValidatorChanged() throws Exception {
+    when(taskService.getTaskById(5L))
+        .thenReturn(TaskResponse.builder().id(5L).title("Fresh").version(13L).build());
+
+    mockMvc
+        .perform(get("/api/tasks/{id}", 5L).header(HttpHeaders.IF_NONE_MATCH, "\"v12\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"v13\""))
+        .andExpect(jsonPath("$.title").value("Fresh"));
+  }
+
+  @Test
+  void getAllTasks_returns304_whenCollectionEtagMatches() throws Exception {
+    when(taskEtagService.collectionEtag(anyString())).thenReturn("\"t40-abc\"");
+
+    mockMvc
+        .perform(get("/api/tasks").header(HttpHeaders.IF_NONE_MATCH, "\"t40-abc\""))
+        .andExpect(status().isNotModified());
+    verify(taskService, never()).getAllTasks();
+  }
+
+  @Test
+  void patchTask_acceptsMergePatch() throws Exception {
+    when(taskService.patchTask(eq(8L), any()))
+        .thenReturn(TaskResponse.builder().id(8L).description("edited").build());
+
+    mockMvc
+        .perform(
+            patch("/api/tasks/{id}", 8L)
+                .contentType("application/merge-patch+json")
+                .content("{\"description\":\"edited\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.description").value("edited"));
+  }
 }
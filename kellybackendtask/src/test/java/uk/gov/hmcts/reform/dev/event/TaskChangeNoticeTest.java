@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.dev.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Status;
+
+class TaskChangeNoticeTest {
+
+  @Test
+  void encodesWritesCompactlyAndDecodesThemBack() {
+    TaskResponse before =
+        TaskResponse.builder()
+            .id(42L)
+            .status(Status.NEW)
+            .dueDate(LocalDateTime.of(2030, 3, 1, 9, 30))
+            .version(6L)
+            .build();
+    TaskResponse after =
+        TaskResponse.builder().id(42L).status(Status.COMPLETED).version(7L).build();
+
+    TaskChangeNotice updated =
+        TaskChangeNotice.of("node-a", TaskChangedEvent.updated(before, after));
+    TaskChangeNotice deleted = TaskChangeNotice.of("node-a", TaskChangedEvent.deleted(after));
+
+    assertEquals("node-a,U,42,7,NEW,2030-03-01,COMPLETED,", updated.encode());
+    assertEquals("node-a,D,42,7,COMPLETED,,,", deleted.encode());
+    assertEquals("node-a,*,0,0,,,,", TaskChangeNotice.bulk("node-a").encode());
+    assertEquals(updated, TaskChangeNotice.decode(updated.encode()));
+    assertEquals(LocalDate.of(2030, 3, 1), updated.getPreviousDueDay());
+    assertEquals(TaskChangeNotice.bulk(""), TaskChangeNotice.decode(",*,0,0,,,,"));
+  }
+
+  @Test
+  void rejectsMalformedPayloads() {
+    for (String payload :
+        new String[] {
+          "",
+          "node-a,U,42,7",
+          "node-a,X,42,7,,,,",
+          "node-a,U,x,7,,,,",
+          "node-a,U,42,7,DONE,,,",
+          "node-a,U,42,7,NEW,tomorrow,,"
+        }) {
+      assertThrows(IllegalArgumentException.class, () -> TaskChangeNotice.decode(payload));
+    }
+  }
+}
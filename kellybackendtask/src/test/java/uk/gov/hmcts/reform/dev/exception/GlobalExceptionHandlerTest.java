@@ -8,6 +8,7 @@ import jakarta.validation.ConstraintViolationException;
 import java.util.Collections;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -42,4 +43,13 @@ class GlobalExceptionHandlerTest {
     assertEquals(HttpStatus.BAD_REQUEST, resp.getStatusCode());
     assertTrue(resp.getBody().isEmpty());
   }
+
+  @Test
+  void handlesServiceUnavailableWithRetryAfter() {
+    GlobalExceptionHandler h = new GlobalExceptionHandler();
+    ResponseEntity<String> resp =
+        h.handleServiceUnavailable(new ServiceUnavailableException("down", 10));
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, resp.getStatusCode());
+    assertEquals("10", resp.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+  }
 }
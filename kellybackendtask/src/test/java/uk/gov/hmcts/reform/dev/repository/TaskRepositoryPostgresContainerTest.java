@@ -52,22 +52,24 @@ class TaskRepositoryPostgresContainerTest {
             .description("Container test")
             .status(Status.PENDING)
             .dueDate(LocalDateTime.now().plusHours(3))
+            .changeVersion(1L)
             .build();
     TaskEntity overdue =
         TaskEntity.builder()
             .title("Overdue")
             .status(Status.IN_PROGRESS)
             .dueDate(LocalDateTime.now().minusHours(2))
+            .changeVersion(1L)
             .build();
     taskRepository.saveAll(List.of(create, overdue));
 
-    assertThat(taskRepository.findByStatus(Status.PENDING))
+    assertThat(taskRepository.findByStatusOrderByDueDateAscIdAsc(Status.PENDING))
         .hasSize(1)
         .first()
         .extracting(TaskEntity::getTitle)
         .isEqualTo("ProdLike");
 
-    assertThat(taskRepository.findByDueDateBefore(LocalDateTime.now()))
+    assertThat(taskRepository.findOpenOverdue(LocalDateTime.now()))
         .extracting(TaskEntity::getTitle)
         .containsExactly("Overdue");
   }
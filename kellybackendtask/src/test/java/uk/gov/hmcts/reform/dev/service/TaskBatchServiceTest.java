@@ -0,0 +1,158 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.validation.Validation;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.request.TaskBulkRequest;
+import uk.gov.hmcts.reform.dev.dto.request.TaskFilter;
+import uk.gov.hmcts.reform.dev.dto.request.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.response.TaskBatchResponse;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+class TaskBatchServiceTest {
+  private TaskRepository taskRepository;
+  private ApplicationEventPublisher eventPublisher;
+  private TaskBatchService service;
+
+  @BeforeEach
+  void setUp() {
+    taskRepository = mock(TaskRepository.class);
+    eventPublisher = mock(ApplicationEventPublisher.class);
+    service =
+        new TaskBatchService(
+            taskRepository,
+            new TaskMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            eventPublisher,
+            mock(PlatformTransactionManager.class),
+            new TaskSearchResolver(Clock.systemUTC()));
+  }
+
+  private static TaskRequest valid(String title) {
+    return TaskRequest.builder()
+        .title(title)
+        .status(Status.NEW)
+        .dueDate(LocalDateTime.now().plusDays(1))
+        .build();
+  }
+
+  @Test
+  void insertsValidEntriesAndReportsInvalidOnesByIndex() {
+    when(taskRepository.nextChangeVersions(2)).thenReturn(new long[] {7L, 8L});
+    doAnswer(
+            invocation -> {
+              List<TaskEntity> entities = invocation.getArgument(0);
+              long id = 100;
+              for (TaskEntity entity : entities) {
+                entity.setId(id++);
+              }
+              return null;
+            })
+        .when(taskRepository)
+        .insertInBatches(anyList());
+    TaskRequest missingTitle = valid(null);
+
+    TaskBatchResponse response = service.createTasks(List.of(valid("A"), missingTitle, valid("C")));
+
+    assertEquals(2, response.getCreated());
+    assertEquals(1, response.getRejected());
+    assertTrue(response.getResults().get(0).isCreated());
+    assertEquals(100L, response.getResults().get(0).getId());
+    assertFalse(response.getResults().get(1).isCreated());
+    assertEquals(
+        TaskConstants.TITLE_REQUIRED, response.getResults().get(1).getErrors().get("title"));
+    assertEquals(101L, response.getResults().get(2).getId());
+    verify(eventPublisher, times(2)).publishEvent(any(TaskChangedEvent.class));
+  }
+
+  @Test
+  void skipsInsertWhenEveryEntryIsInvalid() {
+    TaskBatchResponse response = service.createTasks(List.of(valid("")));
+
+    assertEquals(0, response.getCreated());
+    verify(taskRepository, never()).insertInBatches(anyList());
+  }
+
+  @Test
+  void rejectsEmptyBatch() {
+    assertThrows(BadRequestException.class, () -> service.createTasks(List.of()));
+  }
+
+  @Test
+  void bulkStatusUpdatesEachIdChunkWithItsOwnVersion() {
+    when(taskRepository.lockIdChunk(any(), eq(0L), anyInt())).thenReturn(List.of(1L, 5L));
+    when(taskRepository.lockIdChunk(any(), eq(5L), anyInt())).thenReturn(List.of(9L));
+    when(taskRepository.lockIdChunk(any(), eq(9L), anyInt())).thenReturn(List.of());
+    when(taskRepository.nextChangeVersion()).thenReturn(40L, 41L);
+    when(taskRepository.updateStatusInRange(any(), eq(1L), eq(5L), eq(Status.COMPLETED), eq(40L)))
+        .thenReturn(2);
+    when(taskRepository.updateStatusInRange(any(), eq(9L), eq(9L), eq(Status.COMPLETED), eq(41L)))
+        .thenReturn(1);
+
+    TaskBulkRequest request =
+        TaskBulkRequest.builder()
+            .filter(TaskFilter.builder().status(Status.IN_PROGRESS).build())
+            .status(Status.COMPLETED)
+            .build();
+
+    assertEquals(3, service.updateStatus(request).getAffected());
+    verify(eventPublisher).publishEvent(any(TasksBulkChangedEvent.class));
+  }
+
+  @Test
+  void bulkDeleteRemovesEachLockedChunk() {
+    when(taskRepository.lockIdChunk(any(), eq(0L), anyInt())).thenReturn(List.of(3L, 4L));
+    when(taskRepository.lockIdChunk(any(), eq(4L), anyInt())).thenReturn(List.of());
+    when(taskRepository.deleteWithTombstones(List.of(3L, 4L))).thenReturn(2);
+
+    TaskBulkRequest request = TaskBulkRequest.builder().ids(List.of(3L, 4L)).build();
+
+    assertEquals(2, service.delete(request).getAffected());
+  }
+
+  @Test
+  void bulkRejectsMissingOrAmbiguousTargets() {
+    TaskFilter filter = TaskFilter.builder().title("x").build();
+    for (TaskBulkRequest request :
+        List.of(
+            TaskBulkRequest.builder().status(Status.NEW).build(),
+            TaskBulkRequest.builder().ids(List.of(1L)).filter(filter).status(Status.NEW).build(),
+            TaskBulkRequest.builder().filter(new TaskFilter()).status(Status.NEW).build(),
+            TaskBulkRequest.builder().ids(List.of()).status(Status.NEW).build())) {
+      assertThrows(BadRequestException.class, () -> service.updateStatus(request));
+    }
+    assertThrows(
+        BadRequestException.class,
+        () -> service.updateStatus(TaskBulkRequest.builder().ids(List.of(1L)).build()));
+    verify(taskRepository, never())
+        .updateStatusInRange(any(), anyLong(), anyLong(), any(), anyLong());
+  }
+}
@@ -0,0 +1,222 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.event.TaskChangeNotice;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+
+class TaskCacheSyncTest {
+  private static final String PEER = "peer";
+
+  private final LoopbackTaskChangeChannel channel = new LoopbackTaskChangeChannel("self");
+  private final TaskCache taskCache = new TaskCache(100, Duration.ofMinutes(1));
+  private final TaskSearchCache searchCache = new TaskSearchCache(100, Duration.ofMinutes(1));
+  private final TaskReadGuard readGuard =
+      new TaskReadGuard(
+          mock(PlatformTransactionManager.class),
+          Duration.ofSeconds(2),
+          Duration.ofSeconds(10),
+          4,
+          1000,
+          Duration.ofHours(1));
+  private final TaskStatsService statsService = mock(TaskStatsService.class);
+  private final TaskFullTextService fullTextService = mock(TaskFullTextService.class);
+  private final TaskSuggestService suggestService = mock(TaskSuggestService.class);
+  private final TaskCacheSync sync =
+      new TaskCacheSync(
+          channel,
+          taskCache,
+          searchCache,
+          readGuard,
+          statsService,
+          fullTextService,
+          suggestService);
+  private final AtomicInteger loads = new AtomicInteger();
+  private final AtomicInteger searches = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    sync.subscribe();
+  }
+
+  private static TaskResponse task(long id, long version) {
+    return TaskResponse.builder().id(id).status(Status.NEW).version(version).build();
+  }
+
+  private void load(long id) {
+    taskCache.get(
+        id,
+        key -> {
+          loads.incrementAndGet();
+          return task(key, 5L);
+        });
+  }
+
+  private void search() {
+    search(Status.NEW);
+  }
+
+  private void search(Status status) {
+    searchCache.get(
+        "status",
+        new TaskSearch(null, status, null),
+        () -> {
+          searches.incrementAndGet();
+          return List.of();
+        });
+  }
+
+  private static TaskChangeNotice notice(
+      TaskChangeNotice.Operation operation, long id, long version) {
+    return new TaskChangeNotice(
+        PEER,
+        operation,
+        id,
+        version,
+        operation == TaskChangeNotice.Operation.CREATED ? null : Status.NEW,
+        null,
+        operation == TaskChangeNotice.Operation.DELETED ? null : Status.NEW,
+        null);
+  }
+
+  private void peer(TaskChangeNotice.Operation operation, long id, long version) {
+    channel.publish(List.of(notice(operation, id, version)));
+  }
+
+  @Test
+  void ownWritesAreSkipped() {
+    load(1L);
+    search();
+    sync.onTaskChanged(TaskChangedEvent.updated(task(1L, 5L), task(1L, 6L)));
+    sync.onTasksBulkChanged(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.DELETED, 3));
+
+    load(1L);
+    search();
+    assertEquals(1, loads.get());
+    assertEquals(1, searches.get());
+    verify(fullTextService, never()).scheduleCatchUp();
+    verify(statsService, never()).apply(any());
+  }
+
+  private static void commit(Runnable writes) {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      writes.run();
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(synchronization -> synchronization.beforeCommit(false));
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void aTransactionPublishesItsNoticesTogether() {
+    List<List<TaskChangeNotice>> published = new ArrayList<>();
+    channel.subscribe(published::add);
+
+    commit(
+        () -> {
+          sync.onTaskChanged(TaskChangedEvent.created(task(1L, 1L)));
+          sync.onTaskChanged(TaskChangedEvent.created(task(2L, 1L)));
+        });
+    assertEquals(1, published.size());
+    assertEquals(2, published.get(0).size());
+
+    commit(
+        () -> {
+          for (long id = 1; id <= TaskConstants.CHANGE_BATCH_MAX + 1; id++) {
+            sync.onTaskChanged(TaskChangedEvent.created(task(id, 1L)));
+          }
+        });
+    assertEquals(List.of(TaskChangeNotice.bulk("self")), published.get(1));
+  }
+
+  @Test
+  void peerWritesDropOlderTasksAndStaleSearches() {
+    load(1L);
+    load(2L);
+    load(3L);
+    search();
+    search(Status.COMPLETED);
+
+    peer(TaskChangeNotice.Operation.UPDATED, 1L, 5L);
+    load(1L);
+    assertEquals(3, loads.get());
+    search();
+    search(Status.COMPLETED);
+    // Only the statuses the task moved between go stale.
+    assertEquals(3, searches.get());
+
+    peer(TaskChangeNotice.Operation.UPDATED, 1L, 6L);
+    peer(TaskChangeNotice.Operation.DELETED, 2L, 5L);
+    load(1L);
+    load(2L);
+    load(3L);
+    assertEquals(5, loads.get());
+  }
+
+  @Test
+  void peerWritesReachStatsSuggestionsIndexAndLastGoodTasks() {
+    readGuard.read(TaskReadGuard.TASK, 1L, () -> task(1L, 5L));
+    TaskChangeNotice updated = notice(TaskChangeNotice.Operation.UPDATED, 1L, 6L);
+
+    channel.publish(List.of(updated));
+
+    verify(statsService).apply(updated);
+    verify(suggestService).refresh(List.of(1L));
+    verify(fullTextService).scheduleCatchUp();
+    assertThrows(
+        DataAccessResourceFailureException.class,
+        () ->
+            readGuard.read(
+                TaskReadGuard.TASK,
+                1L,
+                () -> {
+                  throw new DataAccessResourceFailureException("down");
+                }));
+  }
+
+  @Test
+  void bulkAndLargeBatchesClearTheTaskCache() {
+    load(1L);
+    search(Status.COMPLETED);
+    peer(TaskChangeNotice.Operation.BULK, 0L, 0L);
+    load(1L);
+    search(Status.COMPLETED);
+    assertEquals(2, loads.get());
+    assertEquals(2, searches.get());
+    verify(suggestService).reload();
+    verify(statsService).reconcileLater();
+
+    List<TaskChangeNotice> burst = new ArrayList<>();
+    for (long id = 100; id <= 100 + TaskConstants.CHANGE_TARGETED_MAX; id++) {
+      burst.add(notice(TaskChangeNotice.Operation.CREATED, id, 1L));
+    }
+    sync.apply(burst);
+    load(1L);
+    assertEquals(3, loads.get());
+  }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+
+class TaskCacheTest {
+  private final AtomicLong nanos = new AtomicLong();
+  private final TaskCache cache = new TaskCache(2, Duration.ofMinutes(1), nanos::get);
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private static TaskResponse task(long id, String title, long version) {
+    return TaskResponse.builder().id(id).title(title).version(version).build();
+  }
+
+  private TaskResponse load(long id) {
+    return cache.get(
+        id,
+        key -> {
+          loads.incrementAndGet();
+          return key == 404L ? null : task(key, "Loaded", 1L);
+        });
+  }
+
+  @Test
+  void readsThroughOnceAndRecordsHitsAndMisses() {
+    load(1L);
+    load(1L);
+    assertNull(load(404L));
+    assertNull(load(404L));
+
+    assertEquals(3, loads.get());
+    Map<String, Object> stats = cache.stats();
+    assertEquals(1L, stats.get("hits"));
+    assertEquals(3L, stats.get("misses"));
+  }
+
+  @Test
+  void writesReplaceEntriesUnlessTheCachedVersionIsNewer() {
+    TaskResponse loaded = load(1L);
+    cache.onTaskChanged(TaskChangedEvent.updated(loaded, task(1L, "Renamed", 3L)));
+    assertEquals("Renamed", load(1L).getTitle());
+
+    // An event delivered late must not roll the entry back.
+    cache.onTaskChanged(TaskChangedEvent.updated(loaded, task(1L, "Stale", 2L)));
+    assertEquals("Renamed", load(1L).getTitle());
+
+    cache.onTaskChanged(TaskChangedEvent.created(task(2L, "Created", 4L)));
+    assertEquals("Created", load(2L).getTitle());
+    assertEquals(1, loads.get());
+
+    cache.onTaskChanged(TaskChangedEvent.deleted(task(1L, "Renamed", 3L)));
+    load(1L);
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void bulkChangesClearTheCacheButImportsDoNot() {
+    load(1L);
+    cache.onTasksBulkChanged(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.IMPORTED, 5));
+    load(1L);
+    assertEquals(1, loads.get());
+
+    cache.onTasksBulkChanged(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.STATUS_CHANGED, 5));
+    load(1L);
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void expiresAfterTtl() {
+    load(1L);
+    nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+    load(1L);
+
+    assertEquals(2, loads.get());
+    assertEquals(1L, cache.stats().get("evictions"));
+  }
+}
@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.dto.response.TaskChangesResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.entity.TaskTombstoneEntity;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskTombstoneRepository;
+
+class TaskChangesServiceTest {
+  private static final Instant NOW = Instant.parse("2025-06-10T12:00:00Z");
+
+  private TaskRepository taskRepository;
+  private TaskTombstoneRepository tombstoneRepository;
+  private TaskMapper mapper;
+  private TaskChangesService service;
+
+  @BeforeEach
+  void setUp() {
+    taskRepository = mock(TaskRepository.class);
+    tombstoneRepository = mock(TaskTombstoneRepository.class);
+    mapper = mock(TaskMapper.class);
+    service =
+        new TaskChangesService(
+            taskRepository,
+            tombstoneRepository,
+            mapper,
+            new TaskReadGuard(
+                mock(PlatformTransactionManager.class),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(10),
+                4,
+                1000,
+                Duration.ofHours(1)),
+            Duration.ofDays(7),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void withoutTokenReturnsPositionJustBelowWatermark() {
+    when(taskRepository.changeWatermark()).thenReturn(16L);
+
+    TaskChangesResponse resp = service.getChangesSince(null, null);
+
+    assertTrue(resp.getChanged().isEmpty());
+    assertEquals(15L, ChangeToken.decode(resp.getToken()).getVersion());
+  }
+
+  @Test
+  void mergesRowsAndTombstonesInVersionOrderUpToLimit() {
+    TaskEntity first = row(1L, 11L);
+    TaskEntity third = row(3L, 13L);
+    when(taskRepository.changeWatermark()).thenReturn(20L);
+    when(taskRepository.findChangedAfter(eq(10L), eq(0L), eq(20L), any()))
+        .thenReturn(List.of(first, third));
+    when(tombstoneRepository.findByVersionGreaterThanAndVersionLessThanOrderByVersionAsc(
+            eq(10L), eq(20L), any()))
+        .thenReturn(List.of(TaskTombstoneEntity.builder().version(12L).taskId(2L).build()));
+    when(mapper.toResponse(first))
+        .thenReturn(new TaskResponse(1L, "T1", null, Status.NEW, null, null, 11L));
+
+    String since = new ChangeToken(10L, 0L, NOW.minusSeconds(60)).encode();
+    TaskChangesResponse resp = service.getChangesSince(since, 2);
+
+    assertEquals(1, resp.getChanged().size());
+    assertEquals(List.of(2L), resp.getDeleted());
+    assertEquals(12L, ChangeToken.decode(resp.getToken()).getVersion());
+    assertTrue(resp.isHasMore());
+    assertFalse(resp.isResyncRequired());
+  }
+
+  @Test
+  void expiredTokenRequiresResync() {
+    String since = new ChangeToken(10L, 0L, NOW.minus(Duration.ofDays(8))).encode();
+
+    TaskChangesResponse resp = service.getChangesSince(since, null);
+
+    assertTrue(resp.isResyncRequired());
+  }
+
+  @Test
+  void resumesInsideAVersionSharedByABulkChunk() {
+    TaskEntity next = row(21L, 30L);
+    when(taskRepository.changeWatermark()).thenReturn(31L);
+    when(taskRepository.findChangedAfter(eq(30L), eq(20L), eq(31L), any()))
+        .thenReturn(List.of(next));
+    when(tombstoneRepository.findByVersionGreaterThanAndVersionLessThanOrderByVersionAsc(
+            eq(30L), eq(31L), any()))
+        .thenReturn(List.of());
+
+    String since = new ChangeToken(30L, 20L, NOW).encode();
+    TaskChangesResponse resp = service.getChangesSince(since, 10);
+
+    ChangeToken token = ChangeToken.decode(resp.getToken());
+    assertEquals(30L, token.getVersion());
+    assertEquals(21L, token.getLastId());
+    assertFalse(resp.isHasMore());
+  }
+
+  @Test
+  void stopsBelowVersionsStillInFlight() {
+    // Version 12 is held by a transaction that has not committed; 13 already has.
+    when(taskRepository.changeWatermark()).thenReturn(12L);
+    when(taskRepository.findChangedAfter(eq(10L), eq(0L), eq(12L), any()))
+        .thenReturn(List.of(row(1L, 11L)));
+    when(tombstoneRepository.findByVersionGreaterThanAndVersionLessThanOrderByVersionAsc(
+            eq(10L), eq(12L), any()))
+        .thenReturn(List.of());
+
+    String since = new ChangeToken(10L, 0L, NOW).encode();
+    TaskChangesResponse resp = service.getChangesSince(since, 10);
+
+    assertEquals(11L, ChangeToken.decode(resp.getToken()).getVersion());
+    assertFalse(resp.isHasMore());
+  }
+
+  @Test
+  void rejectsMalformedToken() {
+    assertThrows(BadRequestException.class, () -> service.getChangesSince("%%%", null));
+  }
+
+  @Test
+  void pruneDeletesTombstonesPastRetention() {
+    service.pruneTombstones();
+
+    verify(tombstoneRepository)
+        .deleteOlderThan(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).minusDays(7));
+  }
+
+  private static TaskEntity row(long id, long version) {
+    return TaskEntity.builder().id(id).title("T" + id).changeVersion(version).build();
+  }
+}
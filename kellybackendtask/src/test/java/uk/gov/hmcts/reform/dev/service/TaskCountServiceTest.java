@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.dto.request.TaskFilter;
+import uk.gov.hmcts.reform.dev.dto.response.TaskCount;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+
+class TaskCountServiceTest {
+  private TaskRepository taskRepository;
+  private TaskStatsService taskStatsService;
+  private TaskCountService service;
+
+  @BeforeEach
+  void setUp() {
+    taskRepository = mock(TaskRepository.class);
+    taskStatsService = mock(TaskStatsService.class);
+    service =
+        new TaskCountService(
+            taskRepository,
+            new TaskSearchResolver(Clock.systemUTC()),
+            taskStatsService,
+            new TaskReadGuard(
+                mock(PlatformTransactionManager.class),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(10),
+                4,
+                1000,
+                Duration.ofHours(1)));
+  }
+
+  @Test
+  void estimatesUnfilteredAndStatusOnlyTotalsFromCounters() {
+    when(taskStatsService.estimatedCount(null)).thenReturn(1_000L);
+    when(taskStatsService.estimatedCount(Status.NEW)).thenReturn(400L);
+
+    TaskCount all = service.count(TaskFilter.builder().build(), false);
+    TaskCount open = service.count(TaskFilter.builder().status(Status.NEW).build(), false);
+
+    assertEquals(1_000L, all.getCount());
+    assertFalse(all.isExact());
+    assertEquals(400L, open.getCount());
+    assertFalse(open.isExact());
+    verify(taskRepository, never()).countSearch(any());
+  }
+
+  @Test
+  void countsOtherFiltersAndExactRequests() {
+    when(taskRepository.countSearch(any()))
+        .thenAnswer(
+            invocation -> invocation.<TaskSearch>getArgument(0).getTitle() == null ? 990L : 7L);
+
+    TaskCount titled = service.count(TaskFilter.builder().title("report").build(), false);
+    TaskCount exact = service.count(TaskFilter.builder().build(), true);
+
+    assertEquals(7L, titled.getCount());
+    assertTrue(titled.isExact());
+    assertEquals(990L, exact.getCount());
+    assertTrue(exact.isExact());
+    verify(taskStatsService, never()).estimatedCount(any());
+  }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class TaskCsvTest {
+
+  private static BufferedReader reader(String content) {
+    return new BufferedReader(new StringReader(content));
+  }
+
+  @Test
+  void readsQuotedFieldsAndDistinguishesNullFromEmpty() throws IOException {
+    BufferedReader reader = reader("1,\"a, \"\"b\"\"\",,\"\"\r\n2,\"x\ny\",NEW\n");
+
+    assertEquals(Arrays.asList("1", "a, \"b\"", null, ""), TaskCsv.readRecord(reader));
+    assertEquals(Arrays.asList("2", "x\ny", "NEW"), TaskCsv.readRecord(reader));
+    assertNull(TaskCsv.readRecord(reader));
+  }
+
+  @Test
+  void rejectsUnterminatedQuote() {
+    assertThrows(IOException.class, () -> TaskCsv.readRecord(reader("1,\"open")));
+  }
+
+  @Test
+  void writesWhatItReads() throws IOException {
+    StringWriter out = new StringWriter();
+    LocalDateTime due = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    TaskCsv.writeRecord(out, 1L, "a, \"b\"", null, "", due, 7);
+
+    assertEquals("1,\"a, \"\"b\"\"\",,\"\",2030-01-01 09:00:00,7\n", out.toString());
+    assertEquals(
+        Arrays.asList("1", "a, \"b\"", null, "", "2030-01-01 09:00:00", "7"),
+        TaskCsv.readRecord(reader(out.toString())));
+  }
+
+  @Test
+  void parsesCopyAndIsoTimestamps() {
+    LocalDateTime expected = LocalDateTime.of(2030, 1, 1, 9, 0, 0, 500_000_000);
+
+    assertEquals(expected, TaskCsv.parseTimestamp("2030-01-01 09:00:00.5"));
+    assertEquals(expected, TaskCsv.parseTimestamp("2030-01-01T09:00:00.5"));
+  }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TaskEtagServiceTest {
+  private JdbcTemplate jdbcTemplate;
+  private TaskEtagService service;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = mock(JdbcTemplate.class);
+    service =
+        new TaskEtagService(
+            jdbcTemplate,
+            new TaskReadGuard(
+                mock(PlatformTransactionManager.class),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(10),
+                4,
+                1000,
+                Duration.ofHours(1)));
+  }
+
+  @Test
+  void collectionEtagVariesWithTableVersionAndRequest() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(40L, 40L, 41L);
+
+    String first = service.collectionEtag("/api/tasks?|json");
+    String otherQuery = service.collectionEtag("/api/tasks/search?title=a|json");
+    String afterWrite = service.collectionEtag("/api/tasks?|json");
+
+    assertNotEquals(first, otherQuery);
+    assertNotEquals(first, afterWrite);
+  }
+
+  @Test
+  void collectionEtagIsNullWhileTheDatabaseIsFailing() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+        .thenThrow(new DataAccessResourceFailureException("down"));
+
+    assertNull(service.collectionEtag("/api/tasks?|json"));
+  }
+}
@@ -0,0 +1,166 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskFacets;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+
+class TaskFacetServiceTest {
+  private static final TaskSearch SEARCH = new TaskSearch("report", null, null);
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private TaskRepository taskRepository;
+  private TaskStatsService taskStatsService;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    taskRepository = mock(TaskRepository.class);
+    taskStatsService = mock(TaskStatsService.class);
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void returnsExactCountsWithinBudget() {
+    when(taskRepository.countSearchByStatus(eq(SEARCH), anyInt()))
+        .thenReturn(
+            List.of(new Object[] {Status.NEW, 3L}, new Object[] {Status.COMPLETED, 1L}));
+    TaskFacetService service =
+        new TaskFacetService(taskRepository, taskStatsService, Duration.ofSeconds(5), executor);
+
+    TaskFacets facets = service.await(service.countByStatus(SEARCH), null);
+
+    assertFalse(facets.isApproximate());
+    assertEquals(3L, facets.getStatus().get(Status.NEW));
+    assertEquals(1L, facets.getStatus().get(Status.COMPLETED));
+    assertEquals(0L, facets.getStatus().get(Status.PENDING));
+    assertEquals(Status.values().length, facets.getStatus().size());
+    verify(taskRepository, never()).sampleSearchStatuses(eq(SEARCH), anyInt(), anyLong());
+  }
+
+  @Test
+  void fallsBackToSampleWhenBudgetRunsOut() {
+    when(taskRepository.countSearchByStatus(eq(SEARCH), eq(1))).thenAnswer(invocation -> block());
+    List<Status> sample = new ArrayList<>();
+    sample.addAll(Collections.nCopies(TaskConstants.FACET_SAMPLE_SIZE - 10, Status.NEW));
+    sample.addAll(Collections.nCopies(10, Status.PENDING));
+    when(taskRepository.sampleSearchStatuses(
+            eq(SEARCH), eq(TaskConstants.FACET_SAMPLE_SIZE), anyLong()))
+        .thenReturn(sample);
+    TaskFacetService service =
+        new TaskFacetService(taskRepository, taskStatsService, Duration.ofMillis(200), executor);
+
+    TaskFacets facets = service.await(service.countByStatus(SEARCH), null);
+
+    assertTrue(facets.isApproximate());
+    assertEquals(TaskConstants.FACET_SAMPLE_SIZE, (int) facets.getSampled());
+    assertEquals(TaskConstants.FACET_SAMPLE_SIZE - 10L, facets.getStatus().get(Status.NEW));
+    assertEquals(10L, facets.getStatus().get(Status.PENDING));
+  }
+
+  @Test
+  void scalesAFullSampleToTheTotal() {
+    when(taskRepository.countSearchByStatus(eq(SEARCH), eq(1))).thenAnswer(invocation -> block());
+    List<Status> sample = new ArrayList<>();
+    sample.addAll(Collections.nCopies(TaskConstants.FACET_SAMPLE_SIZE / 2, Status.NEW));
+    sample.addAll(Collections.nCopies(TaskConstants.FACET_SAMPLE_SIZE / 2, Status.PENDING));
+    when(taskRepository.sampleSearchStatuses(
+            eq(SEARCH), eq(TaskConstants.FACET_SAMPLE_SIZE), anyLong()))
+        .thenReturn(sample);
+    TaskFacetService service =
+        new TaskFacetService(taskRepository, taskStatsService, Duration.ofMillis(200), executor);
+
+    TaskFacets facets = service.await(service.countByStatus(SEARCH), 1_000_000L);
+
+    assertTrue(facets.isApproximate());
+    assertEquals(500_000L, facets.getStatus().get(Status.NEW));
+    assertEquals(500_000L, facets.getStatus().get(Status.PENDING));
+    assertEquals(0L, facets.getStatus().get(Status.COMPLETED));
+  }
+
+  @Test
+  void shortSampleIsExact() {
+    when(taskRepository.countSearchByStatus(eq(SEARCH), anyInt()))
+        .thenAnswer(invocation -> block());
+    when(taskRepository.sampleSearchStatuses(
+            eq(SEARCH), eq(TaskConstants.FACET_SAMPLE_SIZE), anyLong()))
+        .thenReturn(List.of(Status.NEW, Status.NEW));
+    TaskFacetService service =
+        new TaskFacetService(taskRepository, taskStatsService, Duration.ofMillis(200), executor);
+
+    TaskFacets facets = service.await(service.countByStatus(SEARCH), null);
+
+    assertFalse(facets.isApproximate());
+    assertEquals(2L, facets.getStatus().get(Status.NEW));
+  }
+
+  @Test
+  void fallsBackToCountersWhenSampleRunsOut() {
+    TaskSearch pending = new TaskSearch(null, Status.PENDING, null);
+    when(taskRepository.countSearchByStatus(eq(pending), anyInt()))
+        .thenAnswer(invocation -> block());
+    when(taskRepository.sampleSearchStatuses(
+            eq(pending), eq(TaskConstants.FACET_SAMPLE_SIZE), anyLong()))
+        .thenAnswer(invocation -> block());
+    when(taskStatsService.estimatedCount(Status.PENDING)).thenReturn(42L);
+    TaskFacetService service =
+        new TaskFacetService(taskRepository, taskStatsService, Duration.ofMillis(100), executor);
+
+    TaskFacets facets = service.await(service.countByStatus(pending), null);
+
+    assertTrue(facets.isApproximate());
+    assertEquals(42L, facets.getStatus().get(Status.PENDING));
+    assertEquals(0L, facets.getStatus().get(Status.NEW));
+  }
+
+  @Test
+  void reportsUnknownCountsWhenSampleRunsOutOnText() {
+    when(taskRepository.countSearchByStatus(eq(SEARCH), anyInt()))
+        .thenAnswer(invocation -> block());
+    when(taskRepository.sampleSearchStatuses(
+            eq(SEARCH), eq(TaskConstants.FACET_SAMPLE_SIZE), anyLong()))
+        .thenAnswer(invocation -> block());
+    TaskFacetService service =
+        new TaskFacetService(taskRepository, taskStatsService, Duration.ofMillis(100), executor);
+
+    TaskFacets facets = service.await(service.countByStatus(SEARCH), null);
+
+    assertTrue(facets.isApproximate());
+    assertNull(facets.getStatus());
+    verify(taskStatsService, never()).estimatedCount(Status.NEW);
+  }
+
+  private <T> List<T> block() throws InterruptedException {
+    release.await();
+    return List.of();
+  }
+}
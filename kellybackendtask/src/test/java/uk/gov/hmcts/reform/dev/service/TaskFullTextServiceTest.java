@@ -0,0 +1,200 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.entity.TaskTombstoneEntity;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskTombstoneRepository;
+
+class TaskFullTextServiceTest {
+  private static final LocalDateTime DUE = LocalDateTime.of(2030, 3, 1, 12, 0);
+
+  private TaskRepository taskRepository;
+  private TaskTombstoneRepository tombstoneRepository;
+  private ExecutorService indexExecutor;
+  private TaskFullTextService service;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    taskRepository = mock(TaskRepository.class);
+    tombstoneRepository = mock(TaskTombstoneRepository.class);
+    indexExecutor = Executors.newSingleThreadExecutor();
+    service =
+        new TaskFullTextService(
+            taskRepository,
+            tombstoneRepository,
+            new TaskMapper(),
+            new TaskReadGuard(
+                mock(PlatformTransactionManager.class),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(10),
+                4,
+                1000,
+                Duration.ofHours(1)),
+            "",
+            indexExecutor);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    service.close();
+  }
+
+  private static TaskEntity task(long id, String title, String description, Status status) {
+    return TaskEntity.builder()
+        .id(id)
+        .title(title)
+        .description(description)
+        .status(status)
+        .dueDate(DUE)
+        .build();
+  }
+
+  /** Waits for every queued index change, then opens a new reader. */
+  private void refresh() throws Exception {
+    indexExecutor.submit(() -> {}).get();
+    service.refresh();
+  }
+
+  private void index(TaskEntity... tasks) throws Exception {
+    TaskMapper mapper = new TaskMapper();
+    for (TaskEntity task : tasks) {
+      service.onTaskChanged(TaskChangedEvent.created(mapper.toResponse(task)));
+    }
+    refresh();
+    when(taskRepository.findAllById(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<Long> ids = invocation.getArgument(0);
+              return List.of(tasks).stream().filter(t -> ids.contains(t.getId())).toList();
+            });
+  }
+
+  @Test
+  void ranksTitleMatchesFirstAndToleratesTypos() throws Exception {
+    index(
+        task(1L, "Call supplier", "Ask about the quarterly report", Status.NEW),
+        task(2L, "Quarterly report", "Draft and send", Status.NEW),
+        task(3L, "Book travel", null, Status.NEW));
+
+    List<TaskResponse> results = service.search("quartrly reprt", null, null, null);
+
+    assertEquals(List.of(2L, 1L), results.stream().map(TaskResponse::getId).toList());
+  }
+
+  @Test
+  void servesLastGoodResultsWhileTheDatabaseIsDown() throws Exception {
+    index(task(1L, "Quarterly report", null, Status.NEW));
+    assertEquals(1, service.search("report", null, null, 10).size());
+
+    when(taskRepository.findAllById(anyList()))
+        .thenThrow(new DataAccessResourceFailureException("down"));
+
+    assertEquals(
+        List.of(1L),
+        service.search("report", null, null, 10).stream().map(TaskResponse::getId).toList());
+    assertThrows(
+        DataAccessResourceFailureException.class, () -> service.search("report", null, null, 5));
+  }
+
+  @Test
+  void filtersByStatusAndDueDate() throws Exception {
+    index(
+        task(1L, "Quarterly report", null, Status.NEW),
+        task(2L, "Quarterly report", null, Status.COMPLETED));
+
+    assertEquals(
+        List.of(2L),
+        service.search("report", Status.COMPLETED, DUE.toLocalDate(), 10).stream()
+            .map(TaskResponse::getId)
+            .toList());
+    assertTrue(service.search("report", null, LocalDate.of(2031, 1, 1), 10).isEmpty());
+  }
+
+  @Test
+  void deletedTasksLeaveTheIndex() throws Exception {
+    TaskEntity gone = task(1L, "Quarterly report", null, Status.NEW);
+    index(gone);
+
+    service.onTaskChanged(TaskChangedEvent.deleted(new TaskMapper().toResponse(gone)));
+    refresh();
+
+    assertTrue(service.search("report", null, null, null).isEmpty());
+  }
+
+  @Test
+  void catchUpReindexesChangedRowsInPlaceAndDropsTombstoned() throws Exception {
+    TaskEntity renamed = task(7L, "Renew passport", null, Status.PENDING);
+    TaskEntity removed = task(8L, "Renew insurance", null, Status.PENDING);
+    index(renamed, removed);
+    renamed.setTitle("Renew licence");
+    renamed.setChangeVersion(5L);
+    when(taskRepository.changeWatermark()).thenReturn(10L);
+    when(taskRepository.findChangedAfter(eq(-1L), eq(Long.MAX_VALUE), eq(10L), any()))
+        .thenReturn(List.of(renamed));
+    when(tombstoneRepository.findByVersionGreaterThanAndVersionLessThanOrderByVersionAsc(
+            eq(-1L), eq(10L), any()))
+        .thenReturn(List.of(TaskTombstoneEntity.builder().taskId(8L).version(6L).build()));
+
+    indexExecutor
+        .submit(
+            () -> {
+              service.catchUp();
+              return null;
+            })
+        .get();
+    refresh();
+
+    List<TaskResponse> results = service.search("renew", null, null, null);
+    assertEquals(List.of(7L), results.stream().map(TaskResponse::getId).toList());
+    assertTrue(service.search("passport", null, null, null).isEmpty());
+  }
+
+  @Test
+  void catchUpStopsAtTheWatermark() throws Exception {
+    when(taskRepository.changeWatermark()).thenReturn(1L);
+
+    indexExecutor
+        .submit(
+            () -> {
+              service.catchUp();
+              return null;
+            })
+        .get();
+
+    verify(taskRepository, never()).findChangedAfter(anyLong(), anyLong(), anyLong(), any());
+  }
+
+  @Test
+  void rejectsNonPositiveLimit() {
+    assertThrows(BadRequestException.class, () -> service.search("report", null, null, 0));
+  }
+}
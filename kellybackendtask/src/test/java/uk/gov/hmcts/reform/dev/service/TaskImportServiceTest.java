@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskImportError;
+import uk.gov.hmcts.reform.dev.dto.response.TaskImportResponse;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+class TaskImportServiceTest {
+  private static final String VALID =
+      "{\"title\":\"t%d\",\"status\":\"NEW\",\"dueDate\":\"2999-01-01T10:00:00\"}";
+
+  private TaskRepository taskRepository;
+  private ApplicationEventPublisher eventPublisher;
+  private TaskImportService service;
+
+  @BeforeEach
+  void setUp() {
+    taskRepository = mock(TaskRepository.class);
+    eventPublisher = mock(ApplicationEventPublisher.class);
+    when(taskRepository.nextChangeVersions(anyInt()))
+        .thenAnswer(invocation -> new long[(int) invocation.getArgument(0)]);
+    service =
+        new TaskImportService(
+            taskRepository,
+            new TaskMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new ObjectMapper().findAndRegisterModules(),
+            eventPublisher,
+            mock(PlatformTransactionManager.class),
+            2,
+            1,
+            1,
+            Executors.newFixedThreadPool(1));
+  }
+
+  private static ByteArrayInputStream body(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void importsNdjsonInChunksAndReportsInvalidLines() throws IOException {
+    String ndjson =
+        String.join(
+            "\n",
+            String.format(VALID, 1),
+            "{\"status\":\"NEW\",\"dueDate\":\"2999-01-01T10:00:00\"}",
+            String.format(VALID, 3),
+            String.format(VALID, 4));
+
+    TaskImportResponse response = service.importTasks(body(ndjson));
+
+    assertTrue(response.isCompleted());
+    assertEquals(4, response.getReceived());
+    assertEquals(3, response.getImported());
+    assertEquals(1, response.getRejected());
+    TaskImportError error = response.getErrors().getFirst();
+    assertEquals(1, error.getIndex());
+    assertEquals(2, error.getLine());
+    assertEquals(TaskConstants.TITLE_REQUIRED, error.getErrors().get("title"));
+    verify(taskRepository, times(2)).insertInBatches(anyList());
+    verify(eventPublisher)
+        .publishEvent(
+            argThat(
+                (Object event) ->
+                    event instanceof TasksBulkChangedEvent bulk && bulk.getAffected() == 3));
+  }
+
+  @Test
+  void acceptsJsonArrayAndRejectsNonObjectEntries() throws IOException {
+    String array = "[" + String.format(VALID, 1) + ", 42]";
+
+    TaskImportResponse response = service.importTasks(body(array));
+
+    assertEquals(2, response.getReceived());
+    assertEquals(1, response.getImported());
+    assertEquals(
+        TaskConstants.INVALID_BATCH_ENTRY, response.getErrors().getFirst().getErrors().get("task"));
+  }
+
+  @Test
+  void stopsAtMalformedJsonKeepingEarlierRecords() throws IOException {
+    String ndjson = String.format(VALID, 1) + "\n{\"title\": oops}\n" + String.format(VALID, 3);
+
+    TaskImportResponse response = service.importTasks(body(ndjson));
+
+    assertFalse(response.isCompleted());
+    assertEquals(1, response.getImported());
+    TaskImportError error = response.getErrors().getFirst();
+    assertEquals(1, error.getIndex());
+    assertEquals(2, error.getLine());
+    assertTrue(error.getErrors().containsKey("json"));
+  }
+
+  @Test
+  void reportsFailedChunkAndCarriesOn() throws IOException {
+    doThrow(new DataIntegrityViolationException("boom"))
+        .doNothing()
+        .when(taskRepository)
+        .insertInBatches(anyList());
+    String ndjson =
+        String.join(
+            "\n", String.format(VALID, 1), String.format(VALID, 2), String.format(VALID, 3));
+
+    TaskImportResponse response = service.importTasks(body(ndjson));
+
+    assertEquals(2, response.getFailed());
+    assertEquals(1, response.getImported());
+    assertEquals(
+        TaskConstants.DATABASE_WRITE_ERROR,
+        response.getErrors().getFirst().getErrors().get("database"));
+  }
+
+  @Test
+  void failsChunkOnAnyRuntimeExceptionAtEachRecordsLine() throws IOException {
+    doThrow(new IllegalStateException("flush failed"))
+        .doNothing()
+        .when(taskRepository)
+        .insertInBatches(anyList());
+    String ndjson =
+        String.join(
+            "\n", String.format(VALID, 1), String.format(VALID, 2), String.format(VALID, 3));
+
+    TaskImportResponse response = service.importTasks(body(ndjson));
+
+    assertTrue(response.isCompleted());
+    assertEquals(2, response.getFailed());
+    assertEquals(1, response.getImported());
+    assertEquals(
+        List.of(1, 2), response.getErrors().stream().map(TaskImportError::getLine).toList());
+  }
+
+  @Test
+  void returnsWhenEveryWriterHasDied() {
+    doThrow(new AssertionError("writer died")).when(taskRepository).insertInBatches(anyList());
+    String ndjson =
+        IntStream.rangeClosed(1, 8)
+            .mapToObj(i -> String.format(VALID, i))
+            .collect(Collectors.joining("\n"));
+
+    TaskImportResponse response =
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> service.importTasks(body(ndjson)));
+
+    assertFalse(response.isCompleted());
+    assertEquals(0, response.getImported());
+    assertTrue(
+        response.getErrors().stream()
+            .anyMatch(
+                error ->
+                    TaskConstants.IMPORT_WRITERS_STOPPED.equals(error.getErrors().get("import"))));
+  }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskColumn;
+
+class TaskMergePatchTest {
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 10, 12, 0);
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private JsonNode json(String body) throws Exception {
+    return objectMapper.readTree(body);
+  }
+
+  @Test
+  void returnsOnlyTheFieldsPresent() throws Exception {
+    Map<TaskColumn, Object> values =
+        TaskMergePatch.toColumns(json("{\"description\":\"new\"}"), NOW);
+
+    assertEquals(Map.of(TaskColumn.DESCRIPTION, "new"), values);
+  }
+
+  @Test
+  void explicitNullClearsDescription() throws Exception {
+    Map<TaskColumn, Object> values =
+        TaskMergePatch.toColumns(json("{\"description\":null}"), NOW);
+
+    assertTrue(values.containsKey(TaskColumn.DESCRIPTION));
+    assertNull(values.get(TaskColumn.DESCRIPTION));
+  }
+
+  @Test
+  void parsesStatusAndDueDate() throws Exception {
+    Map<TaskColumn, Object> values =
+        TaskMergePatch.toColumns(
+            json("{\"status\":\"COMPLETED\",\"dueDate\":\"2025-07-01T09:00:00\"}"), NOW);
+
+    assertEquals(Status.COMPLETED, values.get(TaskColumn.STATUS));
+    assertEquals(LocalDateTime.of(2025, 7, 1, 9, 0), values.get(TaskColumn.DUE_DATE));
+  }
+
+  @Test
+  void rejectsInvalidPatches() throws Exception {
+    for (String body :
+        new String[] {
+          "[]",
+          "{\"id\":5}",
+          "{\"title\":null}",
+          "{\"title\":\"  \"}",
+          "{\"status\":\"DONE\"}",
+          "{\"dueDate\":\"2020-01-01T00:00:00\"}",
+          "{\"description\":\"" + "x".repeat(201) + "\"}"
+        }) {
+      JsonNode patch = json(body);
+      assertThrows(BadRequestException.class, () -> TaskMergePatch.toColumns(patch, NOW), body);
+    }
+  }
+}
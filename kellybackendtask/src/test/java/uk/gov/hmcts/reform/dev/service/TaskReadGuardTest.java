@@ -0,0 +1,178 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.exception.ServiceUnavailableException;
+
+class TaskReadGuardTest {
+  private final AtomicLong nanos = new AtomicLong();
+  private final ExecutorService revalidator = Executors.newSingleThreadExecutor();
+  private final TaskReadGuard guard =
+      new TaskReadGuard(
+          TransactionOperations.withoutTransaction(),
+          Duration.ofSeconds(2),
+          Duration.ofSeconds(10),
+          4,
+          100,
+          Duration.ofHours(1),
+          nanos::get,
+          revalidator);
+  private final MockHttpServletRequest request = new MockHttpServletRequest();
+  private final AtomicInteger reads = new AtomicInteger();
+
+  @BeforeEach
+  void bindRequest() {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @AfterEach
+  void unbindRequest() {
+    RequestContextHolder.resetRequestAttributes();
+    revalidator.shutdownNow();
+  }
+
+  private Supplier<String> failing() {
+    return () -> {
+      reads.incrementAndGet();
+      throw new DataAccessResourceFailureException("connection refused");
+    };
+  }
+
+  private void openCircuit() {
+    for (int i = 0; i < TaskConstants.CIRCUIT_MIN_CALLS; i++) {
+      assertThrows(DataAccessResourceFailureException.class, () -> guard.call(failing()));
+    }
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+
+  @Test
+  void openCircuitRefusesReadsWithoutTouchingTheDatabase() {
+    openCircuit();
+
+    ServiceUnavailableException refused =
+        assertThrows(ServiceUnavailableException.class, () -> guard.call(failing()));
+
+    assertEquals(10L, refused.getRetryAfter());
+    assertEquals(TaskConstants.CIRCUIT_MIN_CALLS, reads.get());
+    assertEquals("OPEN", guard.stats().get("circuit"));
+    assertEquals(1L, guard.stats().get("refused"));
+  }
+
+  @Test
+  void slowReadsCountAsFailures() {
+    for (int i = 0; i < TaskConstants.CIRCUIT_MIN_CALLS; i++) {
+      guard.call(
+          () -> {
+            advance(Duration.ofSeconds(3));
+            return "slow";
+          });
+    }
+
+    assertEquals("OPEN", guard.stats().get("circuit"));
+  }
+
+  @Test
+  void callWhileClosedNeverTakesTheTrial() {
+    openCircuit();
+    advance(Duration.ofSeconds(10));
+
+    assertThrows(
+        ServiceUnavailableException.class, () -> guard.callWhileClosed(() -> "validator"));
+    assertEquals("OPEN", guard.stats().get("circuit"));
+
+    // The trial is still there for a real read, which closes the circuit again.
+    assertEquals("v1", guard.call(() -> "v1"));
+    assertEquals("validator", guard.callWhileClosed(() -> "validator"));
+  }
+
+  @Test
+  void runsEachReadInAReadOnlyTransactionTimingOutAfterSlowCall() {
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    TaskReadGuard timed =
+        new TaskReadGuard(
+            transactionManager,
+            Duration.ofMillis(1500),
+            Duration.ofSeconds(10),
+            4,
+            100,
+            Duration.ofHours(1));
+
+    assertEquals("v1", timed.call(() -> "v1"));
+
+    ArgumentCaptor<TransactionDefinition> definition =
+        ArgumentCaptor.forClass(TransactionDefinition.class);
+    verify(transactionManager).getTransaction(definition.capture());
+    assertTrue(definition.getValue().isReadOnly());
+    assertEquals(2, definition.getValue().getTimeout());
+    timed.close();
+  }
+
+  @Test
+  void bulkheadRefusesReadsBeyondTheConcurrencyLimit() {
+    AtomicReference<Supplier<String>> nested = new AtomicReference<>();
+    nested.set(() -> guard.call(nested.get()));
+
+    assertThrows(ServiceUnavailableException.class, () -> guard.call(nested.get()));
+    assertEquals(1L, guard.stats().get("refused"));
+  }
+
+  @Test
+  void readWithNothingRememberedRethrows() {
+    assertThrows(
+        DataAccessResourceFailureException.class,
+        () -> guard.read("status", "NEW", () -> guard.call(failing())));
+    assertNull(request.getAttribute(TaskConstants.STALE_AGE_ATTRIBUTE));
+  }
+
+  @Test
+  void servesLastGoodResultAndRevalidatesOnceTheTrialIsDue() throws InterruptedException {
+    assertEquals(List.of("v1"), guard.read("status", "NEW", () -> List.of("v1")));
+    openCircuit();
+    advance(Duration.ofSeconds(5));
+
+    assertEquals(List.of("v1"), guard.read("status", "NEW", () -> guard.call(failing())));
+    assertEquals(5L, request.getAttribute(TaskConstants.STALE_AGE_ATTRIBUTE));
+    assertEquals(TaskConstants.CIRCUIT_MIN_CALLS, reads.get());
+
+    // The request still gets the stale result; the trial read runs in the background.
+    advance(Duration.ofSeconds(10));
+    assertEquals(List.of("v1"), guard.read("status", "NEW", () -> guard.call(() -> List.of("v2"))));
+    revalidator.shutdown();
+    assertTrue(revalidator.awaitTermination(5, TimeUnit.SECONDS));
+
+    request.removeAttribute(TaskConstants.STALE_AGE_ATTRIBUTE);
+    assertEquals("CLOSED", guard.stats().get("circuit"));
+    assertEquals(List.of("v3"), guard.read("status", "NEW", () -> guard.call(() -> List.of("v3"))));
+    assertNull(request.getAttribute(TaskConstants.STALE_AGE_ATTRIBUTE));
+    assertEquals(2L, guard.stats().get("staleServed"));
+  }
+}
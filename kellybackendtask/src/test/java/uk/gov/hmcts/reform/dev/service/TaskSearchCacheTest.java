@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+
+class TaskSearchCacheTest {
+  private static final TaskSearch NEW_TASKS = new TaskSearch(null, Status.NEW, null);
+  private static final TaskSearch REPORTS = new TaskSearch("report", null, null);
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final TaskSearchCache cache = new TaskSearchCache(10, Duration.ofMinutes(1), nanos::get);
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private static TaskResponse task(long id, Status status) {
+    return TaskResponse.builder().id(id).title("Task " + id).status(status).version(1L).build();
+  }
+
+  private List<TaskResponse> search(TaskSearch search) {
+    return cache.get(
+        "search",
+        search,
+        () -> {
+          loads.incrementAndGet();
+          return List.of(task(loads.get(), Status.NEW));
+        });
+  }
+
+  @Test
+  void equalSearchesShareOneResult() {
+    search(new TaskSearch("Report ", Status.NEW, LocalDate.of(2025, 6, 1)));
+    search(new TaskSearch(" report", Status.NEW, LocalDate.of(2025, 6, 1)));
+    cache.get("status", NEW_TASKS, List::of);
+    search(NEW_TASKS);
+
+    assertEquals(2, loads.get());
+    Map<String, Object> stats = cache.stats();
+    assertEquals(1L, stats.get("hits"));
+    assertEquals(3L, stats.get("misses"));
+  }
+
+  @Test
+  void writesInvalidateOnlySearchesTheyCanAffect() {
+    search(NEW_TASKS);
+    search(REPORTS);
+
+    // Another status's write leaves the NEW search valid, but any write can change the others.
+    cache.onTaskChanged(TaskChangedEvent.created(task(7L, Status.COMPLETED)));
+    search(NEW_TASKS);
+    search(REPORTS);
+    assertEquals(3, loads.get());
+
+    // Moving a task out of NEW changes the NEW search.
+    cache.onTaskChanged(
+        TaskChangedEvent.updated(task(8L, Status.NEW), task(8L, Status.IN_PROGRESS)));
+    search(NEW_TASKS);
+    assertEquals(4, loads.get());
+    assertEquals(2L, cache.stats().get("stale"));
+  }
+
+  @Test
+  void bulkChangesIncludingImportsInvalidateEverything() {
+    search(NEW_TASKS);
+    cache.onTasksBulkChanged(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.IMPORTED, 0));
+    search(NEW_TASKS);
+    assertEquals(1, loads.get());
+
+    cache.onTasksBulkChanged(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.IMPORTED, 5));
+    search(NEW_TASKS);
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void resultsAreUnmodifiableAndExpireAfterTtl() {
+    List<TaskResponse> result = search(REPORTS);
+    assertThrows(UnsupportedOperationException.class, () -> result.add(task(9L, Status.NEW)));
+
+    nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+    search(REPORTS);
+    assertEquals(2, loads.get());
+  }
+}
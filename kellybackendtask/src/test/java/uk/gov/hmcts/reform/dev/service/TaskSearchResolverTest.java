@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.dto.request.TaskFilter;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
+
+class TaskSearchResolverTest {
+  // 02:00 UTC on Wednesday 11 June is still Tuesday 10 June in New York.
+  private final TaskSearchResolver resolver =
+      new TaskSearchResolver(
+          Clock.fixed(Instant.parse("2025-06-11T02:00:00Z"), ZoneId.of("America/New_York")));
+
+  private TaskSearch resolve(String dueRange) {
+    return resolver.resolve(TaskFilter.builder().status(Status.NEW).dueRange(dueRange).build());
+  }
+
+  @Test
+  void todayIsTheCurrentDayInTheConfiguredZone() {
+    TaskSearch today = resolve("today");
+
+    assertEquals(LocalDateTime.of(2025, 6, 10, 0, 0), today.getDueFrom());
+    assertEquals(LocalDateTime.of(2025, 6, 11, 0, 0), today.getDueTo());
+    assertEquals(Status.NEW, today.getStatus());
+    assertFalse(today.isOpenOnly());
+  }
+
+  @Test
+  void thisWeekRunsFromMondayToNextMonday() {
+    TaskSearch week = resolve("THIS_WEEK");
+
+    assertEquals(LocalDateTime.of(2025, 6, 9, 0, 0), week.getDueFrom());
+    assertEquals(LocalDateTime.of(2025, 6, 16, 0, 0), week.getDueTo());
+  }
+
+  @Test
+  void overdueIsOpenTasksDueBeforeNow() {
+    TaskSearch overdue = resolve("overdue");
+
+    assertNull(overdue.getDueFrom());
+    assertEquals(LocalDateTime.of(2025, 6, 10, 22, 0), overdue.getDueTo());
+    assertTrue(overdue.isOpenOnly());
+  }
+
+  @Test
+  void explicitBoundsAndDueDateAreHalfOpen() {
+    LocalDateTime from = LocalDateTime.of(2025, 1, 1, 9, 0);
+    TaskSearch bounded = resolver.resolve(TaskFilter.builder().dueFrom(from).build());
+    TaskSearch day =
+        resolver.resolve(TaskFilter.builder().dueDate(LocalDate.of(2025, 1, 31)).build());
+
+    assertEquals(from, bounded.getDueFrom());
+    assertNull(bounded.getDueTo());
+    assertEquals(LocalDateTime.of(2025, 2, 1, 0, 0), day.getDueTo());
+  }
+
+  @Test
+  void rejectsUnknownRangesAndConflictingOrEmptyBounds() {
+    LocalDateTime at = LocalDateTime.of(2025, 1, 1, 0, 0);
+    for (TaskFilter filter :
+        new TaskFilter[] {
+          TaskFilter.builder().dueRange("next_month").build(),
+          TaskFilter.builder().dueRange("today").dueDate(LocalDate.of(2025, 1, 1)).build(),
+          TaskFilter.builder().dueRange("overdue").dueTo(at).build(),
+          TaskFilter.builder().dueFrom(at).dueTo(at).build()
+        }) {
+      assertThrows(BadRequestException.class, () -> resolver.resolve(filter));
+    }
+  }
+}
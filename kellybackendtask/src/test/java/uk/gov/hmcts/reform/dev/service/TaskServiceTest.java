@@ -1,33 +1,79 @@
 package uk.gov.hmcts.reform.dev.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.dto.request.TaskFilter;
 import uk.gov.hmcts.reform.dev.dto.request.TaskRequest;
+import uk.gov.hmcts.reform.dev.dto.response.TaskFacets;
+import uk.gov.hmcts.reform.dev.dto.response.TaskPageResponse;
 import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponseStream;
 import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
 import uk.gov.hmcts.reform.dev.exception.DatabaseWriteException;
 import uk.gov.hmcts.reform.dev.exception.ResourceNotFoundException;
 import uk.gov.hmcts.reform.dev.mapper.TaskMapper;
 import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskColumn;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRowChange;
+import uk.gov.hmcts.reform.dev.repository.TaskSearch;
 
 class TaskServiceTest {
 
   @Mock TaskRepository taskRepository;
   @Mock TaskMapper mapper;
+  @Mock ApplicationEventPublisher eventPublisher;
+  @Spy TaskSearchResolver searchResolver = new TaskSearchResolver(Clock.systemUTC());
+  @Mock TaskFacetService facetService;
+  @Spy TaskCache taskCache = new TaskCache(100, Duration.ofMinutes(1));
+  @Spy TaskSearchCache searchCache = new TaskSearchCache(1000, Duration.ofMinutes(1));
+
+  @Spy
+  TaskReadGuard readGuard =
+      new TaskReadGuard(
+          mock(PlatformTransactionManager.class),
+          Duration.ofSeconds(2),
+          Duration.ofSeconds(10),
+          4,
+          1000,
+          Duration.ofHours(1));
+
   @InjectMocks TaskService service;
 
   @BeforeEach
@@ -56,9 +102,14 @@ class TaskServiceTest {
     when(mapper.toResponse(entity))
         .thenReturn(new TaskResponse(10L, "Title", "Desc", Status.NEW, req.getDueDate(), null));
 
+    when(taskRepository.nextChangeVersion()).thenReturn(41L);
+
     TaskResponse resp = service.createTask(req);
     assertEquals(10L, resp.getId());
+    assertEquals(41L, entity.getChangeVersion());
+    assertNotNull(entity.getUpdatedAt());
     verify(taskRepository).save(entity);
+    verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
   }
 
   @Test
@@ -85,19 +136,31 @@ class TaskServiceTest {
             .status(Status.NEW)
             .dueDate(LocalDateTime.now().plusDays(1))
             .build();
-    when(taskRepository.findById(5L)).thenReturn(Optional.of(existing));
-    when(taskRepository.save(existing)).thenReturn(existing);
-    when(mapper.toResponse(existing))
+    TaskEntity changed =
+        TaskEntity.builder()
+            .id(5L)
+            .title("X")
+            .status(Status.PENDING)
+            .dueDate(existing.getDueDate())
+            .changeVersion(8L)
+            .build();
+    Map<TaskColumn, Object> values = new EnumMap<>(TaskColumn.class);
+    values.put(TaskColumn.STATUS, Status.PENDING);
+    when(taskRepository.updateReturning(5L, values))
+        .thenReturn(Optional.of(new TaskRowChange(existing, changed)));
+    when(mapper.toResponse(changed))
         .thenReturn(new TaskResponse(5L, "X", "Desc", Status.PENDING, existing.getDueDate(), null));
     TaskResponse resp = service.updateTaskStatus(5L, Status.PENDING);
     assertEquals(Status.PENDING, resp.getStatus());
-    assertEquals(Status.PENDING, existing.getStatus());
-    verify(taskRepository).save(existing);
+    verify(taskRepository, never()).findById(any());
+    verify(taskRepository, never()).save(any());
+    verify(mapper).toResponse(existing);
+    verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
   }
 
   @Test
   void updateTaskStatus_notFound() {
-    when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+    when(taskRepository.updateReturning(eq(99L), any())).thenReturn(Optional.empty());
     assertThrows(ResourceNotFoundException.class, () -> service.updateTaskStatus(99L, Status.NEW));
   }
 
@@ -123,6 +186,26 @@ class TaskServiceTest {
     assertEquals(33L, resp.getId());
   }
 
+  @Test
+  void getTaskById_servesRepeatReadsFromCacheUntilWritten() throws Exception {
+    TaskEntity entity = TaskEntity.builder().id(34L).title("T").status(Status.NEW).build();
+    when(taskRepository.findById(34L)).thenReturn(Optional.of(entity));
+    when(mapper.toResponse(entity))
+        .thenReturn(TaskResponse.builder().id(34L).title("T").version(1L).build());
+
+    service.getTaskById(34L);
+    service.getTaskById(34L);
+    verify(taskRepository, times(1)).findById(34L);
+
+    TaskResponse renamed = TaskResponse.builder().id(34L).title("Renamed").version(2L).build();
+    taskCache.onTaskChanged(TaskChangedEvent.updated(service.getTaskById(34L), renamed));
+    assertEquals("Renamed", service.getTaskById(34L).getTitle());
+    taskCache.onTaskChanged(TaskChangedEvent.deleted(renamed));
+    when(taskRepository.findById(34L)).thenReturn(Optional.empty());
+    assertThrows(ResourceNotFoundException.class, () -> service.getTaskById(34L));
+    verify(taskRepository, times(2)).findById(34L);
+  }
+
   @Test
   void updateTask_success() throws Exception {
     TaskEntity existing =
@@ -133,9 +216,17 @@ class TaskServiceTest {
             .status(Status.NEW)
             .dueDate(LocalDateTime.now().plusDays(2))
             .build();
-    when(taskRepository.findById(44L)).thenReturn(Optional.of(existing));
-    when(taskRepository.save(existing)).thenReturn(existing);
-    when(mapper.toResponse(existing))
+    TaskEntity changed =
+        TaskEntity.builder()
+            .id(44L)
+            .title("New")
+            .description("NewD")
+            .status(Status.PENDING)
+            .dueDate(existing.getDueDate())
+            .build();
+    when(taskRepository.updateReturning(eq(44L), any()))
+        .thenReturn(Optional.of(new TaskRowChange(existing, changed)));
+    when(mapper.toResponse(changed))
         .thenReturn(
             new TaskResponse(44L, "New", "NewD", Status.PENDING, existing.getDueDate(), null));
     TaskRequest req =
@@ -146,14 +237,19 @@ class TaskServiceTest {
             .dueDate(existing.getDueDate())
             .build();
     TaskResponse resp = service.updateTask(44L, req);
-    assertEquals("New", existing.getTitle());
-    assertEquals(Status.PENDING, existing.getStatus());
+    assertEquals("New", resp.getTitle());
     assertEquals(44L, resp.getId());
+    Map<TaskColumn, Object> expected = new EnumMap<>(TaskColumn.class);
+    expected.put(TaskColumn.TITLE, "New");
+    expected.put(TaskColumn.DESCRIPTION, "NewD");
+    expected.put(TaskColumn.STATUS, Status.PENDING);
+    expected.put(TaskColumn.DUE_DATE, existing.getDueDate());
+    verify(taskRepository).updateReturning(44L, expected);
   }
 
   @Test
   void updateTask_notFound() {
-    when(taskRepository.findById(555L)).thenReturn(Optional.empty());
+    when(taskRepository.updateReturning(eq(555L), any())).thenReturn(Optional.empty());
     TaskRequest req =
         TaskRequest.builder()
             .title("T")
@@ -163,6 +259,36 @@ class TaskServiceTest {
     assertThrows(ResourceNotFoundException.class, () -> service.updateTask(555L, req));
   }
 
+  @Test
+  void patchTask_writesOnlyPatchedColumns() throws Exception {
+    TaskEntity before = TaskEntity.builder().id(6L).title("P").description("old").build();
+    TaskEntity after = TaskEntity.builder().id(6L).title("P").description("new").build();
+    Map<TaskColumn, Object> expected = new EnumMap<>(TaskColumn.class);
+    expected.put(TaskColumn.DESCRIPTION, "new");
+    when(taskRepository.updateReturning(6L, expected))
+        .thenReturn(Optional.of(new TaskRowChange(before, after)));
+    when(mapper.toResponse(after))
+        .thenReturn(TaskResponse.builder().id(6L).title("P").description("new").build());
+
+    TaskResponse resp =
+        service.patchTask(6L, new ObjectMapper().readTree("{\"description\":\"new\"}"));
+
+    assertEquals("new", resp.getDescription());
+    verify(taskRepository).updateReturning(6L, expected);
+  }
+
+  @Test
+  void patchTask_emptyPatchReadsWithoutWriting() throws Exception {
+    TaskEntity entity = TaskEntity.builder().id(6L).title("P").build();
+    when(taskRepository.findById(6L)).thenReturn(Optional.of(entity));
+    when(mapper.toResponse(entity)).thenReturn(TaskResponse.builder().id(6L).build());
+
+    service.patchTask(6L, new ObjectMapper().createObjectNode());
+
+    verify(taskRepository, never()).updateReturning(anyLong(), any());
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
   @Test
   void deleteTask_success() throws Exception {
     TaskEntity entity =
@@ -172,14 +298,17 @@ class TaskServiceTest {
             .status(Status.NEW)
             .dueDate(LocalDateTime.now().plusDays(1))
             .build();
-    when(taskRepository.findById(12L)).thenReturn(Optional.of(entity));
+    when(taskRepository.deleteReturning(12L)).thenReturn(Optional.of(entity));
+    when(mapper.toResponse(entity))
+        .thenReturn(new TaskResponse(12L, "Del", null, Status.NEW, entity.getDueDate()));
     service.deleteTask(12L);
-    verify(taskRepository).delete(entity);
+    verify(taskRepository, never()).delete(any());
+    verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
   }
 
   @Test
   void deleteTask_notFound() {
-    when(taskRepository.findById(777L)).thenReturn(Optional.empty());
+    when(taskRepository.deleteReturning(777L)).thenReturn(Optional.empty());
     assertThrows(ResourceNotFoundException.class, () -> service.deleteTask(777L));
   }
 
@@ -199,7 +328,8 @@ class TaskServiceTest {
             .status(Status.NEW)
             .dueDate(LocalDateTime.now().plusDays(2))
             .build();
-    when(taskRepository.findByStatus(Status.NEW)).thenReturn(List.of(e1, e2));
+    when(taskRepository.findByStatusOrderByDueDateAscIdAsc(Status.NEW))
+        .thenReturn(List.of(e1, e2));
     when(mapper.toResponse(e1))
         .thenReturn(new TaskResponse(1L, "A", null, Status.NEW, e1.getDueDate(), null));
     when(mapper.toResponse(e2))
@@ -208,6 +338,22 @@ class TaskServiceTest {
     assertEquals(2, list.size());
   }
 
+  @Test
+  void getTasksByStatus_servesLastGoodResultWhenTheDatabaseFails() {
+    TaskEntity e1 = TaskEntity.builder().id(1L).title("A").status(Status.NEW).build();
+    when(taskRepository.findByStatusOrderByDueDateAscIdAsc(Status.NEW))
+        .thenReturn(List.of(e1))
+        .thenThrow(new DataAccessResourceFailureException("down"));
+    when(mapper.toResponse(e1)).thenReturn(new TaskResponse(1L, "A", null, Status.NEW, null));
+
+    service.getTasksByStatus(Status.NEW);
+    searchCache.invalidateAll();
+    var list = service.getTasksByStatus(Status.NEW);
+
+    assertEquals(1, list.size());
+    verify(taskRepository, times(2)).findByStatusOrderByDueDateAscIdAsc(Status.NEW);
+  }
+
   @Test
   void getOverdueTasks_success() {
     TaskEntity e1 =
@@ -217,11 +363,165 @@ class TaskServiceTest {
             .status(Status.NEW)
             .dueDate(LocalDateTime.now().minusDays(1))
             .build();
-    when(taskRepository.findByDueDateBefore(any(LocalDateTime.class))).thenReturn(List.of(e1));
+    when(taskRepository.findOpenOverdue(any(LocalDateTime.class))).thenReturn(List.of(e1));
     when(mapper.toResponse(e1))
         .thenReturn(new TaskResponse(9L, "Old", null, Status.NEW, e1.getDueDate(), null));
     var list = service.getOverdueTasks(LocalDateTime.now());
     assertEquals(1, list.size());
     assertEquals(9L, list.get(0).getId());
   }
+
+  @Test
+  void getOverdueTasks_sharesOneReadPerWindowAndTrimsToNow() {
+    LocalDateTime now = LocalDateTime.of(2030, 3, 1, 9, 0, 10);
+    TaskEntity late = TaskEntity.builder().id(1L).status(Status.NEW).build();
+    TaskEntity soon = TaskEntity.builder().id(2L).status(Status.NEW).build();
+    when(taskRepository.findOpenOverdue(LocalDateTime.of(2030, 3, 1, 9, 1)))
+        .thenReturn(List.of(late, soon));
+    when(mapper.toResponse(late))
+        .thenReturn(new TaskResponse(1L, "Late", null, Status.NEW, now.minusHours(1), null));
+    when(mapper.toResponse(soon))
+        .thenReturn(new TaskResponse(2L, "Soon", null, Status.NEW, now.plusSeconds(30), null));
+
+    var early = service.getOverdueTasks(now);
+    var later = service.getOverdueTasks(now.plusSeconds(40));
+
+    assertEquals(List.of(1L), early.stream().map(TaskResponse::getId).toList());
+    assertEquals(List.of(1L, 2L), later.stream().map(TaskResponse::getId).toList());
+    verify(taskRepository, times(1)).findOpenOverdue(any(LocalDateTime.class));
+  }
+
+  @Test
+  void searchTasks_bindsCriteriaToPrecompiledSearch() {
+    TaskEntity e1 = TaskEntity.builder().id(3L).title("Weekly report").status(Status.NEW).build();
+    when(taskRepository.search(any(TaskSearch.class))).thenReturn(List.of(e1));
+    when(mapper.toResponse(e1))
+        .thenReturn(new TaskResponse(3L, "Weekly report", null, Status.NEW, null));
+
+    var list = service.searchTasks(TaskFilter.builder().title(" ").status(Status.NEW).build());
+
+    assertEquals(1, list.size());
+    ArgumentCaptor<TaskSearch> search = ArgumentCaptor.forClass(TaskSearch.class);
+    verify(taskRepository).search(search.capture());
+    assertNull(search.getValue().getTitle());
+    assertEquals(Status.NEW, search.getValue().getStatus());
+  }
+
+  @Test
+  void searchTasks_sharesCachedResultsUntilAWriteTouchesTheStatus() {
+    TaskEntity e1 = TaskEntity.builder().id(3L).title("Weekly report").status(Status.NEW).build();
+    TaskResponse r1 = new TaskResponse(3L, "Weekly report", null, Status.NEW, null);
+    when(taskRepository.search(any(TaskSearch.class))).thenReturn(List.of(e1));
+    when(mapper.toResponse(e1)).thenReturn(r1);
+
+    service.searchTasks(TaskFilter.builder().title("Report").status(Status.NEW).build());
+    service.searchTasks(TaskFilter.builder().title(" report ").status(Status.NEW).build());
+    verify(taskRepository, times(1)).search(any(TaskSearch.class));
+
+    searchCache.onTaskChanged(
+        TaskChangedEvent.created(new TaskResponse(4L, "Other", null, Status.COMPLETED, null)));
+    service.searchTasks(TaskFilter.builder().title("report").status(Status.NEW).build());
+    verify(taskRepository, times(1)).search(any(TaskSearch.class));
+
+    searchCache.onTaskChanged(TaskChangedEvent.updated(r1, r1));
+    service.searchTasks(TaskFilter.builder().title("report").status(Status.NEW).build());
+    verify(taskRepository, times(2)).search(any(TaskSearch.class));
+  }
+
+  @Test
+  void searchTasks_rejectsTitleLongerThanAnyTask() {
+    TaskFilter filter = TaskFilter.builder().title("x".repeat(101)).build();
+    assertThrows(BadRequestException.class, () -> service.searchTasks(filter));
+    verify(taskRepository, never()).search(any());
+  }
+
+  @Test
+  void searchTasksPage_countsStatusFacetsForTheSameSearch() {
+    TaskFacetService.PendingFacets pending = mock(TaskFacetService.PendingFacets.class);
+    TaskFacets facets = new TaskFacets(new EnumMap<>(Map.of(Status.NEW, 2L)), false, null);
+    when(facetService.countByStatus(any(TaskSearch.class))).thenReturn(pending);
+    when(facetService.await(pending, null)).thenReturn(facets);
+    when(taskRepository.searchSlice(any(TaskSearch.class), any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of()));
+
+    TaskPageResponse page =
+        service.searchTasksPage(
+            TaskFilter.builder().status(Status.NEW).build(), null, null, null, false, true);
+
+    assertEquals(facets, page.getFacets());
+    ArgumentCaptor<TaskSearch> counted = ArgumentCaptor.forClass(TaskSearch.class);
+    verify(facetService).countByStatus(counted.capture());
+    assertEquals(Status.NEW, counted.getValue().getStatus());
+  }
+
+  @Test
+  void getTasksPage_returnsNextCursorWhenMoreRowsExist() {
+    LocalDateTime due = LocalDateTime.now().plusDays(1);
+    TaskEntity e1 = TaskEntity.builder().id(1L).title("A").status(Status.NEW).dueDate(due).build();
+    TaskEntity e2 = TaskEntity.builder().id(2L).title("B").status(Status.NEW).dueDate(due).build();
+    TaskEntity e3 = TaskEntity.builder().id(3L).title("C").status(Status.NEW).dueDate(due).build();
+    when(taskRepository.findFirstKeysetPage(any(Pageable.class))).thenReturn(List.of(e1, e2, e3));
+    when(mapper.toResponse(any(TaskEntity.class)))
+        .thenAnswer(
+            inv -> {
+              TaskEntity e = inv.getArgument(0);
+              return new TaskResponse(e.getId(), e.getTitle(), null, e.getStatus(), e.getDueDate());
+            });
+
+    TaskPageResponse page = service.getTasksPage(2, null);
+
+    assertEquals(2, page.getContent().size());
+    assertNotNull(page.getNextCursor());
+    TaskCursor cursor = TaskCursor.decode(page.getNextCursor());
+    assertEquals(2L, cursor.getId());
+    assertEquals(due, cursor.getDueDate());
+  }
+
+  @Test
+  void getTasksPage_resumesFromCursorAndTopsUpWithUndatedTasks() {
+    LocalDateTime due = LocalDateTime.now().plusDays(1);
+    TaskEntity dated =
+        TaskEntity.builder().id(5L).title("A").status(Status.NEW).dueDate(due).build();
+    TaskEntity undated = TaskEntity.builder().id(2L).title("B").status(Status.NEW).build();
+    String after = TaskCursor.encode(TaskEntity.builder().id(4L).dueDate(due).build());
+    when(taskRepository.findKeysetPageAfter(eq(due), eq(4L), any(Pageable.class)))
+        .thenReturn(List.of(dated));
+    when(taskRepository.findUndatedKeysetPageAfter(anyLong(), any(Pageable.class)))
+        .thenReturn(List.of(undated));
+    when(mapper.toResponse(any(TaskEntity.class)))
+        .thenReturn(new TaskResponse(0L, "x", null, Status.NEW, null));
+
+    TaskPageResponse page = service.getTasksPage(5, after);
+
+    assertEquals(2, page.getContent().size());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void getTasksPage_rejectsTamperedCursorAndNonPositiveLimit() {
+    assertThrows(BadRequestException.class, () -> service.getTasksPage(10, "not-a-cursor"));
+    assertThrows(BadRequestException.class, () -> service.getTasksPage(0, null));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void streamAllTasks_isLazyAndMapsEachRow() {
+    TaskEntity row =
+        TaskEntity.builder().id(8L).title("Row").status(Status.NEW).dueDate(null).build();
+    when(taskRepository.forEachMatching(any(), any()))
+        .thenAnswer(
+            inv -> {
+              ((Consumer<TaskEntity>) inv.getArgument(1)).accept(row);
+              return 1L;
+            });
+    when(mapper.toResponse(row)).thenReturn(new TaskResponse(8L, "Row", null, Status.NEW, null));
+
+    TaskResponseStream stream = service.streamAllTasks();
+    verify(taskRepository, never()).forEachMatching(any(), any());
+
+    List<TaskResponse> written = new ArrayList<>();
+    stream.forEach(written::add);
+    assertEquals(1, written.size());
+    assertEquals(8L, written.get(0).getId());
+  }
 }
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+
+class TaskSortTest {
+
+  @Test
+  void parse_defaultsToDueDateThenId() {
+    assertEquals(TaskSort.DEFAULT, TaskSort.parse(null));
+  }
+
+  @Test
+  void parse_pairsSplitDirectionTokensAndAppendsIdTieBreaker() {
+    // Spring splits "?sort=title,desc" into two elements; separate params arrive intact.
+    Sort sort = TaskSort.parse(List.of("title", "desc", "status,asc"));
+    assertEquals(
+        Sort.by(Sort.Order.desc("title"), Sort.Order.asc("status"), Sort.Order.asc("id")), sort);
+  }
+
+  @Test
+  void parse_rejectsUnknownProperties() {
+    assertThrows(BadRequestException.class, () -> TaskSort.parse(List.of("description")));
+  }
+}
@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskStatsResponse;
+import uk.gov.hmcts.reform.dev.event.TaskChangeNotice;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Status;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+class TaskStatsServiceTest {
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 10, 12, 0);
+
+  private TaskRepository taskRepository;
+  private TaskStatsService service;
+
+  @BeforeEach
+  void setUp() {
+    taskRepository = mock(TaskRepository.class);
+    Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+    service = new TaskStatsService(taskRepository, clock, Executors.newSingleThreadExecutor());
+  }
+
+  private static TaskResponse task(long id, Status status, LocalDateTime due) {
+    return new TaskResponse(id, "T" + id, null, status, due);
+  }
+
+  @Test
+  void appliesCreateUpdateAndDeleteDeltas() {
+    TaskResponse overdue = task(1L, Status.NEW, NOW.minusDays(2));
+    TaskResponse dueToday = task(2L, Status.PENDING, NOW.plusHours(3));
+    service.onTaskChanged(TaskChangedEvent.created(overdue));
+    service.onTaskChanged(TaskChangedEvent.created(dueToday));
+
+    TaskStatsResponse stats = service.getStats();
+    assertEquals(2, stats.getTotal());
+    assertEquals(1, stats.getOverdue());
+    assertEquals(1, stats.getDueToday());
+
+    // Completing the overdue task moves it out of the overdue bucket
+    service.onTaskChanged(
+        TaskChangedEvent.updated(overdue, task(1L, Status.COMPLETED, overdue.getDueDate())));
+    service.onTaskChanged(TaskChangedEvent.deleted(dueToday));
+
+    stats = service.getStats();
+    assertEquals(1, stats.getTotal());
+    assertEquals(1L, stats.getByStatus().get(Status.COMPLETED));
+    assertEquals(0L, stats.getByStatus().get(Status.NEW));
+    assertEquals(0, stats.getOverdue());
+    assertEquals(0, stats.getDueToday());
+  }
+
+  @Test
+  void appliesNoticesFromOtherNodes() {
+    LocalDate today = NOW.toLocalDate();
+    service.onTaskChanged(TaskChangedEvent.created(task(2L, Status.NEW, NOW.minusDays(1))));
+    service.apply(
+        new TaskChangeNotice(
+            "peer", TaskChangeNotice.Operation.CREATED, 1L, 1L, null, null, Status.NEW, today));
+    service.apply(
+        new TaskChangeNotice(
+            "peer",
+            TaskChangeNotice.Operation.UPDATED,
+            2L,
+            2L,
+            Status.NEW,
+            today.minusDays(1),
+            Status.COMPLETED,
+            today.minusDays(1)));
+
+    TaskStatsResponse stats = service.getStats();
+    assertEquals(2, stats.getTotal());
+    assertEquals(1, stats.getDueToday());
+    assertEquals(0, stats.getOverdue());
+    assertEquals(1L, stats.getByStatus().get(Status.NEW));
+    assertEquals(1L, stats.getByStatus().get(Status.COMPLETED));
+  }
+
+  @Test
+  void reconcileReplacesCountersWithDatabaseAggregates() {
+    service.onTaskChanged(TaskChangedEvent.created(task(9L, Status.NEW, NOW)));
+    when(taskRepository.countByStatus())
+        .thenReturn(List.of(new Object[] {Status.NEW, 3L}, new Object[] {Status.COMPLETED, 4L}));
+    when(taskRepository.countOpenByDueDay())
+        .thenReturn(
+            List.of(
+                new Object[] {LocalDate.of(2025, 6, 1), 2L},
+                new Object[] {java.sql.Date.valueOf(LocalDate.of(2025, 6, 10)), 1L}));
+
+    service.reconcile();
+
+    TaskStatsResponse stats = service.getStats();
+    assertEquals(7, stats.getTotal());
+    assertEquals(3L, stats.getByStatus().get(Status.NEW));
+    assertEquals(2, stats.getOverdue());
+    assertEquals(1, stats.getDueToday());
+    assertNotNull(stats.getReconciledAt());
+    assertEquals(7L, service.estimatedCount(null));
+    assertEquals(4L, service.estimatedCount(Status.COMPLETED));
+  }
+
+  @Test
+  void bulkChangeTriggersReconcile() {
+    when(taskRepository.countByStatus())
+        .thenReturn(List.<Object[]>of(new Object[] {Status.NEW, 5L}));
+    when(taskRepository.countOpenByDueDay()).thenReturn(List.of());
+
+    service.onTasksBulkChanged(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.STATUS_CHANGED, 5));
+
+    assertEquals(5, service.getStats().getTotal());
+  }
+}
@@ -0,0 +1,156 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.constants.TaskConstants;
+import uk.gov.hmcts.reform.dev.dto.response.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.response.TaskSuggestion;
+import uk.gov.hmcts.reform.dev.entity.TaskEntity;
+import uk.gov.hmcts.reform.dev.event.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.event.TasksBulkChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BadRequestException;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+class TaskSuggestServiceTest {
+  private TaskRepository taskRepository;
+  private ExecutorService rebuildExecutor;
+  private TaskSuggestService service;
+
+  @BeforeEach
+  void setUp() {
+    taskRepository = mock(TaskRepository.class);
+    rebuildExecutor = Executors.newSingleThreadExecutor();
+    service = new TaskSuggestService(taskRepository, rebuildExecutor);
+    service.onTaskChanged(created(1L, "Weekly report"));
+    service.onTaskChanged(created(2L, "Report draft"));
+    service.onTaskChanged(created(3L, "Café rota"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.close();
+  }
+
+  /** Waits for queued reloads and folds to finish. */
+  private void awaitRebuilds() throws Exception {
+    rebuildExecutor.submit(() -> {}).get();
+  }
+
+  private static TaskChangedEvent created(long id, String title) {
+    return TaskChangedEvent.created(TaskResponse.builder().id(id).title(title).build());
+  }
+
+  private List<Long> ids(String prefix) {
+    return service.suggest(prefix, null).stream().map(TaskSuggestion::getId).toList();
+  }
+
+  @Test
+  void matchesStartOfAnyWordIgnoringCaseAndAccents() {
+    assertEquals(List.of(1L, 2L), ids("REP"));
+    assertEquals(List.of(1L), ids("weekly r"));
+    assertEquals("Café rota", service.suggest("cafe", null).getFirst().getTitle());
+    assertTrue(ids("port").isEmpty());
+  }
+
+  @Test
+  void followsUpdatesAndDeletes() {
+    TaskResponse before = TaskResponse.builder().id(2L).title("Report draft").build();
+    service.onTaskChanged(
+        TaskChangedEvent.updated(before, TaskResponse.builder().id(2L).title("Budget").build()));
+    service.onTaskChanged(
+        TaskChangedEvent.deleted(TaskResponse.builder().id(1L).title("Weekly report").build()));
+
+    assertTrue(ids("rep").isEmpty());
+    assertEquals(List.of(2L), ids("bud"));
+  }
+
+  @Test
+  void refreshRereadsTitlesChangedOnAnotherNode() throws Exception {
+    when(taskRepository.findAllById(List.of(2L, 3L)))
+        .thenReturn(List.of(TaskEntity.builder().id(2L).title("Budget").build()));
+
+    service.refresh(List.of(2L, 3L));
+    awaitRebuilds();
+
+    assertEquals(List.of(1L), ids("rep"));
+    assertEquals(List.of(2L), ids("bud"));
+    assertTrue(ids("cafe").isEmpty());
+  }
+
+  @Test
+  void capsResultsAtLimit() {
+    assertEquals(1, service.suggest("r", 1).size());
+    assertThrows(BadRequestException.class, () -> service.suggest("r", 0));
+    assertTrue(service.suggest("  ", null).isEmpty());
+  }
+
+  @Test
+  void reloadsFromRepositoryAfterBulkDelete() throws Exception {
+    when(taskRepository.forEachMatching(isNull(), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<TaskEntity> action = invocation.getArgument(1);
+              action.accept(TaskEntity.builder().id(9L).title("Renew licence").build());
+              return 1L;
+            });
+
+    service.onTasksBulkChanged(
+        new TasksBulkChangedEvent(TasksBulkChangedEvent.Operation.DELETED, 3));
+    awaitRebuilds();
+
+    assertTrue(ids("rep").isEmpty());
+    assertEquals(List.of(9L), ids("lic"));
+  }
+
+  @Test
+  void keepsEditsMadeWhileReloading() throws Exception {
+    when(taskRepository.forEachMatching(isNull(), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<TaskEntity> action = invocation.getArgument(1);
+              action.accept(TaskEntity.builder().id(9L).title("Renew licence").build());
+              // Committed after the load read task 9, so the loaded title is already stale.
+              service.onTaskChanged(
+                  TaskChangedEvent.updated(
+                      TaskResponse.builder().id(9L).title("Renew licence").build(),
+                      TaskResponse.builder().id(9L).title("Renew passport").build()));
+              service.onTaskChanged(created(10L, "Passport photos"));
+              return 1L;
+            });
+
+    service.reload();
+    awaitRebuilds();
+
+    assertTrue(ids("lic").isEmpty());
+    assertEquals(List.of(9L, 10L), ids("pass"));
+    assertTrue(ids("rep").isEmpty());
+  }
+
+  @Test
+  void foldsEditsIntoTheIndexWithoutReadingTheTable() throws Exception {
+    for (long id = 100; id < 100 + TaskConstants.SUGGEST_MAX_EDITS; id++) {
+      service.onTaskChanged(created(id, "Filler " + id));
+    }
+    awaitRebuilds();
+
+    assertEquals(List.of(1L, 2L), ids("rep"));
+    assertEquals(List.of(3L), ids("rota"));
+    assertEquals(100L, ids("filler 100").getFirst());
+    verify(taskRepository, never()).forEachMatching(any(), any());
+  }
+}
@@ -30,6 +30,14 @@ describe('api/tasks searchTasks', () => {
     await tasksApi.searchTasks({ dueDate: '2025-09-21' })
   })
 
+  it('passes named due ranges for the server to resolve', async () => {
+    mockGetOnce(async (url, { params }) => {
+      expect(params).toEqual({ status: 'NEW', dueRange: 'overdue' })
+      return { data: [] }
+    })
+    await tasksApi.searchTasks({ status: 'NEW', dueRange: 'overdue' })
+  })
+
   it('falls back to client filtering when server fails', async () => {
     // First call (server) fails
     mockGetOnce(async () => { throw new Error('boom') })
@@ -108,14 +108,17 @@ export async function listStatuses() {
 // Search tasks using backend endpoint when possible; fallback to in-memory filter.
 // Backend: GET /tasks/search?title=&status=&dueDate=YYYY-MM-DD (all params optional)
 export async function searchTasks(filters = {}) {
-  const { title = '', dueDate = '', status = '' } = filters
-  const hasFilters = !!(title || dueDate || status)
-  // Try server search first when any filter supplied (or even none, acts like list)
+  const { title = '', dueDate = '', status = '', dueRange = '', dueFrom = '', dueTo = '' } = filters
+  // Try server search first when any filter supplied (or even none, acts like list).
+  // Relative ranges (today, this_week, overdue) are resolved by the server in its time zone.
   try {
     const params = {}
     if (title) params.title = title
     if (status) params.status = status
     if (dueDate) params.dueDate = dueDate
+    if (dueRange) params.dueRange = dueRange
+    if (dueFrom) params.dueFrom = dueFrom
+    if (dueTo) params.dueTo = dueTo
     const { data } = await client.get('/tasks/search', { params })
     return data
   } catch (err) {
@@ -129,8 +132,33 @@ export async function searchTasks(filters = {}) {
         const d = (t.dueDate || '').slice(0,10)
         if (d !== dueDate) return false
       }
+      if (dueRange && !inDueRange(t, dueRange)) return false
       return true
     })
   }
 }
 
+// Browser-side approximation of the server's named ranges, used only by the fallback above.
+function inDueRange(task, dueRange) {
+  if (!task.dueDate) return false
+  const due = new Date(task.dueDate)
+  const now = new Date()
+  const startOfToday = new Date(now.getFullYear(), now.getMonth(), now.getDate())
+  if (dueRange === 'today') {
+    const tomorrow = new Date(startOfToday)
+    tomorrow.setDate(tomorrow.getDate() + 1)
+    return due >= startOfToday && due < tomorrow
+  }
+  if (dueRange === 'this_week') {
+    const monday = new Date(startOfToday)
+    monday.setDate(monday.getDate() - ((monday.getDay() + 6) % 7))
+    const nextMonday = new Date(monday)
+    nextMonday.setDate(nextMonday.getDate() + 7)
+    return due >= monday && due < nextMonday
+  }
+  if (dueRange === 'overdue') {
+    return due < now && task.status !== 'COMPLETED' && task.status !== 'CANCELLED'
+  }
+  return true
+}
+
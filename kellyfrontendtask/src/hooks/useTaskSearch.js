@@ -1,6 +1,5 @@
 import { useState, useCallback } from 'react'
 import { searchTasks as apiSearchTasks } from '../api/tasks'
-import { getDueDate } from '../models/task'
 
 /**
  * Custom hook for managing task search with filters and results
@@ -43,31 +42,6 @@ export function useTaskSearch() {
     setMessage('')
   }, [])
 
-  const applyDateRangeFilter = useCallback((data) => {
-    if (filters.dueDateRange === 'today') {
-      const today = new Date().toISOString().split('T')[0]
-      return data.filter(task => {
-        const taskDate = getDueDate(task)
-        return taskDate && taskDate.toISOString().split('T')[0] === today
-      })
-    } else if (filters.dueDateRange === 'this_week') {
-      const now = new Date()
-      const nextWeek = new Date(now)
-      nextWeek.setDate(now.getDate() + 7)
-      return data.filter(task => {
-        const taskDate = getDueDate(task)
-        return taskDate && taskDate >= now && taskDate <= nextWeek
-      })
-    } else if (filters.dueDateRange === 'overdue') {
-      const now = new Date()
-      return data.filter(task => {
-        const taskDate = getDueDate(task)
-        return taskDate && taskDate < now && task.status !== 'COMPLETED'
-      })
-    }
-    return data
-  }, [filters.dueDateRange])
-
   const search = useCallback(async () => {
     setLoading(true)
     setError(null)
@@ -79,15 +53,14 @@ export function useTaskSearch() {
         status: filters.status
       }
       
-      // Handle specific date filtering
+      // Handle date filtering; named ranges are resolved server-side
       if (filters.dueDateRange === 'specific' && filters.dueDate) {
         searchFilters.dueDate = filters.dueDate
+      } else if (filters.dueDateRange !== 'any' && filters.dueDateRange !== 'specific') {
+        searchFilters.dueRange = filters.dueDateRange
       }
       
-      let data = await apiSearchTasks(searchFilters)
-      
-      // Apply client-side filtering for special date ranges
-      data = applyDateRangeFilter(data)
+      const data = await apiSearchTasks(searchFilters)
       
       setResults(data)
       setSearched(true)
@@ -101,7 +74,7 @@ export function useTaskSearch() {
     } finally {
       setLoading(false)
     }
-  }, [filters, applyDateRangeFilter])
+  }, [filters])
 
   const toggleSort = useCallback((field) => {
     setSort(prev => 
@@ -27,22 +27,6 @@ export default function SearchTasks() {
     }
   }
 
-  function getDateRangeValue() {
-    const now = new Date()
-    switch (filters.dueDateRange) {
-      case 'today':
-        return now.toISOString().split('T')[0]
-      case 'this_week':
-        const nextWeek = new Date(now)
-        nextWeek.setDate(now.getDate() + 7)
-        return nextWeek.toISOString().split('T')[0]
-      case 'overdue':
-        return 'overdue'
-      default:
-        return filters.dueDate
-    }
-  }
-
   async function handleSearch(e) {
     e.preventDefault()
     setLoading(true)
@@ -55,35 +39,14 @@ export default function SearchTasks() {
         status: filters.status
       }
       
-      // Handle date filtering
+      // Handle date filtering; named ranges are resolved server-side
       if (filters.dueDateRange === 'specific' && filters.dueDate) {
         searchFilters.dueDate = filters.dueDate
+      } else if (filters.dueDateRange !== 'any' && filters.dueDateRange !== 'specific') {
+        searchFilters.dueRange = filters.dueDateRange
       }
       
-      let data = await searchTasks(searchFilters)
-      
-      // Apply client-side filtering for special date ranges
-      if (filters.dueDateRange === 'today') {
-        const today = new Date().toISOString().split('T')[0]
-        data = data.filter(task => {
-          const taskDate = getDueDate(task)
-          return taskDate && taskDate.toISOString().split('T')[0] === today
-        })
-      } else if (filters.dueDateRange === 'this_week') {
-        const now = new Date()
-        const nextWeek = new Date(now)
-        nextWeek.setDate(now.getDate() + 7)
-        data = data.filter(task => {
-          const taskDate = getDueDate(task)
-          return taskDate && taskDate >= now && taskDate <= nextWeek
-        })
-      } else if (filters.dueDateRange === 'overdue') {
-        const now = new Date()
-        data = data.filter(task => {
-          const taskDate = getDueDate(task)
-          return taskDate && taskDate < now && task.status !== 'COMPLETED'
-        })
-      }
+      const data = await searchTasks(searchFilters)
       
       setResults(data)
       setSelected(null)